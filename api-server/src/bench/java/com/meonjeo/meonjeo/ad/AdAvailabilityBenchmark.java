@@ -0,0 +1,136 @@
+package com.meonjeo.meonjeo.ad;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 광고 가용성 달력 조회: 날짜×슬롯 반복 조회와 비트맵 엔진의 평균 소요(ms), 호출당 SQL 수, 결과 일치 여부 비교.
+ * 임시 CATEGORY_TOP 카테고리와 실제 MAIN_ROLLING 슬롯에서 각각 측정
+ *   ./gradlew bench -Dspring.profiles.active=dev,ad-bench
+ */
+@Slf4j
+@Configuration
+@Profile("ad-bench & !prod")
+@RequiredArgsConstructor
+public class AdAvailabilityBenchmark {
+
+    private final AdService adService;
+    private final AdAvailabilityEngine engine;
+    private final AdSlotRepository slotRepo;
+    private final AdBookingRepository bookingRepo;
+    private final JdbcTemplate jdbc;
+    private final EntityManagerFactory emf;
+
+    @Value("${bench.ad.days:90}")
+    private int days;
+    @Value("${bench.ad.bookings:40}")
+    private int bookings;
+    @Value("${bench.ad.iterations:20}")
+    private int iterations;
+
+    @Bean
+    ApplicationRunner runAdAvailabilityBenchmark() {
+        return args -> {
+            LocalDate from = LocalDate.now();
+            LocalDate to = from.plusDays(days - 1);
+            Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+            stats.setStatisticsEnabled(true);
+
+            String category = "bench-" + Long.toString(System.currentTimeMillis(), 36);
+            adService.inventory(AdSlotType.CATEGORY_TOP, category, from, from); // 슬롯 자동 생성
+            List<AdSlot> benchSlots = slotRepo.findByTypeAndCategoryOrderByPositionAsc(AdSlotType.CATEGORY_TOP, category);
+            try {
+                seed(benchSlots, from);
+                compare("CATEGORY_TOP/" + category, benchSlots, from, to, stats);
+                compare("MAIN_ROLLING", slotRepo.findByTypeOrderByPositionAsc(AdSlotType.MAIN_ROLLING), from, to, stats);
+            } finally {
+                List<Long> ids = benchSlots.stream().map(AdSlot::getId).toList();
+                if (!ids.isEmpty()) {
+                    String in = String.join(", ", Collections.nCopies(ids.size(), "?"));
+                    jdbc.update("delete from ad_bookings where slot_id in (" + in + ")", ids.toArray());
+                    jdbc.update("delete from ad_slots where id in (" + in + ")", ids.toArray());
+                }
+            }
+        };
+    }
+
+    private void compare(String label, List<AdSlot> slots, LocalDate from, LocalDate to, Statistics stats) {
+        if (slots.isEmpty()) {
+            log.info("[ad-bench] {} no slots, skip", label);
+            return;
+        }
+        Set<LocalDate> legacy = measure(label, "legacy-calendar", stats, () -> legacyDisabled(slots, from, to));
+        Set<LocalDate> bitmap = measure(label, "bitmap-calendar", stats, () -> engine.load(slots, from, to).disabledDates());
+        List<Boolean> legacyInv = measure(label, "legacy-inventory", stats, () -> legacyInventory(slots, from, to));
+        List<Boolean> bitmapInv = measure(label, "bitmap-inventory", stats, () -> {
+            AdAvailabilityCalendar cal = engine.load(slots, from, to);
+            List<Boolean> out = new ArrayList<>();
+            for (int i = 0; i < slots.size(); i++) out.add(cal.isFree(i, from, to));
+            return out;
+        });
+        log.info("[ad-bench] {} slots={} days={} disabledDates={} match(calendar={}, inventory={})",
+                label, slots.size(), days, bitmap.size(), legacy.equals(bitmap), legacyInv.equals(bitmapInv));
+    }
+
+    private <T> T measure(String label, String name, Statistics stats, Supplier<T> run) {
+        T result = run.get(); // 워밍업
+        stats.clear();
+        long t0 = System.nanoTime();
+        for (int i = 0; i < iterations; i++) result = run.get();
+        double avgMs = (System.nanoTime() - t0) / 1_000_000.0 / iterations;
+        log.info("[ad-bench] {} {} avgMs={} statementsPerCall={}", label, name,
+                String.format("%.2f", avgMs), stats.getPrepareStatementCount() / iterations);
+        return result;
+    }
+
+    /** 기존 AdService.disabledDatesForRange 방식(날짜마다 슬롯별 조회) */
+    private Set<LocalDate> legacyDisabled(List<AdSlot> slots, LocalDate from, LocalDate to) {
+        Set<LocalDate> disabled = new HashSet<>();
+        for (var d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            boolean anyAvailable = false;
+            for (AdSlot s : slots) {
+                if (bookingRepo.findOverlapped(s.getId(), d, d).isEmpty()) { anyAvailable = true; break; }
+            }
+            if (!anyAvailable) disabled.add(d);
+        }
+        return disabled;
+    }
+
+    /** 기존 AdService.inventory 방식(슬롯마다 조회) */
+    private List<Boolean> legacyInventory(List<AdSlot> slots, LocalDate from, LocalDate to) {
+        List<Boolean> out = new ArrayList<>();
+        for (AdSlot s : slots) out.add(bookingRepo.findOverlapped(s.getId(), from, to).isEmpty());
+        return out;
+    }
+
+    private void seed(List<AdSlot> slots, LocalDate from) {
+        Random rnd = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < bookings; i++) {
+            AdSlot slot = slots.get(rnd.nextInt(slots.size()));
+            LocalDate start = from.plusDays(rnd.nextInt(days));
+            LocalDate end = start.plusDays(rnd.nextInt(14));
+            rows.add(new Object[]{ slot.getId(), 0L, Date.valueOf(start), Date.valueOf(end), now, now });
+        }
+        jdbc.batchUpdate("""
+                insert into ad_bookings (slot_id, seller_id, start_date, end_date, price, status, created_at, updated_at)
+                values (?, ?, ?, ?, 0, 'RESERVED_PAID', ?, ?)
+                """, rows);
+    }
+}
@@ -0,0 +1,156 @@
+package com.meonjeo.meonjeo.order;
+
+import com.meonjeo.meonjeo.order.dto.CheckoutItem;
+import com.meonjeo.meonjeo.order.dto.CheckoutRequest;
+import com.meonjeo.meonjeo.product.VariantKey;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 장바구니 크기(cart-sizes)별 checkout 지연(avg·p50·p99 ms)과 호출당 Hibernate 문장 수.
+ * 매 호출은 롤백 전용 트랜잭션이라 주문/재고 선점은 남지 않음
+ *   ./gradlew bench -Dspring.profiles.active=dev,checkout-bench
+ */
+@Slf4j
+@Configuration
+@Profile("checkout-bench & !prod")
+@RequiredArgsConstructor
+public class CheckoutBenchmark {
+
+    private static final String OPTION_LABEL = "색깔";
+    private static final String OPTION_VALUE = "bench";
+
+    private final OrderService orderService;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final EntityManagerFactory emf;
+
+    @Value("${bench.checkout.cart-sizes:1,5,10,20,50}")
+    private int[] cartSizes;
+    @Value("${bench.checkout.iterations:30}")
+    private int iterations;
+
+    /** AuthSupport.currentUserId 가 getId() 로 읽는 최소 principal */
+    public static final class BenchPrincipal {
+        private final Long id;
+        BenchPrincipal(Long id) { this.id = id; }
+        public Long getId() { return id; }
+    }
+
+    @Bean
+    ApplicationRunner runCheckoutBenchmark() {
+        return args -> {
+            String brand = "BENCH-" + Long.toString(System.currentTimeMillis(), 36);
+            long userId = -System.currentTimeMillis(); // 실제 사용자와 겹치지 않는 음수 id
+            int products = Arrays.stream(cartSizes).max().orElse(1);
+            List<Long> productIds = new ArrayList<>();
+            Long addressId = null;
+            Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+            stats.setStatisticsEnabled(true);
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(new BenchPrincipal(userId), null, List.of()));
+            try {
+                productIds.addAll(seedProducts(brand, products));
+                addressId = seedAddress(userId);
+                for (int size : Arrays.stream(cartSizes).sorted().toArray()) {
+                    measure(size, request(addressId, productIds.subList(0, size)), stats);
+                }
+            } finally {
+                SecurityContextHolder.clearContext();
+                purge(productIds, addressId);
+            }
+        };
+    }
+
+    private void measure(int size, CheckoutRequest req, Statistics stats) {
+        checkoutRolledBack(req); // 워밍업
+        stats.clear();
+        long[] ns = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long t0 = System.nanoTime();
+            checkoutRolledBack(req);
+            ns[i] = System.nanoTime() - t0;
+        }
+        Arrays.sort(ns);
+        double avg = Arrays.stream(ns).average().orElse(0) / 1_000_000.0;
+        log.info("[checkout-bench] cartSize={} avgMs={} p50Ms={} p99Ms={} statementsPerCheckout={}",
+                size, String.format("%.2f", avg), ms(ns[ns.length / 2]),
+                ms(ns[Math.min(ns.length - 1, (int) (ns.length * 0.99))]),
+                stats.getPrepareStatementCount() / iterations);
+    }
+
+    private void checkoutRolledBack(CheckoutRequest req) {
+        tx.executeWithoutResult(st -> {
+            st.setRollbackOnly();
+            orderService.checkout(req);
+        });
+    }
+
+    private static CheckoutRequest request(Long addressId, List<Long> productIds) {
+        List<CheckoutItem> items = new ArrayList<>(productIds.size());
+        for (Long pid : productIds) items.add(new CheckoutItem(pid, 1, Map.of(OPTION_LABEL, OPTION_VALUE)));
+        return new CheckoutRequest(addressId, null, false, 0, items);
+    }
+
+    private List<Long> seedProducts(String brand, int n) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            rows.add(new Object[]{ 0L, "bench product " + i, brand, 10_000, 0, "bench", "/static/bench/" + i + ".png",
+                    1_000_000, 0, OPTION_LABEL });
+        }
+        jdbc.batchUpdate("""
+                insert into products (seller_id, name, brand, base_price, sale_price, category, thumbnail_url,
+                                      stock_total, feedback_point, option1_name)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+        List<Long> ids = jdbc.queryForList("select id from products where brand = ? order by id", Long.class, brand);
+
+        String key = VariantKey.of(OPTION_VALUE, null, null, null, null);
+        List<Object[]> variants = new ArrayList<>(ids.size());
+        for (Long id : ids) variants.add(new Object[]{ id, OPTION_VALUE, key, 1_000_000, now, now });
+        jdbc.batchUpdate("""
+                insert into product_variants (product_id, option1_value, variant_key, add_price, stock, created_at, updated_at)
+                values (?, ?, ?, 0, ?, ?, ?)
+                """, variants);
+        return ids;
+    }
+
+    private Long seedAddress(long userId) {
+        jdbc.update("""
+                insert into user_addresses (user_id, receiver, phone, addr1, zipcode, primary_address)
+                values (?, 'bench', '01000000000', 'bench', '00000', false)
+                """, userId);
+        return jdbc.queryForObject("select max(id) from user_addresses where user_id = ?", Long.class, userId);
+    }
+
+    private void purge(List<Long> productIds, Long addressId) {
+        if (!productIds.isEmpty()) {
+            String in = String.join(", ", Collections.nCopies(productIds.size(), "?"));
+            jdbc.update("delete from product_variants where product_id in (" + in + ")", productIds.toArray());
+            jdbc.update("delete from products where id in (" + in + ")", productIds.toArray());
+        }
+        if (addressId != null) jdbc.update("delete from user_addresses where id = ?", addressId);
+        log.info("[checkout-bench] removed products={} address={}", productIds.size(), addressId);
+    }
+
+    private static String ms(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,132 @@
+package com.meonjeo.meonjeo.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * 상품 수(scales, 1k → 1M)에 따른 공개 목록 지연: 키셋 페이지(pagePublic)의 첫/카테고리/중간 커서/가격대 페이지와
+ * 기존 전체 조회(listPublic, legacy-max 규모까지)의 avg·p50·p99(ms)
+ *   ./gradlew bench -Dspring.profiles.active=dev,catalog-bench
+ */
+@Slf4j
+@Configuration
+@Profile("catalog-bench & !prod")
+@RequiredArgsConstructor
+public class ProductCatalogBenchmark {
+
+    private static final int CHUNK = 5000;
+    private static final int CATEGORIES = 20;
+
+    private final ProductService productService;
+    private final JdbcTemplate jdbc;
+
+    @Value("${bench.catalog.scales:1000,10000,100000,1000000}")
+    private int[] scales;
+    @Value("${bench.catalog.iterations:50}")
+    private int iterations;
+    @Value("${bench.catalog.page-size:20}")
+    private int pageSize;
+    @Value("${bench.catalog.legacy-max:100000}")
+    private int legacyMax;
+    @Value("${bench.catalog.cleanup:true}")
+    private boolean cleanup;
+
+    @Bean
+    ApplicationRunner runProductCatalogBenchmark() {
+        return args -> {
+            String brand = "BENCH-" + Long.toString(System.currentTimeMillis(), 36);
+            Random rnd = new Random(42);
+            // 벤치 상품은 이 id 뒤에만 생김 → 조회/삭제를 PK 범위로
+            long floorId = jdbc.queryForObject("select coalesce(max(id), 0) from products", Long.class);
+            int seeded = 0;
+            try {
+                for (int scale : Arrays.stream(scales).sorted().toArray()) {
+                    seed(brand, seeded, scale, rnd);
+                    seeded = scale;
+                    measureScale(brand, floorId, scale);
+                }
+            } finally {
+                if (cleanup) log.info("[catalog-bench] removed products={}", purge(brand, floorId));
+            }
+        };
+    }
+
+    private void measureScale(String brand, long floorId, int scale) {
+        Long midId = jdbc.queryForObject("""
+                select id from products where id > ? and brand = ? order by id limit 1 offset ?
+                """, Long.class, floorId, brand, scale / 2);
+        String category = "bench-cat-" + (CATEGORIES / 2);
+
+        measure(scale, "page-first", () -> productService.pagePublic(null, pageSize, null, null, null).items().size());
+        measure(scale, "page-category", () -> productService.pagePublic(null, pageSize, category, null, null).items().size());
+        measure(scale, "page-mid-cursor", () -> productService.pagePublic(midId, pageSize, null, null, null).items().size());
+        measure(scale, "page-price-range", () -> productService.pagePublic(null, pageSize, null, 10_000, 20_000).items().size());
+        if (scale <= legacyMax) {
+            measure(scale, "legacy-list-all", () -> productService.listPublic().size());
+        } else {
+            log.info("[catalog-bench] scale={} legacy-list-all skipped (> legacy-max={})", scale, legacyMax);
+        }
+    }
+
+    private void measure(int scale, String name, Supplier<Integer> run) {
+        int rows = run.get(); // 워밍업
+        long[] ns = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long t0 = System.nanoTime();
+            rows = run.get();
+            ns[i] = System.nanoTime() - t0;
+        }
+        Arrays.sort(ns);
+        double avg = Arrays.stream(ns).average().orElse(0) / 1_000_000.0;
+        log.info("[catalog-bench] scale={} {} rows={} avgMs={} p50Ms={} p99Ms={}", scale, name, rows,
+                String.format("%.2f", avg), ms(ns[ns.length / 2]), ms(ns[Math.min(ns.length - 1, (int) (ns.length * 0.99))]));
+    }
+
+    /** [from, to) 번째 벤치 상품 추가 */
+    private void seed(String brand, int from, int to, Random rnd) {
+        long t0 = System.nanoTime();
+        Timestamp saleStart = Timestamp.valueOf(LocalDateTime.now().minusDays(1));
+        for (int start = from; start < to; start += CHUNK) {
+            List<Object[]> rows = new ArrayList<>(CHUNK);
+            for (int i = start; i < Math.min(to, start + CHUNK); i++) {
+                int base = 1_000 + rnd.nextInt(99_000);
+                int sale = rnd.nextInt(4) == 0 ? base * 8 / 10 : 0;
+                rows.add(new Object[]{ 0L, "bench product " + i, brand, base, sale,
+                        "bench-cat-" + (i % CATEGORIES), "/static/bench/" + i + ".png", 10, 0, saleStart });
+            }
+            jdbc.batchUpdate("""
+                    insert into products (seller_id, name, brand, base_price, sale_price, category, thumbnail_url,
+                                          stock_total, feedback_point, sale_start_at)
+                    values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                    """, rows);
+        }
+        log.info("[catalog-bench] seeded products {}..{} in {}ms", from, to, (System.nanoTime() - t0) / 1_000_000);
+    }
+
+    private int purge(String brand, long floorId) {
+        int total = 0, n;
+        do {
+            n = jdbc.update("delete from products where id > ? and brand = ? order by id limit 10000", floorId, brand);
+            total += n;
+        } while (n > 0);
+        return total;
+    }
+
+    private static String ms(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,63 @@
+package com.meonjeo.meonjeo.shipment.sim;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스윗트래커 API 모의 서버(tracking-sim 프로필, bench 소스셋 전용 — 운영 jar 에 포함되지 않음). 실제 클라이언트 경로(커넥션 풀/재시도/캐시)를 그대로 태우려면
+ * sweettracker.base-url=http://localhost:{port}/sim/sweettracker 로 지정
+ * - latency-ms ± latency-jitter-ms 지연
+ * - error-percent: 500 응답, timeout-percent: timeout-ms 이상 지연
+ */
+@Profile("tracking-sim & !prod")
+@RestController
+@RequestMapping("/sim/sweettracker/api/v1")
+@RequiredArgsConstructor
+public class SweetTrackerSimController {
+
+    private final SweetTrackerSimulator simulator;
+
+    @Value("${sweettracker.sim.latency-ms:80}")
+    private long latencyMs;
+    @Value("${sweettracker.sim.latency-jitter-ms:40}")
+    private long jitterMs;
+    @Value("${sweettracker.sim.error-percent:0}")
+    private double errorPercent;
+    @Value("${sweettracker.sim.timeout-percent:0}")
+    private double timeoutPercent;
+    @Value("${sweettracker.timeout-ms:3000}")
+    private long clientTimeoutMs;
+
+    @GetMapping("/trackingInfo")
+    public ResponseEntity<Map<String, Object>> trackingInfo(@RequestParam("t_code") String code,
+                                                            @RequestParam("t_invoice") String invoice) throws InterruptedException {
+        simulator.countCall();
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        double roll = r.nextDouble(100);
+        if (roll < timeoutPercent) {
+            Thread.sleep(clientTimeoutMs + 1000);
+        } else {
+            Thread.sleep(Math.max(0, latencyMs + (jitterMs > 0 ? r.nextLong(-jitterMs, jitterMs + 1) : 0)));
+        }
+        if (roll >= timeoutPercent && roll < timeoutPercent + errorPercent) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("status", false, "code", "500", "msg", "SIMULATED_ERROR"));
+        }
+        return ResponseEntity.ok(simulator.trackingInfo(code, invoice));
+    }
+
+    @GetMapping("/companylist")
+    public Map<String, Object> companyList() {
+        return simulator.companyList();
+    }
+}
@@ -0,0 +1,30 @@
+package com.meonjeo.meonjeo.shipment.sim;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+
+/** 모의 서버 경로만 공개하는 별도 필터 체인(tracking-sim 프로필일 때만 등록, 기본 체인보다 먼저 매칭) */
+@Configuration
+@Profile("tracking-sim & !prod")
+public class SweetTrackerSimSecurityConfig {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    SecurityFilterChain sweetTrackerSimFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/sim/sweettracker/**")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(HttpMethod.GET, "/sim/sweettracker/**").permitAll()
+                        .anyRequest().denyAll());
+        return http.build();
+    }
+}
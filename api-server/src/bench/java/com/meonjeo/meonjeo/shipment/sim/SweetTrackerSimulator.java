@@ -0,0 +1,98 @@
+package com.meonjeo.meonjeo.shipment.sim;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 스윗트래커 trackingInfo 응답 생성기(부하 테스트용, tracking-sim 프로필에서만)
+ * - 운송장별 타임라인은 (택배사, 운송장) 해시로 결정 → 같은 운송장은 항상 같은 진행
+ * - 가상 시각 = 기동 시각 + 경과 실시간 × speed. 운송장 접수 시각은 기동 전 backlog-hours 안에 분포
+ * - stuck-percent 만큼은 배송중(3)에서 멈춤(정체 출고 재현)
+ */
+@Component
+@Profile("tracking-sim & !prod")
+public class SweetTrackerSimulator {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    // 단계별 kind(TrackingService.mapKind 와 맞춤)와 다음 단계까지 최소/최대 시간(분)
+    private static final String[] KIND = { null, "상품접수", "집화완료", "간선상차", "간선하차", "배달출발", "배달완료" };
+    private static final String[] WHERE = { null, "판매자", "집화점", "허브터미널", "배송지점", "배송지점", "고객" };
+    private static final int[][] STAGE_MINUTES = { null, {60, 720}, {60, 360}, {240, 1200}, {120, 600}, {60, 360} };
+
+    @Value("${sweettracker.sim.speed:60}")
+    private double speed;
+    @Value("${sweettracker.sim.backlog-hours:72}")
+    private int backlogHours;
+    @Value("${sweettracker.sim.stuck-percent:2}")
+    private int stuckPercent;
+
+    private final long startedAtMillis = System.currentTimeMillis();
+    private final LongAdder calls = new LongAdder();
+
+    /** 현재 가상 시각 기준 응답 본문(스윗트래커 trackingInfo 형식) */
+    public Map<String, Object> trackingInfo(String code, String invoice) {
+        Random rnd = new Random(Objects.hash(code, invoice));
+        long now = virtualNow();
+        long at = startedAtMillis - (long) (rnd.nextDouble() * backlogHours * 3_600_000L);
+        boolean stuck = rnd.nextInt(100) < stuckPercent;
+
+        List<Map<String, Object>> details = new ArrayList<>();
+        int level = 0;
+        for (int lv = 1; lv <= 6 && at <= now; lv++) {
+            details.add(detail(lv, at));
+            level = lv;
+            if (lv == 6 || (stuck && lv == 3)) break;
+            int[] range = STAGE_MINUTES[lv];
+            at += (range[0] + rnd.nextInt(range[1] - range[0] + 1)) * 60_000L;
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("invoiceNo", invoice);
+        body.put("itemName", "SIM");
+        body.put("level", level);
+        body.put("complete", level == 6);
+        body.put("completeYN", level == 6 ? "Y" : "N");
+        body.put("trackingDetails", details);
+        return body;
+    }
+
+    public Map<String, Object> companyList() {
+        return Map.of("Company", List.of(
+                Map.of("Code", "04", "Name", "CJ대한통운", "International", "false"),
+                Map.of("Code", "05", "Name", "한진택배", "International", "false"),
+                Map.of("Code", "08", "Name", "롯데택배", "International", "false")));
+    }
+
+    /** 모의 서버가 받은 요청 수(오류/지연 주입분 포함) */
+    void countCall() {
+        calls.increment();
+    }
+
+    public long calls() {
+        return calls.sum();
+    }
+
+    private long virtualNow() {
+        return startedAtMillis + (long) ((System.currentTimeMillis() - startedAtMillis) * speed);
+    }
+
+    private static Map<String, Object> detail(int level, long epochMillis) {
+        Map<String, Object> d = new LinkedHashMap<>();
+        d.put("time", epochMillis);
+        d.put("timeString", TIME.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE)));
+        d.put("kind", KIND[level]);
+        d.put("where", WHERE[level]);
+        d.put("level", level);
+        return d;
+    }
+}
@@ -0,0 +1,124 @@
+package com.meonjeo.meonjeo.shipment.sim;
+
+import com.meonjeo.meonjeo.shipment.ShipmentSyncService;
+import com.meonjeo.meonjeo.shipment.dto.TrackingSyncStatsResponse;
+import com.meonjeo.meonjeo.shipment.dto.TrackingTarget;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 모의 스윗트래커 대상 배송 추적 동기화: 출고 N건을 rounds 회 동기화한 회차별 처리량, 외부 호출 수, DB 문장 수, 조회 p50·p99.
+ * 2회차부터는 조회 캐시 효과가 포함됨
+ *   ./gradlew bench -Dspring.profiles.active=dev,tracking-sim,tracking-bench \
+ *       --args='--sweettracker.base-url=http://localhost:8080/sim/sweettracker'
+ */
+@Slf4j
+@Configuration
+@Profile("tracking-bench & !prod")
+@RequiredArgsConstructor
+public class TrackingSyncBenchmark {
+
+    private static final String[] COURIERS = { "04", "05", "08" };
+    private static final int CHUNK = 1000;
+
+    private final ShipmentSyncService syncService;
+    private final SweetTrackerSimulator simulator;
+    private final JdbcTemplate jdbc;
+    private final EntityManagerFactory emf;
+
+    @Value("${bench.tracking.shipments:10000}")
+    private int shipments;
+    @Value("${bench.tracking.rounds:2}")
+    private int rounds;
+    @Value("${bench.tracking.cleanup:true}")
+    private boolean cleanup;
+
+    @Bean
+    ApplicationRunner runTrackingSyncBenchmark() {
+        return args -> {
+            String prefix = "SIM" + Long.toString(System.currentTimeMillis(), 36) + "-";
+            try {
+                seed(prefix);
+                List<TrackingTarget> targets = jdbc.query(
+                        "select id, courier_code, tracking_no from shipments where tracking_no like ? order by id",
+                        (rs, i) -> new TrackingTarget(rs.getLong(1), rs.getString(2), rs.getString(3)),
+                        prefix + "%");
+                log.info("[tracking-bench] seeded shipments={} prefix={}", targets.size(), prefix);
+
+                Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+                stats.setStatisticsEnabled(true);
+                for (int round = 1; round <= rounds; round++) {
+                    stats.clear();
+                    long callsBefore = simulator.calls();
+                    TrackingSyncStatsResponse r = runRound(targets);
+                    park(prefix);
+                    long calls = simulator.calls() - callsBefore;
+                    long statements = stats.getPrepareStatementCount();
+                    log.info("[tracking-bench] round={} shipments={} wallMs={} perSec={} ok={} failed={} "
+                                    + "upstreamCalls={} dbStatements={} ({} per shipment) fetchP50Ms={} fetchP99Ms={}",
+                            round, r.targets(), r.elapsedMs(), String.format("%.1f", r.shipmentsPerSec()),
+                            r.succeeded(), r.failed(), calls, statements,
+                            String.format("%.2f", statements / (double) Math.max(1, r.targets())),
+                            r.p50FetchMs(), r.p99FetchMs());
+                }
+            } finally {
+                if (cleanup) log.info("[tracking-bench] removed shipments={}", purge(prefix));
+            }
+        };
+    }
+
+    /** 회차 동기화가 정한 다음 추적 시각을 다시 하루 뒤로(긴 회차 사이 정기 잡이 끼어들지 않게) */
+    private void park(String prefix) {
+        jdbc.update("update shipments set next_poll_at = ? where tracking_no like ?",
+                Timestamp.valueOf(LocalDateTime.now().plusDays(1)), prefix + "%");
+    }
+
+    /** 정기 잡과 겹치면 엔진이 건너뛰므로 이번 회차 결과가 나올 때까지 재시도 */
+    private TrackingSyncStatsResponse runRound(List<TrackingTarget> targets) throws InterruptedException {
+        while (true) {
+            LocalDateTime start = LocalDateTime.now();
+            TrackingSyncStatsResponse r = syncService.syncTargets(targets);
+            if (r != null && !r.startedAt().isBefore(start)) return r;
+            Thread.sleep(1000);
+        }
+    }
+
+    /** 추적 예정 시각은 하루 뒤로 → 정기 잡(syncDue)이 벤치 출고를 가져가 회차 측정과 겹치지 않음 */
+    private void seed(String prefix) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp parked = Timestamp.valueOf(LocalDateTime.now().plusDays(1));
+        for (int from = 0; from < shipments; from += CHUNK) {
+            List<Object[]> rows = new ArrayList<>(CHUNK);
+            for (int i = from; i < Math.min(shipments, from + CHUNK); i++) {
+                rows.add(new Object[]{ COURIERS[i % COURIERS.length], prefix + i, now, parked });
+            }
+            jdbc.batchUpdate("""
+                    insert into shipments (courier_code, tracking_no, status, type, last_synced_at, next_poll_at)
+                    values (?, ?, 'READY', 'ORDER', ?, ?)
+                    """, rows);
+        }
+    }
+
+    private int purge(String prefix) {
+        int total = 0, n;
+        do {
+            n = jdbc.update("delete from shipments where tracking_no like ? limit 5000", prefix + "%");
+            total += n;
+        } while (n > 0);
+        return total;
+    }
+}
@@ -0,0 +1,66 @@
+package com.meonjeo.meonjeo.ad;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 기간 [from, to] 의 슬롯별 예약일 비트맵(비트 i = from + i일 예약됨)
+ * - 날짜 비활성: 모든 슬롯 비트맵 AND
+ * - 기간 내 빈 슬롯: 해당 구간에 켜진 비트가 없는 슬롯(nextSetBit)
+ */
+public final class AdAvailabilityCalendar {
+
+    private final LocalDate from;
+    private final int days;
+    private final List<AdSlot> slots;
+    private final BitSet[] booked;
+
+    AdAvailabilityCalendar(LocalDate from, LocalDate to, List<AdSlot> slots, List<AdBookingSpan> spans) {
+        this.from = from;
+        this.days = to.isBefore(from) ? 0 : (int) ChronoUnit.DAYS.between(from, to) + 1;
+        this.slots = List.copyOf(slots);
+        this.booked = new BitSet[slots.size()];
+
+        Map<Long, Integer> indexBySlot = new HashMap<>();
+        for (int i = 0; i < slots.size(); i++) {
+            indexBySlot.put(slots.get(i).getId(), i);
+            booked[i] = new BitSet(days);
+        }
+        for (AdBookingSpan s : spans) {
+            Integer idx = indexBySlot.get(s.slotId());
+            if (idx == null) continue;
+            int a = Math.max(0, offset(s.startDate()));
+            int b = Math.min(days - 1, offset(s.endDate()));
+            if (a <= b) booked[idx].set(a, b + 1);
+        }
+    }
+
+    /** 모든 슬롯이 예약된 날짜(슬롯이 없으면 전체) */
+    public Set<LocalDate> disabledDates() {
+        BitSet all = new BitSet(days);
+        all.set(0, days);
+        for (BitSet b : booked) all.and(b);
+        Set<LocalDate> out = new HashSet<>();
+        for (int i = all.nextSetBit(0); i >= 0; i = all.nextSetBit(i + 1)) out.add(from.plusDays(i));
+        return out;
+    }
+
+    /** start~end 전체가 비어 있는지(달력 범위 밖 날짜는 판단 대상 아님) */
+    public boolean isFree(int slotIndex, LocalDate start, LocalDate end) {
+        int a = Math.max(0, offset(start));
+        int b = Math.min(days - 1, offset(end));
+        if (a > b) return true;
+        int next = booked[slotIndex].nextSetBit(a);
+        return next < 0 || next > b;
+    }
+
+    public List<AdSlot> slots() {
+        return slots;
+    }
+
+    private int offset(LocalDate d) {
+        long o = ChronoUnit.DAYS.between(from, d);
+        return (int) Math.max(Integer.MIN_VALUE / 2, Math.min(Integer.MAX_VALUE / 2, o));
+    }
+}
@@ -0,0 +1,22 @@
+package com.meonjeo.meonjeo.ad;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/** 슬롯 목록 + 기간의 겹치는 예약을 쿼리 1회로 읽어 비트맵 달력 생성 */
+@Component
+@RequiredArgsConstructor
+public class AdAvailabilityEngine {
+
+    private final AdBookingRepository bookingRepo;
+
+    public AdAvailabilityCalendar load(List<AdSlot> slots, LocalDate from, LocalDate to) {
+        List<AdBookingSpan> spans = (slots.isEmpty() || to.isBefore(from))
+                ? List.of()
+                : bookingRepo.findOverlappedSpans(slots.stream().map(AdSlot::getId).toList(), from, to);
+        return new AdAvailabilityCalendar(from, to, slots, spans);
+    }
+}
@@ -0,0 +1,76 @@
+package com.meonjeo.meonjeo.ad;
+
+import com.meonjeo.meonjeo.ad.dto.AdBeaconRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 비콘 남용 방지(Redis, 전 노드 공통)
+ * - ad:beacon:rate:{ip}:{분}            : IP당 분당 비콘 요청 수(ad.beacon.max-per-minute 초과 시 429)
+ * - ad:beacon:seen:{client}:{종류}:{분}  : 이번 분에 이미 집계한 예약 id 집합 → (클라이언트, 예약, 분)당 1회만 집계
+ * 요청 수 확인과 중복 제거는 Lua 한 번으로 처리. Redis 장애 시에는 집계하지 않음(부풀려진 노출보다 누락이 낫다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdBeaconGuard {
+
+    private final StringRedisTemplate redis;
+
+    @Value("${ad.beacon.max-per-minute:120}")
+    private int maxPerMinute;
+
+    // KEYS: rateKey, seenKey / ARGV: limit, bookingId...
+    // 반환: 제한 초과면 {-1}, 아니면 {0, 새로 본 id...}
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> ACCEPT = new DefaultRedisScript<>("""
+            local n = redis.call('INCR', KEYS[1])
+            if n == 1 then redis.call('EXPIRE', KEYS[1], 120) end
+            if n > tonumber(ARGV[1]) then return {-1} end
+            local out = {0}
+            for i = 2, #ARGV do
+              if redis.call('SADD', KEYS[2], ARGV[i]) == 1 then out[#out + 1] = ARGV[i] end
+            end
+            redis.call('EXPIRE', KEYS[2], 120)
+            return out
+            """, List.class);
+
+    /**
+     * 집계할 예약 id(이번 분에 이 클라이언트로 처음 들어온 것만)
+     * @param ip     요청 IP(요청 수 제한 단위)
+     * @param client 중복 제거 단위(로그인 사용자면 사용자, 아니면 IP)
+     */
+    public List<Long> accept(String ip, String client, AdBeaconRequest.Kind kind, Collection<Long> bookingIds) {
+        if (bookingIds.isEmpty()) return List.of();
+        long minute = System.currentTimeMillis() / 60_000;
+        List<String> args = new ArrayList<>(bookingIds.size() + 1);
+        args.add(String.valueOf(maxPerMinute));
+        for (Long id : bookingIds) args.add(String.valueOf(id));
+
+        List<?> r;
+        try {
+            r = redis.execute(ACCEPT, List.of("ad:beacon:rate:" + ip + ":" + minute,
+                    "ad:beacon:seen:" + client + ":" + kind + ":" + minute), args.toArray());
+        } catch (Exception e) {
+            log.warn("[ad-beacon] guard unavailable, beacon dropped: {}", e.getMessage());
+            return List.of();
+        }
+        if (r == null || r.isEmpty()) return List.of();
+        if (((Number) r.get(0)).longValue() < 0) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "AD_BEACON_RATE_LIMITED");
+        }
+        List<Long> out = new ArrayList<>(r.size() - 1);
+        for (int i = 1; i < r.size(); i++) out.add(Long.valueOf(String.valueOf(r.get(i))));
+        return out;
+    }
+}
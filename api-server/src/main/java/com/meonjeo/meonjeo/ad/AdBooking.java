@@ -13,7 +13,10 @@
  * 상태 흐름: RESERVED_UNPAID → ACTIVE → COMPLETED (또는 CANCELLED)
  */
 @Entity
-@Table(name = "ad_bookings")
+@Table(name = "ad_bookings", indexes = {
+        @Index(name = "idx_ad_booking_slot_dates", columnList = "slot_id, start_date, end_date"),
+        @Index(name = "idx_ad_booking_status_dates", columnList = "status, start_date, end_date")
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class AdBooking {
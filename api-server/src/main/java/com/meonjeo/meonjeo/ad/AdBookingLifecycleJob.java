@@ -0,0 +1,103 @@
+package com.meonjeo.meonjeo.ad;
+
+import com.meonjeo.meonjeo.ad.AdLifecycleJdbcRepository.DueBooking;
+import com.meonjeo.meonjeo.common.RedisLeaseLock;
+import com.meonjeo.meonjeo.outbox.OutboxPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 광고 예약 라이프사이클: ACTIVE → COMPLETED(종료일 경과), RESERVED_PAID → ACTIVE(시작일 도달)
+ * - 클러스터 잠금(RedisLeaseLock)으로 한 노드만 실행
+ * - 전이마다 id 키셋 청크(chunk-size) 트랜잭션: 잠금 조회 → 일괄 UPDATE → 전이 이벤트 아웃박스 기록 → 커밋 후 서빙 인덱스 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdBookingLifecycleJob {
+
+    private static final String LOCK = "ad-booking-lifecycle";
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    private final AdLifecycleJdbcRepository lifecycleJdbc;
+    private final AdServingIndex servingIndex;
+    private final OutboxPublisher outbox;
+    private final RedisLeaseLock lock;
+    private final TransactionTemplate tx;
+
+    @Value("${ad.lifecycle.chunk-size:500}")
+    private int chunkSize;
+
+    /** 매일 00:05 (서버 시간대 기준) — 완료 처리 후 활성화 */
+    @Scheduled(cron = "${ad.lifecycle.cron:0 5 0 * * *}")
+    public void run() {
+        var lease = lock.tryAcquire(LOCK, LEASE);
+        if (lease.isEmpty()) {
+            log.info("[ad-lifecycle] skipped (lock held by another node or unavailable)");
+            return;
+        }
+        try (var l = lease.get()) {
+            LocalDate today = LocalDate.now();
+            boolean completed = transitionAll(l, AdBookingStatus.ACTIVE, AdBookingStatus.COMPLETED, today);
+            if (!completed) return;
+            transitionAll(l, AdBookingStatus.RESERVED_PAID, AdBookingStatus.ACTIVE, today);
+
+            int stuck = lifecycleJdbc.countStuckPaid(today);
+            if (stuck > 0) log.warn("[ad-lifecycle] RESERVED_PAID not activated due to overlap: {}", stuck);
+        }
+    }
+
+    /** @return 끝까지 처리했으면 true(잠금을 잃으면 false) */
+    private boolean transitionAll(RedisLeaseLock.Lease l, AdBookingStatus from, AdBookingStatus to, LocalDate today) {
+        long t0 = System.nanoTime();
+        long lastId = 0;
+        int moved = 0, chunks = 0;
+        boolean finished = true;
+        while (true) {
+            if (chunks > 0 && !l.extend(LEASE)) {
+                log.warn("[ad-lifecycle] {}->{} lease lost after chunks={}, stop", from, to, chunks);
+                finished = false;
+                break;
+            }
+            long after = lastId;
+            Chunk c = tx.execute(st -> transitionChunk(after, from, to, today));
+            if (c == null || c.lastId() == null) break;
+            lastId = c.lastId();
+            moved += c.moved();
+            chunks++;
+        }
+        long ms = Duration.ofNanos(System.nanoTime() - t0).toMillis();
+        log.info("[ad-lifecycle] {}->{} day={} moved={} chunks={} elapsedMs={}", from, to, today, moved, chunks, ms);
+        return finished;
+    }
+
+    /** lastId = 이번 청크 마지막 id(null 이면 대상 없음) */
+    private record Chunk(Long lastId, int moved) {}
+
+    private Chunk transitionChunk(long afterId, AdBookingStatus from, AdBookingStatus to, LocalDate today) {
+        List<DueBooking> due = (to == AdBookingStatus.ACTIVE)
+                ? lifecycleJdbc.lockActivatable(afterId, today, chunkSize)
+                : lifecycleJdbc.lockExpired(afterId, today, chunkSize);
+        if (due.isEmpty()) return new Chunk(null, 0);
+
+        LocalDateTime now = LocalDateTime.now();
+        int n = lifecycleJdbc.transition(due.stream().map(DueBooking::id).toList(), from, to, now);
+
+        Map<Long, AdBookingTransitionedEvent> events = new LinkedHashMap<>();
+        for (DueBooking b : due) events.put(b.id(), new AdBookingTransitionedEvent(b.id(), b.slotId(), from, to, now));
+        outbox.publishAll("AD_BOOKING", AdBookingTransitionedEvent.TYPE, events);
+        servingIndex.invalidateAfterCommit();
+        return new Chunk(due.get(due.size() - 1).id(), n);
+    }
+}
@@ -5,6 +5,7 @@
 import org.springframework.data.repository.query.Param;
 import jakarta.persistence.LockModeType;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface AdBookingRepository extends JpaRepository<AdBooking, Long> {
@@ -32,6 +33,18 @@ List<AdBooking> findOverlappedForUpdate(@Param("slotId") Long slotId,
                                             @Param("startDate") LocalDate start,
                                             @Param("endDate") LocalDate end);
 
+    // 가용성 달력: 여러 슬롯의 겹치는 예약 기간을 한 번에
+    @Query("""
+           select new com.meonjeo.meonjeo.ad.AdBookingSpan(b.slot.id, b.startDate, b.endDate)
+           from AdBooking b
+           where b.slot.id in :slotIds
+             and b.status in ('RESERVED_UNPAID','RESERVED_PAID','ACTIVE')
+             and b.startDate <= :endDate and b.endDate >= :startDate
+           """)
+    List<AdBookingSpan> findOverlappedSpans(@Param("slotIds") Collection<Long> slotIds,
+                                            @Param("startDate") LocalDate start,
+                                            @Param("endDate") LocalDate end);
+
     Page<AdBooking> findBySellerIdOrderByIdDesc(Long sellerId, Pageable pageable);
     Page<AdBooking> findBySellerIdAndStatusOrderByIdDesc(Long sellerId, AdBookingStatus status, Pageable pageable);
     Page<AdBooking> findBySellerIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByIdDesc(
@@ -51,5 +64,15 @@ List<AdBooking> findActiveFor(
             @Param("category") String category,
             @Param("date") java.time.LocalDate date);
 
+    // 서빙 인덱스: 아직 끝나지 않은 ACTIVE 예약 전체(슬롯 포함)
+    @Query("""
+            select b from AdBooking b
+            join fetch b.slot s
+            where b.status = 'ACTIVE'
+              and b.endDate >= :date
+            order by s.position asc, b.id asc
+            """)
+    List<AdBooking> findActiveEndingOnOrAfter(@Param("date") LocalDate date);
+
     Page<AdBooking> findByStatus(AdBookingStatus status, Pageable pageable);
 }
@@ -0,0 +1,6 @@
+package com.meonjeo.meonjeo.ad;
+
+import java.time.LocalDate;
+
+/** 가용성 계산용 예약 기간(엔터티 대신 필요한 컬럼만) */
+public record AdBookingSpan(Long slotId, LocalDate startDate, LocalDate endDate) {}
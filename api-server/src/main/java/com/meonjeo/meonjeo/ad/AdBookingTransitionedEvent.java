@@ -0,0 +1,14 @@
+package com.meonjeo.meonjeo.ad;
+
+import java.time.LocalDateTime;
+
+/** 광고 예약 상태 전이(라이프사이클 잡) — 노출/정산 등 외부 소비자는 아웃박스 스트림 구독 */
+public record AdBookingTransitionedEvent(
+        Long bookingId,
+        Long slotId,
+        AdBookingStatus from,
+        AdBookingStatus to,
+        LocalDateTime at
+) {
+    public static final String TYPE = "AD_BOOKING_TRANSITIONED";
+}
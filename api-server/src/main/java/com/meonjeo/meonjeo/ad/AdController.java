@@ -3,6 +3,7 @@
 import com.meonjeo.meonjeo.ad.dto.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -10,6 +11,7 @@
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.web.bind.annotation.*;
+import java.security.Principal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
@@ -91,6 +93,14 @@ public java.util.List<ServeItem> active(@RequestParam AdSlotType type,
         return service.serve(type, category, d);
     }
 
+    @Operation(summary="광고 노출/클릭 비콘(집계는 분 단위, 셀러 상세에 반영)")
+    @PostMapping("/beacons")
+    public void beacon(@RequestBody @Valid AdBeaconRequest req, HttpServletRequest request) {
+        String ip = request.getRemoteAddr(); // prod 는 forward-headers-strategy=framework → 실제 클라이언트 IP
+        Principal p = request.getUserPrincipal();
+        service.recordBeacon(req, ip, p != null ? "u:" + p.getName() : "ip:" + ip);
+    }
+
     @Operation(summary="전체 탭 랜덤 샘플(카테고리별 5개, 기본=25개)")
     @GetMapping("/samples/overall")
     public List<OverallSampleItem> overallSamples(@RequestParam(defaultValue="5") int perCategory,
@@ -0,0 +1,74 @@
+package com.meonjeo.meonjeo.ad;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 광고 예약 상태 전이 집합 처리(idx_ad_booking_status_dates 범위 조회)
+ * - RESERVED_PAID → ACTIVE : 시작일 도달 + 같은 슬롯에 겹치는 다른 예약이 없는 건(activate 와 같은 충돌 기준)
+ * - ACTIVE → COMPLETED     : 종료일이 지난 건
+ * id 키셋 청크 단위로 잠그고(SKIP LOCKED) 같은 트랜잭션에서 일괄 UPDATE
+ */
+@Repository
+@RequiredArgsConstructor
+public class AdLifecycleJdbcRepository {
+    private final JdbcTemplate jdbc;
+
+    public record DueBooking(Long id, Long slotId) {}
+
+    /** 트랜잭션 안에서 호출 */
+    public List<DueBooking> lockActivatable(long afterId, LocalDate today, int limit) {
+        Date d = Date.valueOf(today);
+        return jdbc.query("""
+                select b.id, b.slot_id from ad_bookings b
+                 where b.status = 'RESERVED_PAID' and b.start_date <= ? and b.end_date >= ? and b.id > ?
+                   and not exists (select 1 from ad_bookings o
+                                    where o.slot_id = b.slot_id and o.id <> b.id
+                                      and o.status in ('RESERVED_UNPAID', 'RESERVED_PAID', 'ACTIVE')
+                                      and o.start_date <= b.end_date and o.end_date >= b.start_date)
+                 order by b.id
+                 limit ?
+                 for update skip locked
+                """, (rs, i) -> new DueBooking(rs.getLong(1), rs.getLong(2)), d, d, afterId, limit);
+    }
+
+    /** 트랜잭션 안에서 호출 */
+    public List<DueBooking> lockExpired(long afterId, LocalDate today, int limit) {
+        return jdbc.query("""
+                select b.id, b.slot_id from ad_bookings b
+                 where b.status = 'ACTIVE' and b.end_date < ? and b.id > ?
+                 order by b.id
+                 limit ?
+                 for update skip locked
+                """, (rs, i) -> new DueBooking(rs.getLong(1), rs.getLong(2)), Date.valueOf(today), afterId, limit);
+    }
+
+    /** 시작일이 지났는데 충돌로 활성화되지 못한 RESERVED_PAID 건수(운영 확인용) */
+    public int countStuckPaid(LocalDate today) {
+        Date d = Date.valueOf(today);
+        Integer n = jdbc.queryForObject("""
+                select count(*) from ad_bookings
+                 where status = 'RESERVED_PAID' and start_date <= ? and end_date >= ?
+                """, Integer.class, d, d);
+        return n == null ? 0 : n;
+    }
+
+    /** @return 전이된 행 수(잠근 행이므로 보통 ids.size()) */
+    public int transition(List<Long> ids, AdBookingStatus from, AdBookingStatus to, LocalDateTime at) {
+        if (ids.isEmpty()) return 0;
+        List<Object> args = new ArrayList<>(ids.size() + 3);
+        Collections.addAll(args, to.name(), Timestamp.valueOf(at), from.name());
+        args.addAll(ids);
+        return jdbc.update("update ad_bookings set status = ?, updated_at = ? where status = ? and id in ("
+                + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")", args.toArray());
+    }
+}
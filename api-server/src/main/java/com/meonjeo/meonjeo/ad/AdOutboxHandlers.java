@@ -0,0 +1,24 @@
+package com.meonjeo.meonjeo.ad;
+
+import com.meonjeo.meonjeo.outbox.OutboxEvent;
+import com.meonjeo.meonjeo.outbox.OutboxHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** 광고 아웃박스 이벤트 핸들러 */
+@Configuration
+public class AdOutboxHandlers {
+
+    /**
+     * 상태 전이 — 서버 안 서빙 인덱스는 잡이 청크 커밋 후 직접 갱신하므로 여기서는 할 일 없음.
+     * 전달 완료로 표시되어 outbox.stream.enabled 시 외부 소비자에게 스트림으로 흘러감
+     */
+    @Bean
+    OutboxHandler adBookingTransitionedHandler() {
+        return new OutboxHandler() {
+            @Override public String eventType() { return AdBookingTransitionedEvent.TYPE; }
+
+            @Override public void handle(OutboxEvent event) { }
+        };
+    }
+}
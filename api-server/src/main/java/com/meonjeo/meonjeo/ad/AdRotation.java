@@ -0,0 +1,95 @@
+package com.meonjeo.meonjeo.ad;
+
+import com.meonjeo.meonjeo.ad.AdServingIndex.Entry;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * 가중 로테이션(Vose alias method). 서빙 스냅샷을 만들 때 (타입, 카테고리)별로 한 번 생성
+ * - 가중치 = 일 단가(price / 게재일수, 최소 1) → 같은 기간이면 비싸게 산 예약이 더 자주 노출
+ * - 1회 추첨 O(1): 칸 하나를 고르고 prob 로 자기 자신/alias 중 선택
+ * - 한 응답 안 중복 없음: 이미 뽑힌 칸은 다시 추첨(횟수 제한), 그래도 모자라면 남은 칸을 순서대로 채움
+ */
+final class AdRotation {
+
+    static final AdRotation EMPTY = new AdRotation(List.of(), new double[0], new int[0]);
+
+    private final List<Entry> entries;
+    private final double[] prob;
+    private final int[] alias;
+
+    private AdRotation(List<Entry> entries, double[] prob, int[] alias) {
+        this.entries = entries;
+        this.prob = prob;
+        this.alias = alias;
+    }
+
+    static AdRotation of(List<Entry> entries) {
+        int n = entries.size();
+        if (n == 0) return EMPTY;
+
+        double[] scaled = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) sum += (scaled[i] = weight(entries.get(i)));
+        for (int i = 0; i < n; i++) scaled[i] = scaled[i] * n / sum;
+
+        double[] prob = new double[n];
+        int[] alias = new int[n];
+        int[] small = new int[n], large = new int[n];
+        int ns = 0, nl = 0;
+        for (int i = 0; i < n; i++) {
+            if (scaled[i] < 1.0) small[ns++] = i; else large[nl++] = i;
+        }
+        while (ns > 0 && nl > 0) {
+            int s = small[--ns], l = large[--nl];
+            prob[s] = scaled[s];
+            alias[s] = l;
+            scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+            if (scaled[l] < 1.0) small[ns++] = l; else large[nl++] = l;
+        }
+        // 남은 칸은 부동소수 오차만 있는 1.0
+        while (nl > 0) prob[large[--nl]] = 1.0;
+        while (ns > 0) prob[small[--ns]] = 1.0;
+        return new AdRotation(List.copyOf(entries), prob, alias);
+    }
+
+    /** 일 단가 가중치 */
+    static double weight(Entry e) {
+        long days = Math.max(1, ChronoUnit.DAYS.between(e.startDate(), e.endDate()) + 1);
+        return Math.max(1.0, (double) e.price() / days);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /** 가중치에 따라 서로 다른 예약을 최대 count 개 */
+    List<Entry> pick(int count, RandomGenerator rnd) {
+        int n = entries.size();
+        int k = Math.min(Math.max(0, count), n);
+        if (k == 0) return List.of();
+
+        int[] chosen = new int[k];
+        int m = 0;
+        for (int attempts = 0, max = 8 * k + 8; m < k && attempts < max; attempts++) {
+            int i = rnd.nextInt(n);
+            int pickIdx = rnd.nextDouble() < prob[i] ? i : alias[i];
+            if (!contains(chosen, m, pickIdx)) chosen[m++] = pickIdx;
+        }
+        for (int i = 0; m < k && i < n; i++) {
+            if (!contains(chosen, m, i)) chosen[m++] = i;
+        }
+
+        List<Entry> out = new ArrayList<>(k);
+        for (int i = 0; i < k; i++) out.add(entries.get(chosen[i]));
+        return out;
+    }
+
+    private static boolean contains(int[] a, int len, int v) {
+        for (int i = 0; i < len; i++) if (a[i] == v) return true;
+        return false;
+    }
+}
@@ -22,6 +22,11 @@ public class AdService {
     private final AdBookingRepository bookingRepo;
     private final AdPricePolicy pricePolicy;
     private final HouseAdProvider houseAdProvider;
+    private final AdAvailabilityEngine availability;
+    private final AdServingIndex servingIndex;
+    private final AdStatsCounter statsCounter;
+    private final AdBeaconGuard beaconGuard;
+    private final AdStatsJdbcRepository statsJdbc;
 
     // NEW
     private final ProductRepository productRepo;
@@ -55,11 +60,12 @@ public List<SlotAvailability> inventory(AdSlotType type, String category, LocalD
         }
 
         List<AdSlot> slots = slotsOrProvision(type, category);
+        AdAvailabilityCalendar cal = availability.load(slots, start, end);
 
         List<SlotAvailability> out = new ArrayList<>();
-        for (AdSlot s : slots) {
-            boolean available = bookingRepo.findOverlapped(s.getId(), start, end).isEmpty();
-            out.add(new SlotAvailability(s.getId(), Optional.ofNullable(s.getPosition()).orElse(0), available));
+        for (int i = 0; i < slots.size(); i++) {
+            AdSlot s = slots.get(i);
+            out.add(new SlotAvailability(s.getId(), Optional.ofNullable(s.getPosition()).orElse(0), cal.isFree(i, start, end)));
         }
         return out;
     }
@@ -103,6 +109,7 @@ public void activate(Long bookingId){
         }
         b.setStatus(AdBookingStatus.ACTIVE);
         bookingRepo.save(b);
+        servingIndex.invalidateAfterCommit();
     }
 
     @Transactional
@@ -110,21 +117,7 @@ public void cancel(Long bookingId){
         AdBooking b = bookingRepo.findById(bookingId).orElseThrow();
         b.setStatus(AdBookingStatus.CANCELLED);
         bookingRepo.save(b);
-    }
-
-    @Transactional
-    public int completeExpiredToday(){
-        var today = java.time.LocalDate.now();
-        var all = bookingRepo.findAll();
-        int cnt = 0;
-        for (var b : all){
-            if (b.getStatus() == AdBookingStatus.ACTIVE && b.getEndDate().isBefore(today)){
-                b.setStatus(AdBookingStatus.COMPLETED);
-                bookingRepo.save(b);
-                cnt++;
-            }
-        }
-        return cnt;
+        servingIndex.invalidateAfterCommit();
     }
 
     // 결제 ?정 ???출: ?점 체크 ?번 ???고 RESERVED_PAID??환
@@ -146,35 +139,11 @@ public void markPaid(Long bookingId){
         }
     }
 
-    @Transactional
-    public int activateBookingsStartingToday() {
-        var today = java.time.LocalDate.now();
-        int cnt = 0;
-        for (var b : bookingRepo.findAll()) {
-            if (b.getStatus() == AdBookingStatus.RESERVED_PAID &&
-                    ( !today.isBefore(b.getStartDate()) && !today.isAfter(b.getEndDate()) )) {
-                activate(b.getId());
-                cnt++;
-            }
-        }
-        return cnt;
-    }
-
     @Transactional
     public Set<LocalDate> disabledDatesForRange(AdSlotType type, String category,
                                                 LocalDate from, LocalDate to) {
-        List<AdSlot> slots = slotsOrProvision(type, category);
-
-        Set<LocalDate> disabled = new HashSet<>();
-        for (var d = from; !d.isAfter(to); d = d.plusDays(1)) {
-            boolean anyAvailable = false;
-            for (AdSlot s : slots) {
-                boolean overlapped = !bookingRepo.findOverlapped(s.getId(), d, d).isEmpty();
-                if (!overlapped) { anyAvailable = true; break; }
-            }
-            if (!anyAvailable) disabled.add(d);
-        }
-        return disabled;
+        // 날짜×슬롯 반복 조회 대신 예약 1회 조회 → 슬롯별 일자 비트맵 AND
+        return availability.load(slotsOrProvision(type, category), from, to).disabledDates();
     }
 
     @Transactional(readOnly = true)
@@ -214,6 +183,7 @@ public BookingDetail myBookingDetail(Long id) {
         boolean editable = (b.getStatus() == AdBookingStatus.RESERVED_UNPAID || b.getStatus() == AdBookingStatus.RESERVED_PAID)
                 && today.isBefore(b.getStartDate());
         Integer dday = editable ? (int) java.time.temporal.ChronoUnit.DAYS.between(today, b.getStartDate()) : null;
+        var stats = statsJdbc.totals(b.getId());
 
         return new BookingDetail(
                 b.getId(),
@@ -227,7 +197,10 @@ public BookingDetail myBookingDetail(Long id) {
                 b.getProductId(),
                 b.getBannerImageUrl(),
                 editable,
-                dday
+                dday,
+                stats.impressions(),
+                stats.clicks(),
+                stats.impressions() == 0 ? 0.0 : (double) stats.clicks() / stats.impressions()
         );
     }
 
@@ -260,21 +233,64 @@ public BookingDetail updateMyBooking(Long id, AdBookingUpdateRequest req) {
         return myBookingDetail(id);
     }
 
+    /**
+     * 노출/클릭 비콘: 오늘 서빙 인덱스에 있는 예약만 집계(임의 id 로 롤업 행이 늘지 않도록)
+     * IP당 분당 요청 수 제한 + (클라이언트, 예약, 분)당 1회만 집계(AdBeaconGuard)
+     * @param ip     요청 IP
+     * @param client 중복 제거 단위(로그인 사용자면 사용자, 아니면 IP)
+     * @return 집계된 건수
+     */
+    public int recordBeacon(AdBeaconRequest req, String ip, String client) {
+        var snap = servingIndex.snapshot(LocalDate.now());
+        if (snap == null) return 0;
+        List<Long> serving = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(req.bookingIds())) {
+            if (snap.isServing(id)) serving.add(id);
+        }
+        if (serving.isEmpty()) return 0;
+        List<Long> accepted = beaconGuard.accept(ip, client, req.kind(), serving);
+        for (Long id : accepted) {
+            if (req.kind() == AdBeaconRequest.Kind.CLICK) statsCounter.click(id); else statsCounter.impression(id);
+        }
+        return accepted.size();
+    }
+
+    /** 노출 조회는 서빙 인덱스(스냅샷)에서; 스냅샷 기준일 이전 날짜(또는 기동 시 구성 실패로 스냅샷이 없을 때)만 DB 조회 */
     @Transactional(readOnly = true)
     public List<ServeItem> serve(AdSlotType type, String category, LocalDate date) {
+        var snap = servingIndex.snapshot(date);
+        if (snap != null) {
+            return snap.active(type, category, date).stream().map(e -> new ServeItem(
+                    e.slotId(), e.position(), e.productId(), e.bannerImageUrl(), e.bookingId()
+            )).toList();
+        }
         var list = bookingRepo.findActiveFor(type, category, date);
         return list.stream().map(b -> new ServeItem(
                 b.getSlot().getId(),
                 b.getSlot().getPosition(),
                 b.getProductId(),
-                b.getBannerImageUrl()
+                b.getBannerImageUrl(),
+                b.getId()
         )).toList();
     }
 
     @Transactional(readOnly = true)
     public List<OverallSampleItem> sampleOverallByCategory(int perCategory, LocalDate date) {
-        var categories = slotRepo.distinctCategories(AdSlotType.CATEGORY_TOP);
+        var snap = servingIndex.snapshot(date);
         var out = new ArrayList<OverallSampleItem>();
+        if (snap != null) {
+            for (String cat : snap.categories()) {
+                var picked = snap.sample(AdSlotType.CATEGORY_TOP, cat, date, perCategory);
+                for (var e : picked) out.add(new OverallSampleItem(cat, e.productId(), false, null));
+                int h = ThreadLocalRandom.current().nextInt(1 << 16);
+                for (int i = picked.size(); i < perCategory; i++) {
+                    out.add(new OverallSampleItem(cat, null, true, houseAdProvider.houseForCategoryTop(cat, h++)));
+                }
+            }
+            return out;
+        }
+
+        var categories = slotRepo.distinctCategories(AdSlotType.CATEGORY_TOP);
 
         for (String cat : categories) {
             var bookings = bookingRepo.findActiveFor(AdSlotType.CATEGORY_TOP, cat, date);
@@ -292,8 +308,26 @@ public List<OverallSampleItem> sampleOverallByCategory(int perCategory, LocalDat
         return out;
     }
 
-    @Transactional
+    /** 슬롯이 아직 없으면(최초 노출) DB 경로에서 슬롯 생성 → 인덱스 갱신 */
     public List<ServeItemFilled> serveFilled(AdSlotType type, String category, LocalDate date) {
+        var snap = servingIndex.snapshot(date);
+        if (snap != null && !snap.slots(type, category).isEmpty()) {
+            var bySlotId = new HashMap<Long, AdServingIndex.Entry>();
+            for (var e : snap.active(type, category, date)) bySlotId.put(e.slotId(), e);
+
+            var list = new ArrayList<ServeItemFilled>();
+            int h = ThreadLocalRandom.current().nextInt(1 << 16); // 빈 슬롯끼리 하우스 배너가 겹치지 않게 연속 번호
+            for (var s : snap.slots(type, category)) {
+                var e = bySlotId.get(s.id());
+                if (e != null) {
+                    list.add(new ServeItemFilled(s.id(), s.position(), e.productId(), false, e.bannerImageUrl(), e.bookingId()));
+                } else {
+                    list.add(new ServeItemFilled(s.id(), s.position(), null, true, houseAdProvider.houseFor(type, h++), null));
+                }
+            }
+            return list;
+        }
+
         var slots = slotsOrProvision(type, category);
 
         var actives = bookingRepo.findActiveFor(type, category, date);
@@ -304,10 +338,10 @@ public List<ServeItemFilled> serveFilled(AdSlotType type, String category, Local
         for (var s : slots) {
             var b = bySlotId.get(s.getId());
             if (b != null) {
-                list.add(new ServeItemFilled(s.getId(), s.getPosition(), b.getProductId(), false, b.getBannerImageUrl()));
+                list.add(new ServeItemFilled(s.getId(), s.getPosition(), b.getProductId(), false, b.getBannerImageUrl(), b.getId()));
             } else {
                 var url = houseAdProvider.houseFor(type);
-                list.add(new ServeItemFilled(s.getId(), s.getPosition(), null, true, url));
+                list.add(new ServeItemFilled(s.getId(), s.getPosition(), null, true, url, null));
             }
         }
         return list;
@@ -398,6 +432,7 @@ private List<AdSlot> slotsOrProvision(AdSlotType type, String category) {
                     .category(type == AdSlotType.CATEGORY_TOP ? category : null)
                     .build());
         }
+        servingIndex.invalidateAfterCommit();
         return (type == AdSlotType.CATEGORY_TOP)
                 ? slotRepo.findByTypeAndCategoryOrderByPositionAsc(type, category)
                 : slotRepo.findByTypeOrderByPositionAsc(type);
@@ -412,6 +447,15 @@ public List<ServeItem> randomActive(
             int count,
             LocalDate date
     ) {
+        var snap = servingIndex.snapshot(date);
+        if (snap != null) {
+            var picked = snap.sample(type, null, date, Math.max(1, count));
+            List<ServeItem> out = new ArrayList<>(picked.size());
+            for (var e : picked) {
+                out.add(new ServeItem(e.slotId(), e.position(), e.productId(), e.bannerImageUrl(), e.bookingId()));
+            }
+            return out;
+        }
         var list = bookingRepo.findActiveFor(type, null, date);
         Collections.shuffle(list, ThreadLocalRandom.current());
         int take = Math.min(Math.max(1, count), list.size());
@@ -422,7 +466,8 @@ public List<ServeItem> randomActive(
                     b.getSlot().getId(),
                     b.getSlot().getPosition(),
                     b.getProductId(),
-                    b.getBannerImageUrl()
+                    b.getBannerImageUrl(),
+                    b.getId()
             ));
         }
         return out;
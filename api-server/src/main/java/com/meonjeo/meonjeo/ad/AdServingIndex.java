@@ -0,0 +1,262 @@
+package com.meonjeo.meonjeo.ad;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 광고 서빙 인덱스(불변 스냅샷, 노드 로컬)
+ * - 스냅샷 = 전체 슬롯 + 아직 끝나지 않은 ACTIVE 예약, (타입, 카테고리)별로 포지션 순 정렬
+ * - 예약 상태 변경 시 커밋 후 Redis 버전 증가 + 재구성 예약(전용 스레드, 대기 중인 요청은 한 번으로 합침), 다른 노드는 버전 폴링으로 수렴
+ * - 날짜가 바뀌면(자정) 폴링에서 재구성
+ * - 기준일에 노출 중인 예약으로 (타입, 카테고리)/타입별 가중 로테이션(AdRotation)을 함께 생성 → 활성 집합이 바뀔 때만 재계산
+ * - 기동 시(요청을 받기 전) 첫 스냅샷을 만들어 둠 → 첫 요청이 재구성을 기다리지 않음
+ * 서빙 쪽은 volatile 참조 하나만 읽음(락/DB 조회 없음). 스냅샷이 없거나 기준일 이전 날짜는 null → DB 경로
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdServingIndex implements SmartInitializingSingleton {
+
+    static final String VERSION_KEY = "ad:serving:version";
+
+    private final AdSlotRepository slotRepo;
+    private final AdBookingRepository bookingRepo;
+    private final StringRedisTemplate redis;
+    private final TransactionTemplate tx;
+
+    /** Redis 장애로 버전을 못 읽을 때 이 시간이 지나면 무조건 재구성 */
+    @Value("${ad.serving.max-stale-seconds:60}")
+    private long maxStaleSeconds;
+
+    private volatile Snapshot snapshot;
+
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "ad-serving-rebuild");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild(readVersion()); // 실패하면 폴링이 다시 시도
+    }
+
+    /** date 기준 스냅샷(없거나 date 가 기준일 이전이면 null) */
+    public Snapshot snapshot(LocalDate date) {
+        Snapshot s = snapshot;
+        return (s == null || date.isBefore(s.day)) ? null : s;
+    }
+
+    /** 예약/슬롯 변경 후 호출: 트랜잭션 안이면 커밋 이후, 밖이면 즉시 버전 증가 + 비동기 재구성 */
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override public void afterCommit() { bumpAndRebuild(); }
+            });
+        } else {
+            bumpAndRebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ad.serving.poll-ms:2000}", initialDelay = 5000)
+    public void poll() {
+        Snapshot s = snapshot;
+        Long v = readVersion();
+        boolean stale = s == null
+                || !s.day.equals(LocalDate.now())
+                || (v != null ? v != s.version : System.currentTimeMillis() - s.builtAtMillis > maxStaleSeconds * 1000);
+        if (stale) rebuild(v);
+    }
+
+    private void bumpAndRebuild() {
+        try {
+            redis.opsForValue().increment(VERSION_KEY);
+        } catch (Exception e) {
+            // 다른 노드는 max-stale-seconds 안에 수렴
+            log.warn("[ad-serving] version bump failed: {}", e.getMessage());
+        }
+        requestRebuild();
+    }
+
+    /** 요청 스레드에서 재구성하지 않음. 이미 대기 중인 재구성이 있으면 합쳐서 한 번만(실행 시점 버전으로) */
+    private void requestRebuild() {
+        if (!rebuildPending.compareAndSet(false, true)) return;
+        try {
+            rebuilder.execute(() -> {
+                rebuildPending.set(false);
+                rebuild(readVersion());
+            });
+        } catch (Exception e) {
+            rebuildPending.set(false); // 종료 중 등 — 폴링이 처리
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdown();
+    }
+
+    private Long readVersion() {
+        try {
+            String v = redis.opsForValue().get(VERSION_KEY);
+            return v == null ? 0L : Long.valueOf(v);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /** 버전은 조회 전에 읽어 둠 → 조회 도중 변경이 생기면 다음 폴링에서 다시 재구성 */
+    private synchronized Snapshot rebuild(Long version) {
+        long t0 = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        try {
+            Snapshot s = tx.execute(st -> build(today, version == null ? -1 : version));
+            snapshot = s;
+            log.debug("[ad-serving] rebuilt version={} day={} active={} in {}ms",
+                    s.version, s.day, s.activeCount, System.currentTimeMillis() - t0);
+            return s;
+        } catch (Exception e) {
+            log.warn("[ad-serving] rebuild failed, keeping previous snapshot: {}", e.toString());
+            return snapshot;
+        }
+    }
+
+    private Snapshot build(LocalDate today, long version) {
+        Map<Key, List<SlotRef>> slots = new HashMap<>();
+        for (AdSlot s : slotRepo.findAll()) {
+            // slotsOrProvision 과 같게 CATEGORY_TOP 외 타입은 카테고리 구분 없음
+            String category = s.getType() == AdSlotType.CATEGORY_TOP ? s.getCategory() : null;
+            slots.computeIfAbsent(new Key(s.getType(), category), k -> new ArrayList<>())
+                    .add(new SlotRef(s.getId(), s.getPosition()));
+        }
+        slots.values().forEach(l -> l.sort(Comparator.comparing(SlotRef::position, Comparator.nullsFirst(Comparator.naturalOrder()))));
+
+        Map<Key, List<Entry>> byKey = new HashMap<>();
+        Map<AdSlotType, List<Entry>> byType = new EnumMap<>(AdSlotType.class);
+        List<AdBooking> active = bookingRepo.findActiveEndingOnOrAfter(today); // 포지션 순
+        for (AdBooking b : active) {
+            AdSlot s = b.getSlot();
+            Entry e = new Entry(b.getId(), s.getId(), s.getPosition(), s.getCategory(),
+                    b.getProductId(), b.getBannerImageUrl(), b.getPrice(), b.getStartDate(), b.getEndDate());
+            byKey.computeIfAbsent(new Key(s.getType(), s.getCategory()), k -> new ArrayList<>()).add(e);
+            byType.computeIfAbsent(s.getType(), k -> new ArrayList<>()).add(e);
+        }
+
+        List<String> categories = slots.keySet().stream()
+                .filter(k -> k.type() == AdSlotType.CATEGORY_TOP && k.category() != null)
+                .map(Key::category).distinct().sorted().toList();
+        return new Snapshot(today, version, System.currentTimeMillis(), active.size(),
+                freeze(slots), freeze(byKey), freeze(byType), categories);
+    }
+
+    private static <K, V> Map<K, List<V>> freeze(Map<K, List<V>> m) {
+        Map<K, List<V>> out = new HashMap<>();
+        m.forEach((k, v) -> out.put(k, List.copyOf(v)));
+        return Map.copyOf(out);
+    }
+
+    private record Key(AdSlotType type, String category) {}
+
+    public record SlotRef(Long id, Integer position) {}
+
+    public record Entry(Long bookingId, Long slotId, Integer position, String category, Long productId, String bannerImageUrl,
+                        int price, LocalDate startDate, LocalDate endDate) {
+        boolean covers(LocalDate d) { return !startDate.isAfter(d) && !endDate.isBefore(d); }
+    }
+
+    public static final class Snapshot {
+        private final LocalDate day;
+        private final long version;
+        private final long builtAtMillis;
+        private final int activeCount;
+        private final Map<Key, List<SlotRef>> slots;
+        private final Map<Key, List<Entry>> activeByKey;
+        private final Map<AdSlotType, List<Entry>> activeByType;
+        private final List<String> categories;
+        private final Set<Long> bookingIds;
+        private final Map<Key, AdRotation> rotationByKey = new HashMap<>();
+        private final Map<AdSlotType, AdRotation> rotationByType = new EnumMap<>(AdSlotType.class);
+
+        private Snapshot(LocalDate day, long version, long builtAtMillis, int activeCount,
+                         Map<Key, List<SlotRef>> slots, Map<Key, List<Entry>> activeByKey,
+                         Map<AdSlotType, List<Entry>> activeByType, List<String> categories) {
+            this.day = day;
+            this.version = version;
+            this.builtAtMillis = builtAtMillis;
+            this.activeCount = activeCount;
+            this.slots = slots;
+            this.activeByKey = activeByKey;
+            this.activeByType = activeByType;
+            this.categories = categories;
+            Set<Long> ids = new HashSet<>();
+            activeByType.values().forEach(l -> l.forEach(e -> ids.add(e.bookingId())));
+            this.bookingIds = Set.copyOf(ids);
+            activeByKey.forEach((k, l) -> rotationByKey.put(k, AdRotation.of(coveringDay(l))));
+            activeByType.forEach((t, l) -> rotationByType.put(t, AdRotation.of(coveringDay(l))));
+        }
+
+        private List<Entry> coveringDay(List<Entry> src) {
+            List<Entry> out = new ArrayList<>(src.size());
+            for (Entry e : src) if (e.covers(day)) out.add(e);
+            return out;
+        }
+
+        /** 타입(+카테고리) 슬롯, 포지션 순. CATEGORY_TOP 외 타입은 카테고리 무시 */
+        public List<SlotRef> slots(AdSlotType type, String category) {
+            return slots.getOrDefault(new Key(type, type == AdSlotType.CATEGORY_TOP ? category : null), List.of());
+        }
+
+        /** findActiveFor 와 같은 의미: category=null 이면 타입 전체, 아니면 정확히 그 카테고리 */
+        public List<Entry> active(AdSlotType type, String category, LocalDate date) {
+            List<Entry> src = (category == null)
+                    ? activeByType.getOrDefault(type, List.of())
+                    : activeByKey.getOrDefault(new Key(type, category), List.of());
+            List<Entry> out = new ArrayList<>(src.size());
+            for (Entry e : src) if (e.covers(date)) out.add(e);
+            return out;
+        }
+
+        /**
+         * 가중치(일 단가) 기반으로 서로 다른 예약 최대 count 개. 기준일이면 미리 만든 alias 테이블 사용,
+         * 다른 날짜(미래 조회)는 그 날짜 활성 목록으로 즉석 생성
+         */
+        public List<Entry> sample(AdSlotType type, String category, LocalDate date, int count) {
+            AdRotation r;
+            if (date.equals(day)) {
+                r = (category == null)
+                        ? rotationByType.getOrDefault(type, AdRotation.EMPTY)
+                        : rotationByKey.getOrDefault(new Key(type, category), AdRotation.EMPTY);
+            } else {
+                r = AdRotation.of(active(type, category, date));
+            }
+            return r.pick(count, ThreadLocalRandom.current());
+        }
+
+        /** 스냅샷 기준일 이후 노출될 수 있는 예약인지(비콘 검증용) */
+        public boolean isServing(Long bookingId) {
+            return bookingIds.contains(bookingId);
+        }
+
+        /** CATEGORY_TOP 슬롯이 있는 카테고리 목록 */
+        public List<String> categories() {
+            return categories;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.meonjeo.meonjeo.ad;
+
+import com.meonjeo.meonjeo.ad.AdStatsJdbcRepository.MinuteDelta;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 광고 노출/클릭 카운터(write-behind)
+ * - 비콘은 (예약, 분) 셀만 증가(DB 접근 없음). 증가는 ConcurrentHashMap.compute 안에서(같은 bin 잠금)
+ * - flush-ms 마다 셀을 맵에서 원자적으로 떼어(remove) ad_stats_minute 에 배치 upsert
+ *   → 떼어 낸 셀에는 더 이상 증가가 들어오지 않고, 이후 증가는 새 셀로 감(유실 없음)
+ * - upsert 실패 시 합계를 셀에 되돌려 다음 주기에 재시도
+ * 노드가 비정상 종료되면 마지막 주기분은 유실될 수 있음(정상 종료 시에는 @PreDestroy 에서 flush)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdStatsCounter {
+
+    private final AdStatsJdbcRepository statsJdbc;
+
+    private record Key(Long bookingId, LocalDateTime minute) {}
+
+    /** compute 안(bin 잠금)에서만 변경, 맵에서 떼어 낸 뒤에만 읽음 */
+    private static final class Cell {
+        long impressions;
+        long clicks;
+    }
+
+    private final Map<Key, Cell> cells = new ConcurrentHashMap<>();
+
+    public void impression(Long bookingId) {
+        add(new Key(bookingId, LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES)), 1, 0);
+    }
+
+    public void click(Long bookingId) {
+        add(new Key(bookingId, LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES)), 0, 1);
+    }
+
+    private void add(Key key, long impressions, long clicks) {
+        cells.compute(key, (k, c) -> {
+            if (c == null) c = new Cell();
+            c.impressions += impressions;
+            c.clicks += clicks;
+            return c;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${ad.stats.flush-ms:10000}", initialDelay = 10_000)
+    public synchronized void flush() {
+        if (cells.isEmpty()) return;
+        List<MinuteDelta> deltas = new ArrayList<>();
+        for (Key k : new ArrayList<>(cells.keySet())) {
+            Cell c = cells.remove(k); // 증가(compute)와 같은 bin 잠금 → 떼어 낸 뒤에는 이 셀이 바뀌지 않음
+            if (c == null) continue;
+            if (c.impressions > 0 || c.clicks > 0) deltas.add(new MinuteDelta(k.bookingId(), k.minute(), c.impressions, c.clicks));
+        }
+        if (deltas.isEmpty()) return;
+
+        long t0 = System.nanoTime();
+        try {
+            statsJdbc.upsertAll(deltas);
+            log.debug("[ad-stats] flushed rows={} in {}ms", deltas.size(), (System.nanoTime() - t0) / 1_000_000);
+        } catch (Exception ex) {
+            log.warn("[ad-stats] flush failed rows={}, retry next cycle: {}", deltas.size(), ex.toString());
+            for (MinuteDelta d : deltas) add(new Key(d.bookingId(), d.minuteAt()), d.impressions(), d.clicks());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,41 @@
+package com.meonjeo.meonjeo.ad;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/** ad_stats_minute 누적 upsert(uk_ad_stats_minute 기준 가산) / 예약별 합계 */
+@Repository
+@RequiredArgsConstructor
+public class AdStatsJdbcRepository {
+    private final JdbcTemplate jdbc;
+
+    public record MinuteDelta(Long bookingId, LocalDateTime minuteAt, long impressions, long clicks) {}
+
+    public record Totals(long impressions, long clicks) {}
+
+    /** 한 번의 배치(rewriteBatchedStatements → multi-row)로 가산 */
+    public void upsertAll(List<MinuteDelta> deltas) {
+        if (deltas.isEmpty()) return;
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        for (MinuteDelta d : deltas) {
+            args.add(new Object[]{ d.bookingId(), Timestamp.valueOf(d.minuteAt()), d.impressions(), d.clicks() });
+        }
+        jdbc.batchUpdate("""
+                insert into ad_stats_minute (booking_id, minute_at, impressions, clicks) values (?, ?, ?, ?)
+                on duplicate key update impressions = impressions + values(impressions), clicks = clicks + values(clicks)
+                """, args);
+    }
+
+    public Totals totals(Long bookingId) {
+        return jdbc.queryForObject("""
+                select coalesce(sum(impressions), 0), coalesce(sum(clicks), 0)
+                  from ad_stats_minute where booking_id = ?
+                """, (rs, i) -> new Totals(rs.getLong(1), rs.getLong(2)), bookingId);
+    }
+}
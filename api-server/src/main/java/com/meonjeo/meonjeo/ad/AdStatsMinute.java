@@ -0,0 +1,39 @@
+package com.meonjeo.meonjeo.ad;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 광고 예약별 분 단위 노출/클릭 집계(롤업).
+ * 행은 AdStatsCounter 가 주기적으로 upsert(누적 가산)하며 엔터티로 직접 쓰지 않습니다.
+ */
+@Entity
+@Table(name = "ad_stats_minute",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ad_stats_minute", columnNames = {"booking_id", "minute_at"}))
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class AdStatsMinute {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "booking_id", nullable = false)
+    @Comment("광고 예약 ID")
+    private Long bookingId;
+
+    @Column(name = "minute_at", nullable = false)
+    @Comment("집계 분(서버 시간대, 초 이하 절삭)")
+    private LocalDateTime minuteAt;
+
+    @Column(nullable = false)
+    @Comment("노출 수")
+    private long impressions;
+
+    @Column(nullable = false)
+    @Comment("클릭 수")
+    private long clicks;
+}
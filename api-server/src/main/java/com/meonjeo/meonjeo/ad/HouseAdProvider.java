@@ -3,10 +3,10 @@
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * 하우스(플랫폼) 광고 배너 URL을 순환 제공.
+ * 하우스(플랫폼) 광고 배너 URL을 순환 제공(요청마다 임의 시작점 + 응답 안 연속 번호).
  * 실제 운영에서는 yml로 주입하거나 DB에서 관리하도록 교체하면 됨.
  */
 @Component
@@ -32,22 +32,28 @@ public class HouseAdProvider {
             "/static/ads/house/category-3.png"
     );
 
-    private final AtomicInteger idxRolling = new AtomicInteger();
-    private final AtomicInteger idxSide = new AtomicInteger();
-    private final AtomicInteger idxOrder = new AtomicInteger();
-    private final AtomicInteger idxCat = new AtomicInteger();
-
+    /** 요청마다 임의 시작점(공유 카운터 없음) */
     public String houseFor(AdSlotType type) {
-        return switch (type) {
-            case MAIN_ROLLING -> rolling.get(Math.floorMod(idxRolling.getAndIncrement(), rolling.size()));
-            case MAIN_SIDE -> side.get(Math.floorMod(idxSide.getAndIncrement(), side.size()));
-            case ORDER_COMPLETE -> orderComplete.get(Math.floorMod(idxOrder.getAndIncrement(), orderComplete.size()));
-            case CATEGORY_TOP -> categoryTop.get(Math.floorMod(idxCat.getAndIncrement(), categoryTop.size()));
+        return houseFor(type, ThreadLocalRandom.current().nextInt(1 << 16));
+    }
+
+    /** seq 번째 배너(한 응답 안에서 seq 를 1씩 늘리면 세트 크기까지는 중복 없음) */
+    public String houseFor(AdSlotType type, int seq) {
+        List<String> set = switch (type) {
+            case MAIN_ROLLING -> rolling;
+            case MAIN_SIDE -> side;
+            case ORDER_COMPLETE -> orderComplete;
+            case CATEGORY_TOP -> categoryTop;
         };
+        return set.get(Math.floorMod(seq, set.size()));
     }
 
     public String houseForCategoryTop(String category) {
         // 카테고리별 세분화 원하면 맵으로 분기. 지금은 공용 세트 사용.
         return houseFor(AdSlotType.CATEGORY_TOP);
     }
+
+    public String houseForCategoryTop(String category, int seq) {
+        return houseFor(AdSlotType.CATEGORY_TOP, seq);
+    }
 }
@@ -0,0 +1,24 @@
+package com.meonjeo.meonjeo.ad.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 광고 노출/클릭 비콘.
+ * serve / serveFilled / randomActive 응답의 bookingId 를 그대로 전달합니다(하우스 광고는 제외).
+ */
+@Schema(description = "광고 노출/클릭 비콘")
+public record AdBeaconRequest(
+
+        @Schema(description = "이벤트 종류", requiredMode = Schema.RequiredMode.REQUIRED, example = "IMPRESSION")
+        @NotNull Kind kind,
+
+        @Schema(description = "광고 예약 ID 목록(한 화면에 노출된 광고를 묶어서, 최대 50개)", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotEmpty @Size(max = 50) List<@NotNull Long> bookingIds
+) {
+    public enum Kind { IMPRESSION, CLICK }
+}
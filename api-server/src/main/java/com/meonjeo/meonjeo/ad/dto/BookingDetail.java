@@ -44,5 +44,14 @@ public record BookingDetail(
         boolean editable,
 
         @Schema(description = "게재 D-값(게재중/종료면 null)", example = "2")
-        Integer daysUntilStart
+        Integer daysUntilStart,
+
+        @Schema(description = "누적 노출 수(집계 주기만큼 지연)", example = "15230")
+        long impressions,
+
+        @Schema(description = "누적 클릭 수(집계 주기만큼 지연)", example = "184")
+        long clicks,
+
+        @Schema(description = "클릭률(clicks / impressions, 노출 없으면 0)", example = "0.0121")
+        double ctr
 ) {}
@@ -17,5 +17,8 @@ public record ServeItem(
         Long productId,
 
         @Schema(description = "배너 이미지 URL(MAIN_*에서만 노출)", example = "https://cdn.meonjeo.dev/ad/banner_2025.png")
-        String bannerImageUrl
+        String bannerImageUrl,
+
+        @Schema(description = "광고 예약 ID(노출/클릭 비콘에 그대로 전달)", example = "123")
+        Long bookingId
 ) {}
@@ -21,5 +21,8 @@ public record ServeItemFilled(
         boolean house,
 
         @Schema(description = "배너 이미지 URL(MAIN_* 또는 하우스 채움)", example = "https://cdn.meonjeo.dev/house/ad_fallback.png")
-        String bannerImageUrl
+        String bannerImageUrl,
+
+        @Schema(description = "광고 예약 ID(하우스 광고면 null, 노출/클릭 비콘에 그대로 전달)", example = "123")
+        Long bookingId
 ) {}
@@ -8,6 +8,7 @@
 import com.meonjeo.meonjeo.product.ProductRepository;
 import com.meonjeo.meonjeo.product.ProductVariant;
 import com.meonjeo.meonjeo.product.ProductVariantRepository;
+import com.meonjeo.meonjeo.product.ProductVariantResolver;
 import com.meonjeo.meonjeo.security.AuthSupport;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,7 @@ public class CartService {
     private final CartItemRepository cartRepo;
     private final ProductRepository productRepo;
     private final ProductVariantRepository variantRepo;
+    private final ProductVariantResolver variantResolver;
     private final AuthSupport auth;
     private final ObjectMapper objectMapper;
 
@@ -45,7 +47,7 @@ public void add(AddCartItemRequest req){
         String[] labels = { p.getOption1Name(), p.getOption2Name(), p.getOption3Name(), p.getOption4Name(), p.getOption5Name() };
         String[] vals = mapOptionsToValues(labels, normalize(req.options()));
 
-        ProductVariant v = variantRepo.matchOne(p.getId(), vals[0], vals[1], vals[2], vals[3], vals[4])
+        ProductVariant v = variantResolver.resolve(p.getId(), vals)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "VARIANT_NOT_FOUND"));
 
         // 병합(있으면 증가)
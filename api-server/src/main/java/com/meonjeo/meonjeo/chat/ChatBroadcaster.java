@@ -0,0 +1,94 @@
+package com.meonjeo.meonjeo.chat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * STOMP 전송 노드 간 팬아웃
+ * - simple broker 는 노드 로컬이라, 구독자가 다른 노드에 붙어 있으면 로컬 전송만으로는 받지 못함
+ * - 로컬 브로커로 바로 보내고 Redis pub/sub 으로 다른 노드에 전달 → 각 노드가 자기 브로커로 재전송
+ * - 자기 자신이 보낸 메시지는 nodeId 로 걸러냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatBroadcaster {
+
+    private static final String CHANNEL = "chat:stomp";
+
+    private final SimpMessagingTemplate broker;
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                JsonNode m = objectMapper.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+                if (nodeId.equals(m.path("node").asText())) return; // 내가 보낸 메시지
+                String user = m.hasNonNull("user") ? m.get("user").asText() : null;
+                sendLocal(user, m.path("destination").asText(), m.get("payload"));
+            } catch (Exception e) {
+                log.warn("[chat-fanout] invalid message: {}", e.getMessage());
+            }
+        }, new ChannelTopic(CHANNEL));
+    }
+
+    /** 모든 노드의 destination 구독자에게 전송. 다른 노드 전달 실패 시 예외(아웃박스 재시도용) */
+    public void send(String destination, Object payload) {
+        sendLocal(null, destination, payload);
+        publish(null, destination, payload);
+    }
+
+    /** 모든 노드의 사용자 큐(/user/{user}{destination})로 전송 */
+    public void sendToUser(String user, String destination, Object payload) {
+        sendLocal(user, destination, payload);
+        publish(user, destination, payload);
+    }
+
+    /** 알림성 전송: 다른 노드 전달 실패는 로그만(호출한 트랜잭션을 깨지 않음) */
+    public void sendQuietly(String destination, Object payload) {
+        try {
+            send(destination, payload);
+        } catch (Exception e) {
+            log.warn("[chat-fanout] broadcast failed destination={}: {}", destination, e.getMessage());
+        }
+    }
+
+    public void sendToUserQuietly(String user, String destination, Object payload) {
+        try {
+            sendToUser(user, destination, payload);
+        } catch (Exception e) {
+            log.warn("[chat-fanout] broadcast failed user={} destination={}: {}", user, destination, e.getMessage());
+        }
+    }
+
+    private void sendLocal(String user, String destination, Object payload) {
+        if (user == null) broker.convertAndSend(destination, payload);
+        else broker.convertAndSendToUser(user, destination, payload);
+    }
+
+    private void publish(String user, String destination, Object payload) {
+        ObjectNode m = objectMapper.createObjectNode();
+        m.put("node", nodeId);
+        m.put("user", user);
+        m.put("destination", destination);
+        m.set("payload", objectMapper.valueToTree(payload));
+        redis.convertAndSend(CHANNEL, m.toString());
+    }
+}
@@ -0,0 +1,26 @@
+package com.meonjeo.meonjeo.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meonjeo.meonjeo.chat.dto.ChatDtos.MessageView;
+import com.meonjeo.meonjeo.outbox.OutboxEvent;
+import com.meonjeo.meonjeo.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/** 채팅 메시지 저장 후 STOMP 전송(클라이언트는 clientMsgId/id로 중복 수신을 걸러냄) */
+@Component
+@RequiredArgsConstructor
+public class ChatMessageSentHandler implements OutboxHandler {
+
+    public static final String TYPE = "CHAT_MESSAGE_SENT";
+
+    private final ChatService chatService;
+    private final ObjectMapper objectMapper;
+
+    @Override public String eventType() { return TYPE; }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        chatService.deliverMessage(objectMapper.readValue(event.getPayload(), MessageView.class));
+    }
+}
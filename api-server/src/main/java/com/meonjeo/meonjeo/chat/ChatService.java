@@ -1,6 +1,7 @@
 package com.meonjeo.meonjeo.chat;
 
 import com.meonjeo.meonjeo.chat.dto.ChatDtos.*;
+import com.meonjeo.meonjeo.outbox.OutboxPublisher;
 import com.meonjeo.meonjeo.product.ProductSellerJdbcRepository;
 import com.meonjeo.meonjeo.product.ProductSummaryJdbcRepository;
 import com.meonjeo.meonjeo.product.ProductSummaryJdbcRepository.ProductSummary;
@@ -10,11 +11,8 @@
 import com.meonjeo.meonjeo.seller.SellerProfile;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -26,10 +24,11 @@ public class ChatService {
     private final ChatMemberRepository memberRepo;
     private final ChatMessageRepository messageRepo;
     private final UserRepository userRepo;
-    private final SimpMessagingTemplate broker;
+    private final ChatBroadcaster broadcaster;
     private final ProductSellerJdbcRepository productSellerRepo;
     private final SellerProfileRepository sellerProfileRepo;
     private final ProductSummaryJdbcRepository productSummaryRepo;
+    private final OutboxPublisher outbox;
 
     private static String roomKeyForUserSeller(Long userId, Long sellerId) {
         return "U" + userId + "-S" + sellerId;
@@ -185,15 +184,20 @@ public MessageView sendMessage(Long roomId, Long senderId, ChatMessageType type,
 
         MessageView view = toView(saved);
 
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override public void afterCommit() {
-                broker.convertAndSend("/sub/chat/rooms/" + roomId, view);
-                notifyRoomEvent(roomId, "ROOM_UPDATED");
-            }
-        });
+        // 브로커 전송은 아웃박스로(커밋 후 방 단위 순서대로 전달, 실패 시 재시도)
+        outbox.publish("CHAT_ROOM", roomId, ChatMessageSentHandler.TYPE, view);
         return view;
     }
 
+    /**
+     * 아웃박스 핸들러가 호출: 방 구독자에게 메시지 전송 + 멤버 목록 갱신 이벤트
+     * 디스패치한 노드와 구독자 노드가 다를 수 있어 ChatBroadcaster 로 전 노드에 팬아웃(전달 실패 시 아웃박스 재시도)
+     */
+    public void deliverMessage(MessageView view) {
+        broadcaster.send("/sub/chat/rooms/" + view.getRoomId(), view);
+        notifyRoomEvent(view.getRoomId(), "ROOM_UPDATED");
+    }
+
     @Transactional
     public void markRead(Long roomId, Long userId, Long lastReadMessageId) {
         ChatMember m = memberRepo.findByRoomIdAndUserId(roomId, userId).orElse(null);
@@ -217,7 +221,7 @@ public void markRead(Long roomId, Long userId, Long lastReadMessageId) {
                 "userId", userId,
                 "lastReadMessageId", m.getLastReadMessageId()
         );
-        broker.convertAndSend("/sub/chat/rooms/" + roomId, payload);
+        broadcaster.sendQuietly("/sub/chat/rooms/" + roomId, payload);
     }
 
     // ⭐ 상품 문의는 아예 "U-S-P" 키로 별도 방 생성/조회
@@ -247,8 +251,8 @@ private void notifyRoomEvent(Long roomId, String type) {
         Map<String, Object> payload = Map.of("type", type, "roomId", roomId);
         for (ChatMember m : members) {
             String uid = String.valueOf(m.getUserId());
-            broker.convertAndSendToUser(uid, "/queue/chat/room-events", payload);
-            broker.convertAndSend("/sub/chat/users/" + uid + "/room-events", payload);
+            broadcaster.sendToUserQuietly(uid, "/queue/chat/room-events", payload);
+            broadcaster.sendQuietly("/sub/chat/users/" + uid + "/room-events", payload);
         }
     }
 }
@@ -0,0 +1,77 @@
+package com.meonjeo.meonjeo.common;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 클러스터 단위 배치 잠금(Redis 임대)
+ * - lock:{name} 에 노드별 토큰을 SET NX PX 로 기록, 연장/해제는 토큰이 같을 때만(Lua)
+ * - 임대 시간 안에 extend() 로 갱신하지 못하면 다른 노드가 가져갈 수 있으므로, 작업은 청크마다 extend() 결과를 확인
+ * - Redis 장애 시 획득 실패로 처리(배치는 다음 주기에 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLeaseLock {
+
+    private static final DefaultRedisScript<Long> EXTEND = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end
+            return 0
+            """, Long.class);
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+
+    public Optional<Lease> tryAcquire(String name, Duration ttl) {
+        String key = "lock:" + name;
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean ok = redis.opsForValue().setIfAbsent(key, token, ttl);
+            return Boolean.TRUE.equals(ok) ? Optional.of(new Lease(key, token)) : Optional.empty();
+        } catch (Exception e) {
+            log.warn("[lock] acquire failed name={}: {}", name, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public final class Lease implements AutoCloseable {
+        private final String key;
+        private final String token;
+
+        private Lease(String key, String token) {
+            this.key = key;
+            this.token = token;
+        }
+
+        /** 아직 내 임대면 ttl 로 갱신하고 true. 만료되어 다른 노드가 가져갔거나 Redis 오류면 false */
+        public boolean extend(Duration ttl) {
+            try {
+                Long r = redis.execute(EXTEND, List.of(key), token, String.valueOf(ttl.toMillis()));
+                return r != null && r == 1;
+            } catch (Exception e) {
+                log.warn("[lock] extend failed key={}: {}", key, e.getMessage());
+                return false;
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                redis.execute(RELEASE, List.of(key), token);
+            } catch (Exception e) {
+                log.warn("[lock] release failed key={}: {}", key, e.getMessage()); // TTL 만료로 풀림
+            }
+        }
+    }
+}
@@ -10,14 +10,17 @@
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -26,8 +29,10 @@
 import org.springframework.core.env.Environment;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
 @Configuration
 @EnableMethodSecurity(prePostEnabled = true)
@@ -40,6 +45,8 @@ public class SecurityConfig {
     private final CustomOAuth2SuccessHandler customOAuth2SuccessHandler;
     private final Environment env;
 
+    private static final String SHIPPING_SECRET_HEADER = "X-Shipping-Webhook-Secret";
+
     private static final List<String> DEV_ORIGINS = List.of(
             "http://localhost:5173",
             "http://localhost:3000"
@@ -54,6 +61,17 @@ public class SecurityConfig {
             "http://hash-proj-v2.eba-ijnehrgn.ap-northeast-2.elasticbeanstalk.com/"
     );
 
+    /** 배송 이벤트 묶음 적재: ADMIN 이거나 공유 비밀(shipping.webhook.secret)이 헤더와 일치할 때만. 비밀 미설정이면 ADMIN 만 */
+    private AuthorizationDecision shippingBulkAccess(Supplier<Authentication> auth, RequestAuthorizationContext ctx) {
+        String secret = env.getProperty("shipping.webhook.secret", "");
+        String given = ctx.getRequest().getHeader(SHIPPING_SECRET_HEADER);
+        boolean secretOk = !secret.isEmpty() && given != null
+                && MessageDigest.isEqual(secret.getBytes(StandardCharsets.UTF_8), given.getBytes(StandardCharsets.UTF_8));
+        Authentication a = auth.get();
+        boolean admin = a != null && a.getAuthorities().stream().anyMatch(g -> "ROLE_ADMIN".equals(g.getAuthority()));
+        return new AuthorizationDecision(secretOk || admin);
+    }
+
     private List<String> resolveAllowedOrigins() {
         var profiles = Arrays.asList(env.getActiveProfiles());
         return profiles.contains("prod") ? PROD_ORIGINS : DEV_ORIGINS;
@@ -102,9 +120,11 @@ public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
                         .requestMatchers("/api/ads/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/ads/seller/**").hasAnyRole("SELLER","ADMIN")
                         .requestMatchers("/api/ads/bookings/**").hasAnyRole("SELLER","ADMIN")
+                        .requestMatchers("/api/shipping/events/bulk").access(this::shippingBulkAccess)
                         .requestMatchers("/api/shipping/webhooks/**", "/api/shipping/events").permitAll()
                         .requestMatchers("/api/uploads/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/ads/active/**").permitAll() // ✅ 광고 조회 공개
+                        .requestMatchers(HttpMethod.POST, "/api/ads/beacons").permitAll() // 비로그인 노출/클릭 집계
                         // ✅ 상품 상세의 '피드백 목록 조회'는 비로그인 공개 (보기 전용)
                         .requestMatchers(HttpMethod.GET, "/api/feedbacks/products/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/uploads/**").permitAll()
@@ -136,9 +156,9 @@ public CorsConfigurationSource corsConfigurationSource() {
         ));
         config.setAllowedHeaders(List.of(
                 "Authorization", "Content-Type", "X-Requested-With",
-                "Accept", "Origin"
+                "Accept", "Origin", "Idempotency-Key"
         ));
-        config.setExposedHeaders(List.of("Authorization", "Set-Cookie"));
+        config.setExposedHeaders(List.of("Authorization", "Set-Cookie", "Idempotent-Replayed"));
         config.setAllowedMethods(List.of("GET","POST","PUT","DELETE","PATCH","OPTIONS"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -6,12 +6,15 @@
 import com.meonjeo.meonjeo.exchange.dto.ExchangeCreateRequest;
 import com.meonjeo.meonjeo.exchange.dto.ExchangeDecisionRequest;
 import com.meonjeo.meonjeo.exchange.dto.ExchangeResponse;
+import com.meonjeo.meonjeo.inventory.InventoryReservationService;
 import com.meonjeo.meonjeo.order.OrderItem;
 import com.meonjeo.meonjeo.order.OrderItemRepository;
 import com.meonjeo.meonjeo.product.Product;
+import com.meonjeo.meonjeo.product.ProductDetailCache;
 import com.meonjeo.meonjeo.product.ProductRepository;
 import com.meonjeo.meonjeo.product.ProductVariant;
 import com.meonjeo.meonjeo.product.ProductVariantRepository;
+import com.meonjeo.meonjeo.product.ProductVariantResolver;
 import com.meonjeo.meonjeo.shipment.Shipment;
 import com.meonjeo.meonjeo.shipment.ShipmentRepository;
 import com.meonjeo.meonjeo.shipment.ShipmentService;
@@ -34,6 +37,9 @@ public class ExchangeService {
     private final OrderItemRepository orderItemRepo;
     private final ProductRepository productRepo;
     private final ProductVariantRepository variantRepo;
+    private final ProductVariantResolver variantResolver;
+    private final ProductDetailCache productDetailCache;
+    private final InventoryReservationService inventory;
     private final OrderExchangeRepository exchangeRepo;
     private final ShipmentRepository shipmentRepo;
     private final ShipmentService shipmentService;
@@ -162,6 +168,8 @@ public ExchangeResponse shipReplacement(Long sellerId, Long exchangeId, String c
         int updated = variantRepo.decreaseStockIfEnough(
                 ex.getApprovedVariant().getId(), ex.getQty());
         if (updated == 0) throw new IllegalStateException("INSUFFICIENT_STOCK");
+        productDetailCache.evictAfterCommit(ex.getProduct().getId());
+        inventory.evictStockMirrorAfterCommit(List.of(ex.getApprovedVariant().getId()));
 
         Long shipmentId = shipmentService.createShipmentForExchange(
                 ex.getId(), ex.getUserId(), ex.getProduct().getSellerId(),
@@ -267,7 +275,7 @@ private ProductVariant resolveOriginalVariant(Product product, String optionSnap
         String o4 = product.getOption4Name() != null ? opts.get(product.getOption4Name()) : null;
         String o5 = product.getOption5Name() != null ? opts.get(product.getOption5Name()) : null;
 
-        return variantRepo.matchOne(product.getId(), o1, o2, o3, o4, o5)
+        return variantResolver.resolve(product.getId(), new String[]{ o1, o2, o3, o4, o5 })
                 .orElseThrow(() -> new IllegalStateException("ORIGINAL_VARIANT_NOT_FOUND"));
     }
 }
@@ -138,6 +138,20 @@ select count(f)
         )
     Page<Feedback> pageBySeller(@Param("sellerId") Long sellerId, Pageable pageable);
 
+    // ✅ 보상 적립 반영(원장 기록과 같은 트랜잭션) — 이미 채워졌으면 그대로 둠(재전달 멱등)
+    @Modifying
+    @Query("""
+        update Feedback f
+           set f.awardedPoint = :amount, f.awardedAt = :at
+         where f.orderItemId = :orderItemId
+           and f.userId = :userId
+           and f.awardedPoint is null
+    """)
+    int markAwarded(@Param("orderItemId") Long orderItemId,
+                    @Param("userId") Long userId,
+                    @Param("amount") int amount,
+                    @Param("at") LocalDateTime at);
+
     Optional<Feedback> findByUserIdAndProductIdAndRemovedFalse(Long userId, Long productId);
 
     boolean existsByUserIdAndProductIdAndRemovedFalse(Long userId, Long productId);
@@ -0,0 +1,10 @@
+package com.meonjeo.meonjeo.feedback;
+
+/** 피드백 작성 보상 포인트 지급 */
+public record FeedbackRewardEvent(
+        Long orderItemId,
+        Long userId,
+        int amount
+) {
+    public static final String TYPE = "FEEDBACK_REWARD";
+}
@@ -0,0 +1,48 @@
+package com.meonjeo.meonjeo.feedback;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meonjeo.meonjeo.order.PointLedgerPort;
+import com.meonjeo.meonjeo.order.PointLedgerPort.LedgerWrite;
+import com.meonjeo.meonjeo.outbox.OutboxBatchHandler;
+import com.meonjeo.meonjeo.outbox.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 피드백 보상 적립 — 모아서 원장 일괄 기록(refKey feedback:{orderItemId} 유니크로 재전달되어도 1회만 반영).
+ * 피드백의 awardedPoint/awardedAt 은 원장 기록과 같은 트랜잭션에서 채워 실제 적립된 뒤에만 보이게 함
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedbackRewardHandler implements OutboxBatchHandler {
+
+    private final PointLedgerPort pointLedger;
+    private final FeedbackRepository feedbackRepo;
+    private final ObjectMapper objectMapper;
+
+    @Override public String eventType() { return FeedbackRewardEvent.TYPE; }
+
+    @Override
+    @Transactional
+    public void handleAll(List<OutboxEvent> events) throws Exception {
+        List<FeedbackRewardEvent> rewards = new ArrayList<>(events.size());
+        List<LedgerWrite> writes = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            FeedbackRewardEvent e = objectMapper.readValue(event.getPayload(), FeedbackRewardEvent.class);
+            if (e.amount() <= 0) continue;
+            rewards.add(e);
+            writes.add(new LedgerWrite(e.userId(), e.amount(), "FEEDBACK_REWARD", "feedback:" + e.orderItemId()));
+        }
+        pointLedger.applyAll(writes);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (FeedbackRewardEvent e : rewards) {
+            feedbackRepo.markAwarded(e.orderItemId(), e.userId(), e.amount(), now);
+        }
+    }
+}
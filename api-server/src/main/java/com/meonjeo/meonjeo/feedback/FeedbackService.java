@@ -6,6 +6,7 @@
 import com.meonjeo.meonjeo.feedback.dto.FeedbackResponse;
 import com.meonjeo.meonjeo.feedback.dto.FeedbackUpdateRequest;
 import com.meonjeo.meonjeo.order.*;
+import com.meonjeo.meonjeo.outbox.OutboxPublisher;
 import com.meonjeo.meonjeo.product.Product;
 import com.meonjeo.meonjeo.product.ProductRepository;
 import com.meonjeo.meonjeo.security.AuthSupport;
@@ -34,7 +35,7 @@ public class FeedbackService {
 
     private final FeedbackRepository feedbackRepo;
     private final OrderItemRepository orderItemRepo;
-    private final PointLedgerPort pointLedger;
+    private final OutboxPublisher outbox;
     private final AuthSupport auth;
     private final OrderWindowService windowService;
     private final UserRepository userRepo;
@@ -116,16 +117,12 @@ public FeedbackResponse create(FeedbackCreateRequest req) {
                 .deadlineAt(deadline)
                 .build());
 
-        Integer awardedPoint = null;
-        LocalDateTime awardedAt = null;
         int reward = Math.max(0, item.getFeedbackPointSnapshot());
         if (reward > 0) {
-            pointLedger.accrue(uid, reward, "FEEDBACK_REWARD", "feedback:" + orderItemId);
-            awardedPoint = reward;
-            awardedAt = now;
-            fb.setAwardedPoint(awardedPoint);
-            fb.setAwardedAt(awardedAt);
-            feedbackRepo.save(fb);
+            // 적립은 아웃박스로(커밋 후 다른 보상/환급과 묶어 원장 일괄 기록)
+            // awardedPoint/awardedAt 은 핸들러가 원장 기록과 같은 트랜잭션에서 채움 → 여기선 비워 둔 채(적립 대기) 응답
+            outbox.publish("ORDER_ITEM", orderItemId, FeedbackRewardEvent.TYPE,
+                    new FeedbackRewardEvent(orderItemId, uid, reward));
         }
 
         return toResponse(fb);
@@ -0,0 +1,279 @@
+package com.meonjeo.meonjeo.idempotency;
+
+import com.meonjeo.meonjeo.common.HashUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Idempotency-Key 처리 필터(@Idempotent 핸들러에만 적용, 시큐리티 필터 이후 실행)
+ * - 범위: 사용자 + METHOD path + 키. 같은 키로 본문이 다른 요청은 422
+ * - 완료(2xx) 응답은 상태/Content-Type/본문을 저장해 재요청 시 그대로 재생(Idempotent-Replayed: true)
+ * - 동시 중복: 같은 노드면 진행 중 실행의 결과를 기다려 공유, 다른 노드면 저장소를 짧게 폴링
+ *   먼저 들어온 실행이 실패하면 기다리던 요청이 이어서 실행, 대기 시간 안에 끝나지 않으면 503 + Retry-After
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 128;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final IdempotencyStore store;
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final ConcurrentHashMap<String, CompletableFuture<IdempotencyStore.Stored>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${idempotency.lock-seconds:60}")
+    private long lockSeconds;
+    @Value("${idempotency.wait-ms:5000}")
+    private long waitMs;
+
+    public IdempotencyFilter(IdempotencyStore store,
+                             @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping) {
+        this.store = store;
+        this.handlerMapping = handlerMapping;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String m = request.getMethod();
+        if ("GET".equals(m) || "HEAD".equals(m) || "OPTIONS".equals(m)) return true;
+        return request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        Idempotent ann = findAnnotation(request);
+        String key = request.getHeader(HEADER).trim();
+        if (ann == null || key.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "IDEMPOTENCY_KEY_TOO_LONG");
+            return;
+        }
+
+        CachedBodyRequest req = new CachedBodyRequest(request);
+        String scope = HashUtil.sha256Hex(principal() + "|" + request.getMethod() + " " + request.getRequestURI() + "|" + key);
+        String fingerprint = HashUtil.sha256Hex(request.getMethod() + "|" + requestUri(request) + "|"
+                + new String(req.body, StandardCharsets.UTF_8));
+
+        // 먼저 들어온 실행이 실패(선점 해제)하면 기다리던 요청 중 하나가 이어서 실행
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            // 같은 노드의 동시 중복은 먼저 들어온 실행 결과를 공유
+            CompletableFuture<IdempotencyStore.Stored> mine = new CompletableFuture<>();
+            CompletableFuture<IdempotencyStore.Stored> running = inFlight.putIfAbsent(scope, mine);
+            if (running != null) {
+                Optional<IdempotencyStore.Stored> s = await(running);
+                if (s == null) {
+                    writeInProgress(response);
+                    return;
+                }
+                if (s.isEmpty()) continue;                 // 먼저 들어온 실행이 실패 → 다시 선점 시도
+                replay(s.get(), fingerprint, response);
+                return;
+            }
+
+            IdempotencyStore.Stored result = null;
+            try {
+                IdempotencyStore.Claim claim = store.claim(scope, fingerprint, Duration.ofSeconds(lockSeconds));
+                switch (claim.outcome()) {
+                    case COMPLETED -> {
+                        result = claim.stored();
+                        replay(result, fingerprint, response);
+                        return;
+                    }
+                    case IN_PROGRESS -> {
+                        if (!claim.stored().fingerprint().equals(fingerprint)) {
+                            writeError(response, 422, "IDEMPOTENCY_KEY_REUSED");
+                            return;
+                        }
+                        Optional<IdempotencyStore.Stored> last = pollCompleted(scope);
+                        if (last.isEmpty()) continue;          // 다른 노드 실행이 실패 → 다시 선점 시도
+                        if (last.get().completed()) {
+                            result = last.get();
+                            replay(result, fingerprint, response);
+                        } else {
+                            writeInProgress(response);
+                        }
+                        return;
+                    }
+                    case ACQUIRED -> {
+                        result = execute(req, response, chain, scope, fingerprint, ann, claim.db());
+                        return;
+                    }
+                }
+            } finally {
+                inFlight.remove(scope, mine);
+                mine.complete(result);
+            }
+        }
+        writeInProgress(response);
+    }
+
+    /** 핸들러 실행 → 2xx면 응답 저장, 아니면 선점 해제 */
+    private IdempotencyStore.Stored execute(CachedBodyRequest req, HttpServletResponse response, FilterChain chain,
+                                            String scope, String fingerprint, Idempotent ann, boolean db)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper res = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            chain.doFilter(req, res);
+            int status = res.getStatus();
+            if (status >= 200 && status < 300) {
+                IdempotencyStore.Stored done = new IdempotencyStore.Stored(fingerprint, true, status,
+                        res.getContentType(), new String(res.getContentAsByteArray(), StandardCharsets.UTF_8));
+                store.complete(scope, done, Duration.ofSeconds(ann.ttlSeconds()));
+                stored = true;
+                return done;
+            }
+            return null;
+        } finally {
+            if (!stored) {
+                try { store.release(scope, db); } catch (Exception e) {
+                    log.warn("[idempotency] release failed: {}", e.getMessage());
+                }
+            }
+            res.copyBodyToResponse();
+        }
+    }
+
+    private void replay(IdempotencyStore.Stored s, String fingerprint, HttpServletResponse response) throws IOException {
+        if (!s.fingerprint().equals(fingerprint)) {
+            writeError(response, 422, "IDEMPOTENCY_KEY_REUSED");
+            return;
+        }
+        response.setStatus(s.status());
+        if (s.contentType() != null) response.setContentType(s.contentType());
+        response.setHeader("Idempotent-Replayed", "true");
+        if (s.body() != null) {
+            byte[] b = s.body().getBytes(StandardCharsets.UTF_8);
+            response.setContentLength(b.length);
+            response.getOutputStream().write(b);
+        }
+    }
+
+    /** 같은 노드 실행 결과: 완료 응답, 실패 시 empty, 대기 시간 초과 시 null */
+    private Optional<IdempotencyStore.Stored> await(CompletableFuture<IdempotencyStore.Stored> f) {
+        try {
+            return Optional.ofNullable(f.get(waitMs, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /** 다른 노드에서 처리 중 → 잠시 폴링. 마지막으로 본 레코드(선점 해제면 empty, 시간 초과면 미완료 레코드) */
+    private Optional<IdempotencyStore.Stored> pollCompleted(String scope) {
+        long deadline = System.currentTimeMillis() + waitMs;
+        long sleep = 25;
+        Optional<IdempotencyStore.Stored> s = store.peek(scope);
+        while (s.isPresent() && !s.get().completed() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(sleep);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            s = store.peek(scope);
+            sleep = Math.min(sleep * 2, 400);
+        }
+        return s;
+    }
+
+    private Idempotent findAnnotation(HttpServletRequest request) {
+        try {
+            HandlerExecutionChain hc = handlerMapping.getHandler(request);
+            if (hc != null && hc.getHandler() instanceof HandlerMethod hm) {
+                return hm.getMethodAnnotation(Idempotent.class);
+            }
+        } catch (Exception ignore) {}
+        return null;
+    }
+
+    private static String principal() {
+        Authentication a = SecurityContextHolder.getContext().getAuthentication();
+        return (a == null || !a.isAuthenticated()) ? "anonymous" : a.getName();
+    }
+
+    private static String requestUri(HttpServletRequest r) {
+        return r.getQueryString() == null ? r.getRequestURI() : r.getRequestURI() + "?" + r.getQueryString();
+    }
+
+    /** 같은 키 요청이 아직 실행 중 → 잠시 후 같은 키로 재시도하도록 503 + Retry-After */
+    private void writeInProgress(HttpServletResponse response) throws IOException {
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.MILLISECONDS.toSeconds(waitMs))));
+        writeError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "IDEMPOTENCY_REQUEST_IN_PROGRESS");
+    }
+
+    private static void writeError(HttpServletResponse response, int status, String code) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("{\"status\":" + status + ",\"message\":\"" + code + "\"}");
+    }
+
+    /** 본문을 미리 읽어 두어 지문 계산 후에도 컨트롤러가 다시 읽을 수 있게 함 */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override public int read() { return in.read(); }
+                @Override public int read(byte[] b, int off, int len) { return in.read(b, off, len); }
+                @Override public boolean isFinished() { return in.available() == 0; }
+                @Override public boolean isReady() { return true; }
+                @Override public void setReadListener(ReadListener listener) {
+                    // 본문이 이미 메모리에 있으므로 바로 읽을 수 있음을 알림
+                    try {
+                        if (!isFinished()) listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.meonjeo.meonjeo.idempotency;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** Redis 장애 시 사용하는 멱등 키 저장소(MySQL) */
+@Entity
+@Table(name = "idempotency_record",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idem_scope", columnNames = "scope_key"),
+        indexes = @Index(name = "idx_idem_expires", columnList = "expires_at"))
+@Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+public class IdempotencyRecord {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** sha256(userId | METHOD path | Idempotency-Key) */
+    @Column(name = "scope_key", length = 64, nullable = false)
+    private String scopeKey;
+
+    /** 요청 지문 sha256(METHOD | URI | body) — 같은 키로 다른 요청을 보내면 거절 */
+    @Column(length = 64, nullable = false)
+    private String fingerprint;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    private Integer httpStatus;
+
+    @Column(length = 120)
+    private String contentType;
+
+    @Lob @Column(columnDefinition = "MEDIUMTEXT")
+    private String body;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+    }
+}
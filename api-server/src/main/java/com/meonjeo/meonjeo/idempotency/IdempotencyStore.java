@@ -0,0 +1,186 @@
+package com.meonjeo.meonjeo.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 멱등 키 저장소
+ * - 기본: Redis idem:{scope} 에 진행 중(IN_PROGRESS) 표시 또는 완료 응답(JSON)을 보관
+ * - Redis 장애 시: idempotency_record 테이블(scope_key 유니크)로 동일하게 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class IdempotencyStore {
+
+    private final StringRedisTemplate redis;
+    private final IdempotencyRecordRepository repo;
+    private final ObjectMapper objectMapper;
+
+    /** 저장 값. completed=false 면 다른 요청이 처리 중 */
+    record Stored(String fingerprint, boolean completed, int status, String contentType, String body) {
+        static Stored inProgress(String fingerprint) { return new Stored(fingerprint, false, 0, null, null); }
+    }
+
+    enum Outcome { ACQUIRED, IN_PROGRESS, COMPLETED }
+
+    /** db=true 면 선점/응답이 idempotency_record 에 있음(Redis 장애 중 선점) */
+    record Claim(Outcome outcome, Stored stored, boolean db) {}
+
+    /** 키 선점 시도. 이미 있으면 기존 상태 반환 */
+    Claim claim(String scope, String fingerprint, Duration lockTtl) {
+        Stored mine = Stored.inProgress(fingerprint);
+        try {
+            Boolean ok = redis.opsForValue().setIfAbsent(redisKey(scope), write(mine), lockTtl);
+            if (Boolean.TRUE.equals(ok)) return new Claim(Outcome.ACQUIRED, mine, false);
+            Optional<Stored> cur = peekRedis(scope);
+            if (cur.isEmpty()) return claim(scope, fingerprint, lockTtl); // 그사이 만료/해제됨
+            if (!cur.get().completed()) {
+                // Redis 장애로 완료 응답이 DB 에만 남았을 수 있음(선점 표시는 lockTtl 까지 남아 있음)
+                Optional<Stored> db = completedInDb(scope);
+                if (db.isPresent()) return existing(db.get(), true);
+            }
+            return existing(cur.get(), false);
+        } catch (Exception e) {
+            log.warn("[idempotency] redis unavailable, falling back to db: {}", e.getMessage());
+            return claimDb(scope, fingerprint, lockTtl);
+        }
+    }
+
+    /**
+     * 완료 응답 저장. Redis 선점이었어도 저장 중 Redis 가 죽으면 DB 레코드로 남김
+     * (선점 행이 없으면 새로 만듦 → 응답을 잃어 재시도가 두 번 실행되는 일 방지)
+     */
+    void complete(String scope, Stored done, Duration ttl) {
+        try {
+            redis.opsForValue().set(redisKey(scope), write(done), ttl);
+        } catch (Exception e) {
+            log.warn("[idempotency] redis unavailable on complete, storing to db: {}", e.getMessage());
+            completeDb(scope, done, ttl);
+        }
+    }
+
+    /** 실패(비 2xx/예외) 시 선점 해제 → 클라이언트 재시도가 다시 실행되도록. DB 행은 DB 선점일 때만 지움 */
+    void release(String scope, boolean db) {
+        if (db) {
+            repo.deleteByScopeKey(scope);
+            return;
+        }
+        try {
+            redis.delete(redisKey(scope));
+        } catch (Exception e) {
+            log.warn("[idempotency] redis unavailable on release: {}", e.getMessage());
+        }
+    }
+
+    /** 다른 노드가 처리 중인 요청의 결과 조회(대기용) */
+    Optional<Stored> peek(String scope) {
+        try {
+            Optional<Stored> cur = peekRedis(scope);
+            if (cur.isPresent() && !cur.get().completed()) {
+                Optional<Stored> db = completedInDb(scope);
+                if (db.isPresent()) return db;
+            }
+            return cur;
+        } catch (Exception e) {
+            return repo.findByScopeKey(scope).map(IdempotencyStore::toStored);
+        }
+    }
+
+    private Claim claimDb(String scope, String fingerprint, Duration lockTtl) {
+        return claimDb(scope, fingerprint, lockTtl, true);
+    }
+
+    private Claim claimDb(String scope, String fingerprint, Duration lockTtl, boolean retryExpired) {
+        try {
+            repo.saveAndFlush(IdempotencyRecord.builder()
+                    .scopeKey(scope)
+                    .fingerprint(fingerprint)
+                    .completed(false)
+                    .expiresAt(LocalDateTime.now().plus(lockTtl))
+                    .build());
+            return new Claim(Outcome.ACQUIRED, Stored.inProgress(fingerprint), true);
+        } catch (DataIntegrityViolationException dup) {
+            IdempotencyRecord r = repo.findByScopeKey(scope).orElse(null);
+            if (r == null) return new Claim(Outcome.IN_PROGRESS, Stored.inProgress(fingerprint), true);
+            if (retryExpired && r.getExpiresAt().isBefore(LocalDateTime.now())) {
+                repo.deleteByScopeKey(scope); // 만료된 선점/응답 → 1회 재시도
+                return claimDb(scope, fingerprint, lockTtl, false);
+            }
+            return existing(toStored(r), true);
+        }
+    }
+
+    private void completeDb(String scope, Stored done, Duration ttl) {
+        IdempotencyRecord r = repo.findByScopeKey(scope)
+                .orElseGet(() -> IdempotencyRecord.builder()
+                        .scopeKey(scope)
+                        .fingerprint(done.fingerprint())
+                        .build());
+        r.setCompleted(true);
+        r.setHttpStatus(done.status());
+        r.setContentType(done.contentType());
+        r.setBody(done.body());
+        r.setExpiresAt(LocalDateTime.now().plus(ttl));
+        try {
+            repo.saveAndFlush(r);
+        } catch (DataIntegrityViolationException dup) {
+            // 같은 키를 다른 노드가 DB 로 선점한 경우 → 그쪽 결과를 우선
+            log.warn("[idempotency] db record already exists on complete: {}", scope);
+        }
+    }
+
+    private Optional<Stored> completedInDb(String scope) {
+        return repo.findByScopeKey(scope)
+                .filter(IdempotencyRecord::isCompleted)
+                .map(IdempotencyStore::toStored);
+    }
+
+    private static Claim existing(Stored s, boolean db) {
+        return new Claim(s.completed() ? Outcome.COMPLETED : Outcome.IN_PROGRESS, s, db);
+    }
+
+    private Optional<Stored> peekRedis(String scope) {
+        String v = redis.opsForValue().get(redisKey(scope));
+        return Optional.ofNullable(v).map(this::read);
+    }
+
+    private static Stored toStored(IdempotencyRecord r) {
+        return new Stored(r.getFingerprint(), r.isCompleted(),
+                r.getHttpStatus() == null ? 0 : r.getHttpStatus(), r.getContentType(), r.getBody());
+    }
+
+    private String write(Stored s) {
+        try {
+            return objectMapper.writeValueAsString(s);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Stored read(String json) {
+        try {
+            return objectMapper.readValue(json, Stored.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String redisKey(String scope) { return "idem:" + scope; }
+
+    /** 매일 04:40 만료된 DB 폴백 레코드 정리 */
+    @Scheduled(cron = "0 40 4 * * *")
+    public void purgeExpired() {
+        int n = repo.deleteExpired(LocalDateTime.now());
+        if (n > 0) log.info("[idempotency] purged {} expired records", n);
+    }
+}
@@ -0,0 +1,17 @@
+package com.meonjeo.meonjeo.idempotency;
+
+import java.lang.annotation.*;
+
+/**
+ * Idempotency-Key 헤더 지원 엔드포인트 표시.
+ * 같은 사용자 + 같은 키로 재요청하면 핸들러를 다시 실행하지 않고 저장된 2xx 응답을 그대로 돌려준다.
+ * 헤더가 없으면 기존과 동일하게 동작.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Idempotent {
+
+    /** 완료 응답 보관 시간(초) */
+    long ttlSeconds() default 86400;
+}
@@ -0,0 +1,117 @@
+package com.meonjeo.meonjeo.inventory;
+
+import com.meonjeo.meonjeo.common.RedisLeaseLock;
+import com.meonjeo.meonjeo.product.ProductRepository;
+import com.meonjeo.meonjeo.product.ProductVariant;
+import com.meonjeo.meonjeo.product.ProductVariantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryReservationJob {
+
+    private static final int CHUNK = 200;
+    private static final String RECONCILE_LOCK = "inventory-reconcile";
+    private static final Duration RECONCILE_LEASE = Duration.ofMinutes(5);
+
+    private final InventoryReservationService reservations;
+    private final ProductVariantRepository variantRepo;
+    private final ProductRepository productRepo;
+    private final RedisLeaseLock lock;
+
+    /** 1차 조회에서 본 미러/DB 값 */
+    private record Observed(String mirror, int dbStock) {}
+
+    /** 1분마다: 결제 대기 시간이 지난 선점 해제 */
+    @Scheduled(fixedDelay = 60_000)
+    public void releaseExpired() {
+        if (!reservations.isEnabled()) return;
+        int released = 0;
+        try {
+            List<String> uids;
+            do {
+                uids = reservations.expiredHolds(CHUNK);
+                uids.forEach(reservations::release);
+                released += uids.size();
+            } while (uids.size() == CHUNK);
+        } catch (Exception e) {
+            log.warn("[inventory] expire sweep failed: {}", e.toString());
+        }
+        if (released > 0) log.info("[inventory] released expired holds={}", released);
+    }
+
+    /**
+     * 10분마다(클러스터 잠금으로 한 노드만): stock 미러를 MySQL stock 기준으로 재조정, 상품 stockTotal 불일치 보고
+     * - 미러는 확정(COMMIT)과 경합하므로 덮어쓰지 않음: 1차로 어긋난 키를 모으고, 전체를 훑은 뒤 다시 읽어
+     *   미러/DB 가 1차와 같을 때만 미러가 그 값 그대로인지 확인하며(Lua) 교정 → 그사이 반영된 선점/확정을 되돌리지 않음
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 60_000)
+    public void reconcile() {
+        if (!reservations.isEnabled()) return;
+        var lease = lock.tryAcquire(RECONCILE_LOCK, RECONCILE_LEASE);
+        if (lease.isEmpty()) return;
+        try (var l = lease.get()) {
+            int corrected = 0, removed = 0, drifted = 0;
+            try {
+                Map<Long, Observed> suspects = new LinkedHashMap<>();
+                List<Long> ids = new ArrayList<>(reservations.trackedVariantIds());
+                for (int from = 0; from < ids.size(); from += CHUNK) {
+                    List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + CHUNK));
+                    Map<Long, String> mirror = reservations.readStockMirror(chunk);
+                    Map<Long, Integer> stock = dbStock(chunk);
+                    for (Long id : chunk) {
+                        Integer s = stock.get(id);
+                        if (s == null) {
+                            reservations.removeStockMirror(id);
+                            removed++;
+                            continue;
+                        }
+                        String m = mirror.get(id);
+                        if (m != null && !m.equals(String.valueOf(s))) suspects.put(id, new Observed(m, s));
+                    }
+                }
+
+                // 2차: 어긋남이 그대로인 키만 교정
+                drifted = suspects.size();
+                List<Long> suspectIds = new ArrayList<>(suspects.keySet());
+                for (int from = 0; from < suspectIds.size(); from += CHUNK) {
+                    List<Long> chunk = suspectIds.subList(from, Math.min(suspectIds.size(), from + CHUNK));
+                    Map<Long, String> mirror = reservations.readStockMirror(chunk);
+                    Map<Long, Integer> stock = dbStock(chunk);
+                    for (Long id : chunk) {
+                        Observed o = suspects.get(id);
+                        if (!o.mirror().equals(mirror.get(id)) || !Objects.equals(o.dbStock(), stock.get(id))) continue;
+                        if (reservations.correctStockMirror(id, o.mirror(), o.dbStock())) {
+                            corrected++;
+                            log.warn("[inventory] stock mirror drift variantId={} mirror={} db={}", id, o.mirror(), o.dbStock());
+                        }
+                    }
+                }
+
+                List<Object[]> drift = productRepo.findStockTotalDrift();
+                for (Object[] row : drift) {
+                    log.warn("[inventory] stockTotal drift productId={} stockTotal={} variantSum={}", row[0], row[1], row[2]);
+                }
+                if (corrected + removed > 0 || !drift.isEmpty()) {
+                    log.info("[inventory] reconcile mirrorDrift={}, corrected={}, removed={}, stockTotalDrift={}",
+                            drifted, corrected, removed, drift.size());
+                }
+            } catch (Exception e) {
+                log.warn("[inventory] reconcile failed: {}", e.toString());
+            }
+        }
+    }
+
+    private Map<Long, Integer> dbStock(List<Long> variantIds) {
+        Map<Long, Integer> stock = new HashMap<>();
+        for (ProductVariant v : variantRepo.findAllById(variantIds)) stock.put(v.getId(), v.getStock());
+        return stock;
+    }
+}
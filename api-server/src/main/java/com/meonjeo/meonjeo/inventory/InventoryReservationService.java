@@ -0,0 +1,253 @@
+package com.meonjeo.meonjeo.inventory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 옵션 조합(ProductVariant) 단위 재고 선점(Redis)
+ * - inv:stock:{variantId}    : MySQL stock 미러(선점 시 없으면 DB 값으로 초기화, 재조정 잡이 어긋난 값만 비교 후 교정)
+ *                              선점 확정 외 경로로 DB stock 이 바뀌면(상품 수정/교환 출고 등) 커밋 후 키를 지워 다음 선점에서 재초기화
+ * - inv:reserved:{variantId} : 결제 대기 중인 선점 수량 합계
+ * - inv:hold:{orderUid}      : 주문별 선점 내역(hash variantId → qty)
+ * - inv:holds                : 만료 시각(epoch sec) 기준 zset → 만료 잡이 해제
+ * 가용 = stock - reserved. 선점/확정/해제는 Lua 스크립트로 원자 처리.
+ * Redis 장애 시에는 선점을 건너뛰고(fail-open) 기존 DB 조건부 차감이 최종 방어선 역할을 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryReservationService {
+
+    static final String HOLDS_KEY = "inv:holds";
+    static final String VARIANTS_KEY = "inv:variants";
+
+    private final StringRedisTemplate redis;
+
+    @Value("${inventory.reservation.enabled:true}")
+    private boolean enabled;
+    @Value("${inventory.reservation.hold-seconds:900}")
+    private long holdSeconds;
+
+    // 재조정: 미러가 관측값 그대로일 때만 DB 값으로 교정(그사이 확정/해제가 반영됐으면 건드리지 않음). ARGV: observed, dbStock
+    private static final DefaultRedisScript<Long> CORRECT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              redis.call('SET', KEYS[1], ARGV[2])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    /** 선점 결과 */
+    public enum ReserveResult { RESERVED, ALREADY_HELD, INSUFFICIENT, SKIPPED }
+
+    // ARGV: orderUid, holdTtlSec, expireAtEpochSec, n, (variantId, qty, dbStock) * n
+    private static final DefaultRedisScript<Long> RESERVE = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return -1 end
+            local n = tonumber(ARGV[4])
+            for i = 0, n - 1 do
+              local vid = ARGV[5 + i * 3]
+              local qty = tonumber(ARGV[6 + i * 3])
+              local sk = 'inv:stock:' .. vid
+              redis.call('SET', sk, ARGV[7 + i * 3], 'NX')
+              local avail = tonumber(redis.call('GET', sk)) - tonumber(redis.call('GET', 'inv:reserved:' .. vid) or '0')
+              if avail < qty then return i + 1 end
+            end
+            for i = 0, n - 1 do
+              local vid = ARGV[5 + i * 3]
+              local qty = tonumber(ARGV[6 + i * 3])
+              redis.call('INCRBY', 'inv:reserved:' .. vid, qty)
+              redis.call('HSET', KEYS[1], vid, qty)
+              redis.call('SADD', KEYS[3], vid)
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+            return 0
+            """, Long.class);
+
+    // 선점 해제(보유분을 reserved에서 되돌림). ARGV: orderUid
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            local kv = redis.call('HGETALL', KEYS[1])
+            for i = 1, #kv, 2 do
+              local rk = 'inv:reserved:' .. kv[i]
+              if redis.call('DECRBY', rk, tonumber(kv[i + 1])) < 0 then redis.call('SET', rk, 0) end
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return #kv / 2
+            """, Long.class);
+
+    // 확정: 보유분 해제 + stock 미러를 실제 차감분만큼 감소. ARGV: orderUid, n, (variantId, qty) * n
+    // 보유 내역이 없으면(이미 확정/만료/선점 생략) 차감분을 알 수 없으므로 미러를 지움 → 재전달되어도 이중 차감되지 않고 다음 선점이 DB 값으로 재초기화
+    private static final DefaultRedisScript<Long> COMMIT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              local n = tonumber(ARGV[2])
+              for i = 0, n - 1 do redis.call('DEL', 'inv:stock:' .. ARGV[3 + i * 2]) end
+              return -1
+            end
+            local kv = redis.call('HGETALL', KEYS[1])
+            for i = 1, #kv, 2 do
+              local rk = 'inv:reserved:' .. kv[i]
+              if redis.call('DECRBY', rk, tonumber(kv[i + 1])) < 0 then redis.call('SET', rk, 0) end
+            end
+            local n = tonumber(ARGV[2])
+            for i = 0, n - 1 do
+              local sk = 'inv:stock:' .. ARGV[3 + i * 2]
+              if redis.call('EXISTS', sk) == 1 then redis.call('DECRBY', sk, tonumber(ARGV[4 + i * 2])) end
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return #kv / 2
+            """, Long.class);
+
+    /**
+     * 주문 품목 수량을 선점. 같은 주문에 대해 두 번 호출하면 ALREADY_HELD(멱등).
+     * 트랜잭션 안에서 호출되면 롤백 시 자동 해제된다.
+     *
+     * @param qtyByVariant variantId → 수량(같은 조합은 합산해서 전달)
+     * @param dbStock      variantId → 현재 MySQL stock (미러 초기화용)
+     */
+    public ReserveResult reserve(String orderUid, Map<Long, Integer> qtyByVariant, Map<Long, Integer> dbStock) {
+        if (!enabled || qtyByVariant.isEmpty()) return ReserveResult.SKIPPED;
+
+        List<String> args = new ArrayList<>();
+        args.add(orderUid);
+        args.add(String.valueOf(holdSeconds + 3600)); // 만료 잡이 읽을 수 있도록 여유를 둠
+        args.add(String.valueOf(Instant.now().getEpochSecond() + holdSeconds));
+        args.add(String.valueOf(qtyByVariant.size()));
+        qtyByVariant.forEach((vid, qty) -> {
+            args.add(String.valueOf(vid));
+            args.add(String.valueOf(qty));
+            args.add(String.valueOf(dbStock.getOrDefault(vid, 0)));
+        });
+
+        Long r;
+        try {
+            r = redis.execute(RESERVE, List.of(holdKey(orderUid), HOLDS_KEY, VARIANTS_KEY), args.toArray());
+        } catch (Exception e) {
+            log.warn("[inventory] reserve skipped (redis unavailable) orderUid={}: {}", orderUid, e.getMessage());
+            return ReserveResult.SKIPPED;
+        }
+        if (r == null) return ReserveResult.SKIPPED;
+        if (r == -1) return ReserveResult.ALREADY_HELD;
+        if (r > 0) return ReserveResult.INSUFFICIENT;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) release(orderUid);
+                }
+            });
+        }
+        return ReserveResult.RESERVED;
+    }
+
+    /** 결제 확정 후(커밋 이후) 선점을 실제 차감으로 전환(멱등) */
+    public void commitAfterCommit(String orderUid, Map<Long, Integer> qtyByVariant) {
+        if (!enabled) return;
+        Runnable task = () -> commit(orderUid, qtyByVariant);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override public void afterCommit() { task.run(); }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /** 선점 확정 외 경로로 DB stock 이 바뀐 조합의 미러를 커밋 후 삭제(다음 선점 때 DB 값으로 재초기화) */
+    public void evictStockMirrorAfterCommit(Collection<Long> variantIds) {
+        if (!enabled || variantIds.isEmpty()) return;
+        List<String> keys = variantIds.stream().map(vid -> "inv:stock:" + vid).toList();
+        Runnable task = () -> {
+            try {
+                redis.delete(keys);
+            } catch (Exception e) {
+                // 재조정 잡이 DB 기준으로 덮어씀
+                log.warn("[inventory] stock mirror evict failed variants={}: {}", variantIds, e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override public void afterCommit() { task.run(); }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private void commit(String orderUid, Map<Long, Integer> qtyByVariant) {
+        List<String> args = new ArrayList<>();
+        args.add(orderUid);
+        args.add(String.valueOf(qtyByVariant.size()));
+        qtyByVariant.forEach((vid, qty) -> {
+            args.add(String.valueOf(vid));
+            args.add(String.valueOf(qty));
+        });
+        try {
+            redis.execute(COMMIT, List.of(holdKey(orderUid), HOLDS_KEY), args.toArray());
+        } catch (Exception e) {
+            // 미러는 재조정 잡이 DB 기준으로 맞춤
+            log.warn("[inventory] commit failed orderUid={}: {}", orderUid, e.getMessage());
+        }
+    }
+
+    /** 결제 실패/취소/만료 시 선점 해제(멱등) */
+    public void release(String orderUid) {
+        if (!enabled) return;
+        try {
+            redis.execute(RELEASE, List.of(holdKey(orderUid), HOLDS_KEY), orderUid);
+        } catch (Exception e) {
+            log.warn("[inventory] release failed orderUid={}: {}", orderUid, e.getMessage());
+        }
+    }
+
+    /** 만료 시각이 지난 선점 주문 UID 목록 */
+    List<String> expiredHolds(int limit) {
+        Set<String> s = redis.opsForZSet().rangeByScore(HOLDS_KEY, 0, Instant.now().getEpochSecond(), 0, limit);
+        return s == null ? List.of() : new ArrayList<>(s);
+    }
+
+    /** 선점 이력이 있는 variantId 목록(재조정 대상) */
+    Set<Long> trackedVariantIds() {
+        Set<String> s = redis.opsForSet().members(VARIANTS_KEY);
+        if (s == null) return Set.of();
+        Set<Long> out = new HashSet<>();
+        for (String v : s) out.add(Long.valueOf(v));
+        return out;
+    }
+
+    /** 현재 stock 미러 값(키 없으면 결과에 없음) */
+    Map<Long, String> readStockMirror(List<Long> variantIds) {
+        List<String> vals = redis.opsForValue().multiGet(variantIds.stream().map(vid -> "inv:stock:" + vid).toList());
+        Map<Long, String> out = new HashMap<>();
+        for (int i = 0; vals != null && i < variantIds.size(); i++) {
+            if (vals.get(i) != null) out.put(variantIds.get(i), vals.get(i));
+        }
+        return out;
+    }
+
+    /** 미러가 observed 그대로면 dbStock 으로 교정. 교정했으면 true */
+    boolean correctStockMirror(Long variantId, String observed, int dbStock) {
+        Long r = redis.execute(CORRECT, List.of("inv:stock:" + variantId), observed, String.valueOf(dbStock));
+        return r != null && r == 1;
+    }
+
+    /** 삭제된 조합의 키 정리 */
+    void removeStockMirror(Long variantId) {
+        redis.delete(List.of("inv:stock:" + variantId, "inv:reserved:" + variantId));
+        redis.opsForSet().remove(VARIANTS_KEY, String.valueOf(variantId));
+    }
+
+    boolean isEnabled() { return enabled; }
+
+    private static String holdKey(String orderUid) { return "inv:hold:" + orderUid; }
+}
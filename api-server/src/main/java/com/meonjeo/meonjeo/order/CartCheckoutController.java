@@ -1,6 +1,7 @@
 package com.meonjeo.meonjeo.order;
 
 import com.meonjeo.meonjeo.cart.CartService;
+import com.meonjeo.meonjeo.idempotency.Idempotent;
 import com.meonjeo.meonjeo.order.dto.CheckoutCartRequest;
 import com.meonjeo.meonjeo.order.dto.CheckoutRequest;
 import com.meonjeo.meonjeo.order.dto.CheckoutResponse;
@@ -20,6 +21,7 @@ public class CartCheckoutController {
     private final OrderService orderService;
 
     @Operation(summary="장바구니 전체 결제(0원 결제 포함)")
+    @Idempotent
     @PostMapping("/cart")
     public CheckoutResponse checkoutCart(@RequestBody @Valid CheckoutCartRequest req){
 
@@ -25,41 +25,13 @@ public class DeliveryAutoConfirmService {
     @Transactional
     public void updateInTransitIfMoved(Long orderId) {
         Order order = orderRepo.findById(orderId).orElse(null);
-        if (order == null) return;
-
-        // 이미 최종 상태면 손대지 않음
-        if (order.getStatus() == OrderStatus.DELIVERED || order.getStatus() == OrderStatus.CONFIRMED) return;
-        if (order.getStatus() == OrderStatus.IN_TRANSIT) return; // 이미 배송중
+        if (order == null || !canMoveToInTransit(order)) return;
 
         // 송장 없으면 판단 불가
         List<OrderShipment> shipments = shipmentRepo.findByOrderId(orderId);
         if (shipments.isEmpty()) return;
 
-        // 주문 전체 이벤트 최신→과거 순으로 한 번에 가져온 뒤, 트래킹별 최신 이벤트만 추려서 검사
-        List<ShipmentEvent> all = eventRepo.findByOrderIdOrderByOccurredAtDesc(orderId);
-        Map<String, ShipmentEvent> latestByTracking = new HashMap<>();
-        for (ShipmentEvent ev : all) {
-            String tno = nz(ev.getTrackingNo());
-            if (!latestByTracking.containsKey(tno)) {
-                latestByTracking.put(tno, ev);
-            }
-        }
-
-        boolean anyMovement = false;
-        for (OrderShipment s : shipments) {
-            String tno = nz(s.getTrackingNo());
-            if (tno.isBlank()) continue;
-            ShipmentEvent latest = latestByTracking.get(tno);
-            if (latest != null && isMovementEvent(latest)) {
-                anyMovement = true;
-                break;
-            }
-        }
-
-        if (anyMovement) {
-            // PAID/READY 등 초기 상태에서만 올려줌 (하위 상태로의 강등 없음)
-            order.setStatus(OrderStatus.IN_TRANSIT);
-        }
+        applyInTransit(order, shipments, latestByTracking(eventRepo.findByOrderIdOrderByOccurredAtDescIdDesc(orderId)));
     }
 
     /** ✅ 모든 송장의 최신 이벤트가 '배송완료'이면 deliveredAt(최초1회) 세팅 + 상태 DELIVERED. */
@@ -68,21 +40,72 @@ public void updateDeliveredIfComplete(Long orderId) {
         Order order = orderRepo.findById(orderId).orElse(null);
         if (order == null) return;
 
-        boolean alreadyConfirmed = order.getStatus() == OrderStatus.CONFIRMED;
-
         List<OrderShipment> shipments = shipmentRepo.findByOrderId(orderId);
         if (shipments.isEmpty()) return;
 
-        boolean allDelivered = true;
-        LocalDateTime latestDeliveredAt = null;
+        // 송장별 조회 대신 주문 단위 1회 조회 후 송장별 최신 이벤트만 사용
+        applyDelivered(order, shipments, latestByTracking(eventRepo.findByOrderIdOrderByOccurredAtDescIdDesc(orderId)));
+    }
+
+    /**
+     * 여러 주문을 한 번에 재평가(배송 이벤트 묶음 적재 후 주문당 1회).
+     * 주문/송장/이벤트를 각각 IN 조회 1회로 읽고 위 두 규칙을 순서대로 적용
+     */
+    @Transactional
+    public void reevaluate(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) return;
+        Map<Long, List<OrderShipment>> shipmentsByOrder = new HashMap<>();
+        for (OrderShipment s : shipmentRepo.findByOrderIdIn(orderIds)) {
+            shipmentsByOrder.computeIfAbsent(s.getOrderId(), k -> new ArrayList<>()).add(s);
+        }
+        Map<Long, List<ShipmentEvent>> eventsByOrder = new HashMap<>();
+        for (ShipmentEvent ev : eventRepo.findByOrderIdInOrderByOccurredAtDescIdDesc(shipmentsByOrder.keySet())) {
+            eventsByOrder.computeIfAbsent(ev.getOrderId(), k -> new ArrayList<>()).add(ev);
+        }
+
+        for (Order order : orderRepo.findAllById(shipmentsByOrder.keySet())) {
+            List<OrderShipment> shipments = shipmentsByOrder.get(order.getId());
+            Map<String, ShipmentEvent> latest = latestByTracking(eventsByOrder.getOrDefault(order.getId(), List.of()));
+            if (canMoveToInTransit(order)) applyInTransit(order, shipments, latest);
+            applyDelivered(order, shipments, latest);
+        }
+    }
+
+    private static boolean canMoveToInTransit(Order order) {
+        // 이미 최종 상태/배송중이면 손대지 않음
+        return order.getStatus() != OrderStatus.DELIVERED
+                && order.getStatus() != OrderStatus.CONFIRMED
+                && order.getStatus() != OrderStatus.IN_TRANSIT;
+    }
+
+    /** 최신→과거 순 이벤트에서 트래킹별 최신 이벤트만 추림 */
+    private Map<String, ShipmentEvent> latestByTracking(List<ShipmentEvent> newestFirst) {
+        Map<String, ShipmentEvent> latest = new HashMap<>();
+        for (ShipmentEvent ev : newestFirst) latest.putIfAbsent(nz(ev.getTrackingNo()), ev);
+        return latest;
+    }
+
+    private void applyInTransit(Order order, List<OrderShipment> shipments, Map<String, ShipmentEvent> latestByTracking) {
+        for (OrderShipment s : shipments) {
+            String tno = nz(s.getTrackingNo());
+            if (tno.isBlank()) continue;
+            ShipmentEvent latest = latestByTracking.get(tno);
+            if (latest != null && isMovementEvent(latest)) {
+                // PAID/READY 등 초기 상태에서만 올려줌 (하위 상태로의 강등 없음)
+                order.setStatus(OrderStatus.IN_TRANSIT);
+                return;
+            }
+        }
+    }
 
+    private void applyDelivered(Order order, List<OrderShipment> shipments, Map<String, ShipmentEvent> latestByTracking) {
+        LocalDateTime latestDeliveredAt = null;
         for (OrderShipment s : shipments) {
             String tno = s.getTrackingNo();
-            if (tno == null || tno.isBlank()) { allDelivered = false; break; }
+            if (tno == null || tno.isBlank()) return;
 
-            List<ShipmentEvent> evs = eventRepo.findByOrderIdAndTrackingNoOrderByOccurredAtDesc(orderId, tno);
-            ShipmentEvent latest = evs.isEmpty() ? null : evs.get(0);
-            if (latest == null || !isDeliveredEvent(latest)) { allDelivered = false; break; }
+            ShipmentEvent latest = latestByTracking.get(tno);
+            if (latest == null || !isDeliveredEvent(latest)) return;
 
             if (latest.getOccurredAt() != null &&
                     (latestDeliveredAt == null || latest.getOccurredAt().isAfter(latestDeliveredAt))) {
@@ -90,12 +113,10 @@ public void updateDeliveredIfComplete(Long orderId) {
             }
         }
 
-        if (!allDelivered) return;
-
         if (order.getDeliveredAt() == null) {
             order.setDeliveredAt(latestDeliveredAt != null ? latestDeliveredAt : LocalDateTime.now());
         }
-        if (!alreadyConfirmed) {
+        if (order.getStatus() != OrderStatus.CONFIRMED) {
             order.setStatus(OrderStatus.DELIVERED);
         }
     }
@@ -1,12 +1,16 @@
 package com.meonjeo.meonjeo.order;
 
 import com.meonjeo.meonjeo.common.OrderStatus;
+import com.meonjeo.meonjeo.order.dto.MyOrderCardResponse;
 import com.meonjeo.meonjeo.order.dto.MyOrderDetailResponse;
+import com.meonjeo.meonjeo.order.dto.MyOrderItemRow;
 import com.meonjeo.meonjeo.order.dto.MyOrderItemView;
+import com.meonjeo.meonjeo.order.dto.MyOrderPageResponse;
 import com.meonjeo.meonjeo.order.dto.MyOrderSummaryResponse;
 import com.meonjeo.meonjeo.order.dto.OrderWindowResponse;
 import com.meonjeo.meonjeo.product.Product;
 import com.meonjeo.meonjeo.product.ProductRepository;
+import com.meonjeo.meonjeo.product.ProductSummaryJdbcRepository;
 import com.meonjeo.meonjeo.security.AuthSupport;
 import com.meonjeo.meonjeo.shipment.Shipment;
 import com.meonjeo.meonjeo.shipment.ShipmentRepository;
@@ -17,6 +21,7 @@
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
@@ -32,6 +37,8 @@
 public class MyOrderController {
 
     private final OrderRepository orderRepo;
+    private final OrderItemRepository orderItemRepo;
+    private final ProductSummaryJdbcRepository productSummaryRepo;
     private final ProductRepository productRepo;
     private final AuthSupport auth;
     private final OrderWindowService windowService;
@@ -55,6 +62,46 @@ public List<MyOrderSummaryResponse> list() {
                 .toList();
     }
 
+    @Operation(summary = "내 주문 목록(커서 페이지네이션, 상태 필터) — beforeId=이전 응답의 nextCursor")
+    @GetMapping("/page")
+    public MyOrderPageResponse<MyOrderSummaryResponse> page(@RequestParam(required = false) Long beforeId,
+                                                            @RequestParam(defaultValue = "20") int size,
+                                                            @RequestParam(required = false) OrderStatus status) {
+        int limit = Math.max(1, Math.min(100, size));
+        List<MyOrderSummaryResponse> rows =
+                orderRepo.findSummaryPage(uid(), beforeId, status, PageRequest.of(0, limit + 1));
+        return toPage(rows, limit, MyOrderSummaryResponse::id);
+    }
+
+    @Operation(summary = "내 주문 목록(커서 페이지네이션) + 품목/썸네일 — 페이지 단위 일괄 조회")
+    @GetMapping("/page/details")
+    public MyOrderPageResponse<MyOrderCardResponse> pageWithItems(@RequestParam(required = false) Long beforeId,
+                                                                  @RequestParam(defaultValue = "10") int size,
+                                                                  @RequestParam(required = false) OrderStatus status) {
+        MyOrderPageResponse<MyOrderSummaryResponse> page = page(beforeId, Math.min(50, size), status);
+        if (page.items().isEmpty()) return new MyOrderPageResponse<>(List.of(), null, false);
+
+        // 페이지 내 모든 주문의 품목 1회 + 상품 썸네일 1회
+        List<Long> orderIds = page.items().stream().map(MyOrderSummaryResponse::id).toList();
+        List<MyOrderItemRow> rows = orderItemRepo.findRowsByOrderIds(orderIds);
+        Map<Long, ProductSummaryJdbcRepository.ProductSummary> products = productSummaryRepo.findSummariesByIds(
+                rows.stream().map(MyOrderItemRow::productId).filter(Objects::nonNull).collect(Collectors.toSet()));
+
+        Map<Long, List<MyOrderItemView>> itemsByOrder = new HashMap<>();
+        for (MyOrderItemRow r : rows) {
+            var product = products.get(r.productId());
+            itemsByOrder.computeIfAbsent(r.orderId(), k -> new ArrayList<>()).add(new MyOrderItemView(
+                    r.id(), r.productId(), r.productName(),
+                    product != null ? product.getThumbnailUrl() : null,
+                    r.unitPrice(), r.qty(), r.optionSnapshotJson()));
+        }
+
+        List<MyOrderCardResponse> cards = page.items().stream()
+                .map(o -> new MyOrderCardResponse(o, itemsByOrder.getOrDefault(o.id(), List.of())))
+                .toList();
+        return new MyOrderPageResponse<>(cards, page.nextCursor(), page.hasNext());
+    }
+
     @Operation(summary = "내 주문 상세")
     @GetMapping("/{id}")
     public MyOrderDetailResponse detail(@PathVariable Long id) {
@@ -263,6 +310,14 @@ private static String extractDesc(Object ev) {
 
     private static String safe(String s) { return s == null ? "" : s; }
 
+    /** limit+1건 조회 결과 → 페이지(초과분이 있으면 hasNext) */
+    private static <T> MyOrderPageResponse<T> toPage(List<T> rows, int limit, java.util.function.Function<T, Long> idOf) {
+        boolean hasNext = rows.size() > limit;
+        List<T> items = hasNext ? rows.subList(0, limit) : rows;
+        Long nextCursor = hasNext ? idOf.apply(items.get(items.size() - 1)) : null;
+        return new MyOrderPageResponse<>(items, nextCursor, hasNext);
+    }
+
     private static String resolveCarrierName(List<ShipmentEvent> eventsAsc, String courierCode) {
         // 이벤트에 이름이 있으면 그걸 우선 사용
         for (ShipmentEvent e : eventsAsc) {
@@ -7,12 +7,23 @@
 import java.time.LocalDateTime;
 import java.util.*;
 
-@Entity @Table(name="orders")
+@Entity
+@Table(name="orders", indexes = {
+        @Index(name = "idx_order_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_order_user_status_id", columnList = "user_id, status, id"),
+        @Index(name = "idx_order_status_delivered", columnList = "status, delivered_at")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Order {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    /** 테이블 hi-lo(pooled) 채번 → insert 전에 id 확정, order_items와 함께 JDBC batch insert 가능 */
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_id_gen")
+    @TableGenerator(name = "order_id_gen", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "next_val", pkColumnValue = "orders", allocationSize = OrderIdGenerators.ALLOCATION_SIZE)
     private Long id;
 
+    /** insert 전에 OrderUidGenerator로 발급 */
+    @Column(unique = true, length = 40)
     private String orderUid;
     private Long userId;
 
@@ -1,74 +1,106 @@
 package com.meonjeo.meonjeo.order;
 
-import com.meonjeo.meonjeo.common.OrderStatus;
-import com.meonjeo.meonjeo.common.ShipmentStatus;
-import com.meonjeo.meonjeo.shipment.Shipment;
-import com.meonjeo.meonjeo.shipment.ShipmentRepository;
+import com.meonjeo.meonjeo.common.RedisLeaseLock;
+import com.meonjeo.meonjeo.order.OrderConfirmJdbcRepository.DueOrder;
+import com.meonjeo.meonjeo.outbox.OutboxPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * 자동 구매확정: 배송완료(교환 재배송 포함 최신 완료 기준) 후 order.auto-confirm.days 가 지난 주문
+ * - 클러스터 잠금(RedisLeaseLock)으로 한 노드만 실행
+ * - delivered_at 이 비어 있는 예전 주문을 청크 단위로 먼저 채움(대상 조회가 delivered_at 범위 조건만 쓰도록)
+ * - id 키셋 청크(chunk-size)마다 짧은 트랜잭션: 잠금 조회 → 일괄 UPDATE → ORDER_CONFIRMED 아웃박스 기록
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderAutoConfirmJob {
 
-    private final ShipmentRepository shipmentRepo;
-    private final OrderRepository orderRepo;
+    private static final String LOCK = "order-auto-confirm";
+    private static final Duration LEASE = Duration.ofMinutes(5);
 
-    /**
-     * 매일 03:10에 실행: 배송완료 + 7일 지난 주문 자동 구매확정
-     * (서버 시간대 기준. @EnableScheduling 필요)
-     */
-    @Transactional
-    @Scheduled(cron = "0 10 3 * * *")
-    public void confirmAfterSevenDays() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime threshold = now.minusDays(7);
-
-        List<Shipment> targets = shipmentRepo.findAllByStatusAndDeliveredAtBefore(
-                ShipmentStatus.DELIVERED, threshold);
-
-        int ok = 0, skip = 0, fail = 0;
-
-        for (Shipment sh : targets) {
-            try {
-                Long orderId = sh.getOrderId();
-                if (orderId == null) { skip++; continue; }
+    private final OrderConfirmJdbcRepository confirmJdbc;
+    private final OutboxPublisher outbox;
+    private final RedisLeaseLock lock;
+    private final TransactionTemplate tx;
 
-                var opt = orderRepo.findById(orderId);
-                if (opt.isEmpty()) { skip++; continue; }
+    @Value("${order.auto-confirm.days:7}")
+    private int days;
+    @Value("${order.auto-confirm.chunk-size:500}")
+    private int chunkSize;
 
-                Order o = opt.get();
-
-                // 이미 확정이면 스킵(멱등)
-                if (o.getStatus() == OrderStatus.CONFIRMED && o.getConfirmedAt() != null) {
-                    skip++; continue;
-                }
-                // 결제 완료 상태만 확정
-                if (o.getStatus() != OrderStatus.PAID) {
-                    skip++; continue;
+    /** 매일 03:10 (서버 시간대 기준) */
+    @Scheduled(cron = "0 10 3 * * *")
+    public void confirmDelivered() {
+        var lease = lock.tryAcquire(LOCK, LEASE);
+        if (lease.isEmpty()) {
+            log.info("[auto-confirm] skipped (lock held by another node or unavailable)");
+            return;
+        }
+        try (var l = lease.get()) {
+            int backfilled = 0;
+            while (true) {
+                Integer n = tx.execute(st -> confirmJdbc.backfillDeliveredAt(chunkSize));
+                if (n == null || n == 0) break;
+                backfilled += n;
+                if (!l.extend(LEASE)) {
+                    log.warn("[auto-confirm] lease lost during delivered_at backfill, stop");
+                    return;
                 }
+            }
+            if (backfilled > 0) log.info("[auto-confirm] delivered_at backfilled={}", backfilled);
 
-                o.setStatus(OrderStatus.CONFIRMED);
-                o.setConfirmedAt(now);
-                orderRepo.save(o);
-                ok++;
-            } catch (Exception e) {
-                fail++;
-                log.warn("Auto-confirm failed: shipmentId={}, orderId={}, reason={}",
-                        sh.getId(), sh.getOrderId(), e.toString());
+            LocalDateTime threshold = LocalDateTime.now().minusDays(days);
+            long t0 = System.nanoTime();
+            long lastId = 0;
+            int confirmed = 0, chunks = 0;
+            while (true) {
+                if (chunks > 0 && !l.extend(LEASE)) {
+                    log.warn("[auto-confirm] lease lost after chunks={}, stop", chunks);
+                    break;
+                }
+                long after = lastId;
+                Chunk c = tx.execute(st -> confirmChunk(after, threshold));
+                if (c == null || c.lastId() == null) break;
+                lastId = c.lastId();
+                confirmed += c.confirmed();
+                chunks++;
+            }
+            long ms = Duration.ofNanos(System.nanoTime() - t0).toMillis();
+            if (confirmed > 0) {
+                log.info("[auto-confirm] threshold={} confirmed={} chunks={} elapsedMs={} perSec={}",
+                        threshold, confirmed, chunks, ms,
+                        String.format("%.1f", ms == 0 ? confirmed : confirmed * 1000.0 / ms));
             }
         }
+    }
+
+    /** lastId = 이번 청크 마지막 id(null 이면 대상 없음) */
+    private record Chunk(Long lastId, int confirmed) {}
+
+    private Chunk confirmChunk(long afterId, LocalDateTime threshold) {
+        List<DueOrder> due = confirmJdbc.lockDue(afterId, threshold, chunkSize);
+        if (due.isEmpty()) return new Chunk(null, 0);
+
+        LocalDateTime now = LocalDateTime.now();
+        int n = confirmJdbc.confirm(due.stream().map(DueOrder::id).toList(), now);
 
-        if (ok + skip + fail > 0) {
-            log.info("[AutoConfirm D+7] threshold={}, ok={}, skip={}, fail={}",
-                    threshold, ok, skip, fail);
+        Map<String, OrderConfirmedEvent> events = new LinkedHashMap<>();
+        for (DueOrder o : due) {
+            events.put(o.orderUid(), new OrderConfirmedEvent(o.id(), o.orderUid(), now, Order.ConfirmationType.AUTO));
         }
+        outbox.publishAll("ORDER", OrderConfirmedEvent.TYPE, events);
+        return new Chunk(due.get(due.size() - 1).id(), n);
     }
 }
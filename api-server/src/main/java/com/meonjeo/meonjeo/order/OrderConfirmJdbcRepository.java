@@ -0,0 +1,62 @@
+package com.meonjeo.meonjeo.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 자동 구매확정 집합 처리
+ * - 대상: DELIVERED + 주문 delivered_at 기준 경과(idx_order_status_delivered 범위 조건) + 교환 재배송 등 출고 중 더 늦게 완료된 건이 없는 주문
+ * - delivered_at 이 비어 있는 예전 주문은 backfillDeliveredAt 으로 먼저 채움(출고 delivered_at 최댓값)
+ * - id 키셋 청크 단위로 잠그고(SKIP LOCKED → 수동 확정 중인 행은 다음 청크/다음 실행) 같은 트랜잭션에서 일괄 UPDATE
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderConfirmJdbcRepository {
+    private final JdbcTemplate jdbc;
+
+    public record DueOrder(Long id, String orderUid) {}
+
+    /** 트랜잭션 안에서 호출(잠금은 커밋까지 유지) */
+    public List<DueOrder> lockDue(long afterId, LocalDateTime deliveredBefore, int limit) {
+        Timestamp before = Timestamp.valueOf(deliveredBefore);
+        return jdbc.query("""
+                select o.id, o.order_uid from orders o
+                 where o.status = 'DELIVERED'
+                   and o.delivered_at < ?
+                   and o.confirmed_at is null and o.id > ?
+                   and not exists (select 1 from shipments s where s.order_id = o.id and s.delivered_at >= ?)
+                 order by o.id
+                 limit ?
+                 for update skip locked
+                """, (rs, i) -> new DueOrder(rs.getLong(1), rs.getString(2)), before, afterId, before, limit);
+    }
+
+    /** delivered_at 이 비어 있는 배송완료 주문에 출고 delivered_at 최댓값을 채움(최대 limit 건). @return 채운 행 수 */
+    public int backfillDeliveredAt(int limit) {
+        return jdbc.update("""
+                update orders o
+                   set o.delivered_at = (select max(s.delivered_at) from shipments s where s.order_id = o.id)
+                 where o.status = 'DELIVERED' and o.delivered_at is null
+                   and exists (select 1 from shipments s where s.order_id = o.id and s.delivered_at is not null)
+                 limit ?
+                """, limit);
+    }
+
+    /** @return 확정된 행 수(잠근 행이므로 보통 ids.size()) */
+    public int confirm(List<Long> ids, LocalDateTime at) {
+        if (ids.isEmpty()) return 0;
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(Timestamp.valueOf(at));
+        args.addAll(ids);
+        return jdbc.update("update orders set status = 'CONFIRMED', confirmed_at = ?, confirmation_type = 'AUTO'"
+                + " where status = 'DELIVERED' and confirmed_at is null and id in ("
+                + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")", args.toArray());
+    }
+}
@@ -0,0 +1,13 @@
+package com.meonjeo.meonjeo.order;
+
+import java.time.LocalDateTime;
+
+/** 구매확정 — 정산 등 후속 처리용(외부 소비자는 아웃박스 스트림 구독) */
+public record OrderConfirmedEvent(
+        Long orderId,
+        String orderUid,
+        LocalDateTime confirmedAt,
+        Order.ConfirmationType confirmationType
+) {
+    public static final String TYPE = "ORDER_CONFIRMED";
+}
@@ -1,5 +1,6 @@
 package com.meonjeo.meonjeo.order;
 
+import com.meonjeo.meonjeo.idempotency.Idempotent;
 import com.meonjeo.meonjeo.order.dto.CheckoutRequest;
 import com.meonjeo.meonjeo.order.dto.CheckoutResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,6 +18,7 @@ public class OrderController {
     private final OrderService orderService;
 
     @Operation(summary="체크아웃(포인트 전액/지정액 사용 지원, 0원 결제 허용)")
+    @Idempotent
     @PostMapping("/checkout")
     public CheckoutResponse checkout(@RequestBody @Valid CheckoutRequest req) {
         return orderService.checkout(req);
@@ -0,0 +1,38 @@
+package com.meonjeo.meonjeo.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * orders / order_items 채번 테이블(id_generators) 정렬
+ * - IDENTITY → TABLE 전략 전환 이전에 쌓인 AUTO_INCREMENT id와 겹치지 않도록
+ *   기동 시 next_val을 max(id) + allocationSize 이상으로 올려 둠(이미 크면 그대로)
+ * - 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 실행 → 정렬 전 값으로 채번되는 체크아웃이 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderIdGenerators implements SmartInitializingSingleton {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbc;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        align("orders", "orders");
+        align("order_items", "order_items");
+    }
+
+    private void align(String genName, String table) {
+        Long floor = jdbc.queryForObject(
+                "select coalesce(max(id), 0) + 1 + ? from " + table, Long.class, ALLOCATION_SIZE);
+        jdbc.update("insert ignore into id_generators(gen_name, next_val) values (?, ?)", genName, floor);
+        int n = jdbc.update("update id_generators set next_val = ? where gen_name = ? and next_val < ?",
+                floor, genName, floor);
+        if (n > 0) log.info("[id-gen] {} next_val raised to {}", genName, floor);
+    }
+}
@@ -6,7 +6,10 @@
 @Entity @Table(name="order_items")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class OrderItem {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_item_id_gen")
+    @TableGenerator(name = "order_item_id_gen", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "next_val", pkColumnValue = "order_items", allocationSize = OrderIdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(optional=false) @JoinColumn(name="order_id")
@@ -14,6 +17,10 @@ public class OrderItem {
 
     private Long productId;
 
+    /** 주문 시점에 확정된 옵션 조합(ProductVariant) id. 결제 확정 시 옵션 재해석 없이 차감 (레거시 행은 null) */
+    @Column(name = "variant_id")
+    private Long variantId;
+
     /** 주문 시점의 상품 소유 셀러(userId) 스냅샷 */
     @Column(name = "seller_id", nullable = false)
     private Long sellerId;
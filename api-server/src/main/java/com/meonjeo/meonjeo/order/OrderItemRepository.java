@@ -1,15 +1,27 @@
 package com.meonjeo.meonjeo.order;
 
+import com.meonjeo.meonjeo.order.dto.MyOrderItemRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
+    /** 여러 주문의 품목을 한 번에(projection). 주문 목록 페이지용 */
+    @Query("""
+        select new com.meonjeo.meonjeo.order.dto.MyOrderItemRow(
+            oi.order.id, oi.id, oi.productId, oi.productNameSnapshot, oi.unitPrice, oi.qty, oi.optionSnapshotJson)
+        from OrderItem oi
+        where oi.order.id in :orderIds
+        order by oi.id
+    """)
+    List<MyOrderItemRow> findRowsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
     // (기존 메소드)
     Optional<OrderItem> findByIdAndOrderUserId(Long orderItemId, Long userId);
 
@@ -0,0 +1,65 @@
+package com.meonjeo.meonjeo.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meonjeo.meonjeo.inventory.InventoryReservationService;
+import com.meonjeo.meonjeo.order.PointLedgerPort.LedgerWrite;
+import com.meonjeo.meonjeo.outbox.OutboxBatchHandler;
+import com.meonjeo.meonjeo.outbox.OutboxEvent;
+import com.meonjeo.meonjeo.outbox.OutboxHandler;
+import com.meonjeo.meonjeo.product.ProductDetailCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** 주문/결제 아웃박스 이벤트 핸들러(모두 멱등) */
+@Configuration
+public class OrderOutboxHandlers {
+
+    @Bean
+    OutboxHandler orderPaidHandler(ObjectMapper objectMapper,
+                                   InventoryReservationService inventory,
+                                   ProductDetailCache productDetailCache) {
+        return new OutboxHandler() {
+            @Override public String eventType() { return OrderPaidEvent.TYPE; }
+
+            @Override public void handle(OutboxEvent event) throws Exception {
+                OrderPaidEvent e = objectMapper.readValue(event.getPayload(), OrderPaidEvent.class);
+                inventory.commitAfterCommit(e.orderUid(), e.qtyByVariant());
+                productDetailCache.evictAfterCommit(e.productIds());
+            }
+        };
+    }
+
+    /** 환급은 모아서 원장 일괄 기록(applyAll, refKey 유니크로 재전달되어도 1회만 반영) */
+    @Bean
+    OutboxHandler orderPointRefundHandler(ObjectMapper objectMapper, PointLedgerPort pointLedger) {
+        return new OutboxBatchHandler() {
+            @Override public String eventType() { return OrderPointRefundEvent.TYPE; }
+
+            @Override public void handleAll(List<OutboxEvent> events) throws Exception {
+                List<LedgerWrite> writes = new ArrayList<>(events.size());
+                for (OutboxEvent event : events) {
+                    OrderPointRefundEvent e = objectMapper.readValue(event.getPayload(), OrderPointRefundEvent.class);
+                    if (e.amount() <= 0) continue;
+                    writes.add(new LedgerWrite(e.userId(), e.amount(), "ORDER_PAY_PRE_ROLLBACK", "order:pre:" + e.orderId()));
+                }
+                pointLedger.applyAll(writes);
+            }
+        };
+    }
+
+    /**
+     * 구매확정 — 서버 안 후속 처리 없음(정산은 confirmedAt 기준 조회).
+     * 전달 완료로 표시되어 outbox.stream.enabled 시 외부 정산 소비자에게 스트림으로 흘러감
+     */
+    @Bean
+    OutboxHandler orderConfirmedHandler() {
+        return new OutboxHandler() {
+            @Override public String eventType() { return OrderConfirmedEvent.TYPE; }
+
+            @Override public void handle(OutboxEvent event) { }
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.meonjeo.meonjeo.order;
+
+import java.util.List;
+import java.util.Map;
+
+/** 결제 확정(READY 승격) 커밋 후 처리할 부수 효과: 재고 선점 확정 + 상품 상세 캐시 무효화 */
+public record OrderPaidEvent(
+        String orderUid,
+        Map<Long, Integer> qtyByVariant,
+        List<Long> productIds
+) {
+    public static final String TYPE = "ORDER_PAID";
+}
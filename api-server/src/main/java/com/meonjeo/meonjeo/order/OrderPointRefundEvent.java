@@ -0,0 +1,10 @@
+package com.meonjeo.meonjeo.order;
+
+/** 결제 실패/취소 시 선차감 포인트 환급 */
+public record OrderPointRefundEvent(
+        Long orderId,
+        Long userId,
+        int amount
+) {
+    public static final String TYPE = "ORDER_POINT_REFUND";
+}
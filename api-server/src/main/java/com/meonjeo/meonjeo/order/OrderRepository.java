@@ -1,6 +1,7 @@
 package com.meonjeo.meonjeo.order;
 
 import com.meonjeo.meonjeo.common.OrderStatus;
+import com.meonjeo.meonjeo.order.dto.MyOrderSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
@@ -16,6 +17,21 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByUserIdOrderByIdDesc(Long userId);
     Optional<Order> findByIdAndUserId(Long id, Long userId);
 
+    /** 내 주문 요약(키셋: id desc). (user_id, id) / (user_id, status, id) 인덱스 사용 */
+    @Query("""
+        select new com.meonjeo.meonjeo.order.dto.MyOrderSummaryResponse(
+            o.id, o.orderUid, o.status, o.totalPrice, o.usedPoint, o.payAmount, o.createdAt)
+        from Order o
+        where o.userId = :uid
+          and (:beforeId is null or o.id < :beforeId)
+          and (:status is null or o.status = :status)
+        order by o.id desc
+    """)
+    List<MyOrderSummaryResponse> findSummaryPage(@Param("uid") Long userId,
+                                                 @Param("beforeId") Long beforeId,
+                                                 @Param("status") OrderStatus status,
+                                                 Pageable pageable);
+
     @Query("select distinct o from Order o left join fetch o.items where o.id=:id and o.userId=:uid")
     Optional<Order> findDetailForUser(@Param("id") Long id, @Param("uid") Long userId);
 
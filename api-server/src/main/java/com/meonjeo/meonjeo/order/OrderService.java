@@ -5,13 +5,19 @@
 import com.meonjeo.meonjeo.address.UserAddress;
 import com.meonjeo.meonjeo.address.UserAddressRepository;
 import com.meonjeo.meonjeo.common.OrderStatus;
+import com.meonjeo.meonjeo.inventory.InventoryReservationService;
 import com.meonjeo.meonjeo.order.dto.CheckoutItem;
 import com.meonjeo.meonjeo.order.dto.CheckoutRequest;
 import com.meonjeo.meonjeo.order.dto.CheckoutResponse;
+import com.meonjeo.meonjeo.outbox.OutboxPublisher;
 import com.meonjeo.meonjeo.product.Product;
 import com.meonjeo.meonjeo.product.ProductRepository;
 import com.meonjeo.meonjeo.product.ProductVariant;
 import com.meonjeo.meonjeo.product.ProductVariantRepository;
+import com.meonjeo.meonjeo.product.ProductVariantResolver;
+import com.meonjeo.meonjeo.product.ProductVariantResolver.VariantLookup;
+import com.meonjeo.meonjeo.product.StockJdbcRepository;
+import com.meonjeo.meonjeo.product.VariantKey;
 import com.meonjeo.meonjeo.security.AuthSupport;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -19,9 +25,7 @@
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 @Service
@@ -31,6 +35,11 @@ public class OrderService {
     private final OrderRepository orderRepo;
     private final ProductRepository productRepo;
     private final ProductVariantRepository variantRepo;
+    private final ProductVariantResolver variantResolver;
+    private final InventoryReservationService inventory;
+    private final StockJdbcRepository stockRepo;
+    private final OrderUidGenerator orderUidGenerator;
+    private final OutboxPublisher outbox;
     private final UserAddressRepository addressRepo;
     private final PointLedgerPort pointLedger;
     private final ObjectMapper objectMapper;
@@ -75,22 +84,38 @@ public CheckoutResponse checkout(CheckoutRequest req) {
         // 배송 요청사항 서버측 방어
         String safeMemo = sanitizeMemo(req.requestMemo());
 
-        boolean allItemsAreIntangible = true; // 모든 상품이 무형자산인지 확인하는 플래그
+        // 1) 일괄 로딩: 상품 IN 1회 + 옵션 조합 IN 1회
         for (CheckoutItem ci : req.items()) {
-            Product p = productRepo.findById(ci.productId())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "PRODUCT_NOT_FOUND: " + ci.productId()));
+            if (ci.qty() < 1)
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "QTY_MIN_1");
+        }
+        Set<Long> productIds = new LinkedHashSet<>();
+        req.items().forEach(ci -> productIds.add(ci.productId()));
 
-            // '무형자산'이 아닌 상품이 하나라도 있으면 플래그를 false로 변경하고 반복 중단
-            if (!"무형자산".equals(p.getCategory())) {
-                allItemsAreIntangible = false;
-                break;
-            }
+        Map<Long, Product> products = new HashMap<>();
+        productRepo.findAllById(productIds).forEach(p -> products.put(p.getId(), p));
+
+        Map<Long, List<ProductVariant>> variantsByProduct = new HashMap<>();
+        for (ProductVariant v : variantRepo.findByProductIdIn(productIds)) {
+            variantsByProduct.computeIfAbsent(v.getProduct().getId(), k -> new ArrayList<>()).add(v);
+        }
+
+        // 2) 검증/가격 계산(메모리)
+        List<CheckoutLine> lines = new ArrayList<>(req.items().size());
+        for (CheckoutItem ci : req.items()) {
+            Product p = products.get(ci.productId());
+            if (p == null)
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "PRODUCT_NOT_FOUND: " + ci.productId());
+            lines.add(priceLine(p, variantsByProduct.getOrDefault(p.getId(), List.of()), ci));
         }
 
         // 모든 상품이 무형자산일 경우 배송비를 0원으로, 그렇지 않으면 3000원으로 설정
+        boolean allItemsAreIntangible = lines.stream().allMatch(l -> "무형자산".equals(l.product().getCategory()));
         int shippingFee = allItemsAreIntangible ? 0 : FLAT_SHIPPING_FEE;
 
+        // 3) 영속화
         Order order = Order.builder()
+                .orderUid(orderUidGenerator.next())
                 .userId(userId)
                 .status(OrderStatus.PENDING)
                 .receiver(addr.getReceiver())
@@ -106,66 +131,21 @@ public CheckoutResponse checkout(CheckoutRequest req) {
 
         int total = 0; // 상품 총액
 
-        for (CheckoutItem ci : req.items()) {
-            if (ci.qty() < 1)
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "QTY_MIN_1");
-
-            Product p = productRepo.findById(ci.productId())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "PRODUCT_NOT_FOUND: " + ci.productId()));
-
-            String[] labels = { p.getOption1Name(), p.getOption2Name(), p.getOption3Name(), p.getOption4Name(), p.getOption5Name() };
-            boolean hasAnyLabel = Arrays.stream(labels).anyMatch(Objects::nonNull);
-
-            Map<String,String> optMap = normalize(ci.options());
-            String[] vals;
-
-            if (hasAnyLabel) {
-                if (optMap.isEmpty()) {
-                    List<ProductVariant> all = variantRepo.findByProductId(p.getId());
-                    if (all.size() == 1) {
-                        ProductVariant only = all.get(0);
-                        vals = new String[]{ only.getOption1Value(), only.getOption2Value(), only.getOption3Value(),
-                                only.getOption4Value(), only.getOption5Value() };
-                    } else {
-                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                                "OPTION_REQUIRED: " + Arrays.toString(effectiveLabels(labels)));
-                    }
-                } else {
-                    vals = mapToValues(labels, optMap);
-                }
-            } else {
-                vals = new String[5];
-            }
-
-            ProductVariant v = variantRepo.matchOne(p.getId(), vals[0], vals[1], vals[2], vals[3], vals[4])
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                            "VARIANT_NOT_FOUND: " + snapshotKey(labels, vals)));
-
-            if (v.getStock() < ci.qty())
-                throw new ResponseStatusException(HttpStatus.CONFLICT, "OUT_OF_STOCK: " + snapshotKey(labels, vals));
-
-            // 옵션가 ±50% 2차 방어
-            int baseForCheck = (p.getSalePrice() > 0 ? p.getSalePrice() : p.getBasePrice());
-            int limit = (int)Math.ceil(baseForCheck * 0.5);
-            if (Math.abs(v.getAddPrice()) > limit) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "OPTION_ADD_PRICE_EXCEEDS_50PCT");
-            }
-
-            int unit = baseForCheck + v.getAddPrice();
-            String optionSnapshotJson = snapshotJson(labels, vals);
-
+        for (CheckoutLine l : lines) {
+            Product p = l.product();
             order.getItems().add(OrderItem.builder()
                     .order(order)
                     .productId(p.getId())
+                    .variantId(l.variant().getId())
                     .sellerId(p.getSellerId())
                     .productNameSnapshot(p.getName())
-                    .unitPrice(unit)
-                    .qty(ci.qty())
+                    .unitPrice(l.unitPrice())
+                    .qty(l.qty())
                     .feedbackPointSnapshot(p.getFeedbackPoint())
-                    .optionSnapshotJson(optionSnapshotJson)
+                    .optionSnapshotJson(snapshotJson(l.labels(), l.values()))
                     .build());
 
-            total += unit * ci.qty();
+            total += l.unitPrice() * l.qty();
         }
 
         // 결제 대상: 상품합계 + 배송비
@@ -182,9 +162,19 @@ public CheckoutResponse checkout(CheckoutRequest req) {
         order.setUsedPoint(usePoint);
         order.setPayAmount(pay);
 
+        // UID는 미리 발급 → insert 1회(order_items는 batch insert)
         Order saved = orderRepo.save(order);
-        saved.setOrderUid(newOrderUid(saved.getId()));
-        orderRepo.save(saved);
+
+        // 결제 대기 시간 동안 재고 선점(동시 구매 시 결제 승인 단계 재고 부족 방지)
+        Map<Long, Integer> qtyByVariant = new LinkedHashMap<>();
+        Map<Long, Integer> dbStock = new HashMap<>();
+        for (CheckoutLine l : lines) {
+            qtyByVariant.merge(l.variant().getId(), l.qty(), Integer::sum);
+            dbStock.put(l.variant().getId(), l.variant().getStock());
+        }
+        if (inventory.reserve(saved.getOrderUid(), qtyByVariant, dbStock) == InventoryReservationService.ReserveResult.INSUFFICIENT) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "OUT_OF_STOCK_RESERVED");
+        }
 
         // 포인트 선차감(멱등)
         if (usePoint > 0) {
@@ -223,30 +213,36 @@ public void finalizePaidByUid(String orderUid, int paidAmount) {
         }
 
         // 재고 차감 (PENDING/PAID 등 초기 상태에서만)
+        // 같은 조합/상품은 합산, id 오름차순으로 일괄 UPDATE → 동시 주문 간 잠금 순서 고정
+        SortedMap<Long, Integer> committed = new TreeMap<>();
+        SortedMap<Long, Integer> byProduct = new TreeMap<>();
+        Map<OrderItem, Long> legacy = resolveLegacyVariantIds(o.getItems());
         for (OrderItem it : o.getItems()) {
-            Product p = productRepo.findById(it.getProductId())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "PRODUCT_NOT_FOUND"));
-
-            String[] labels = { p.getOption1Name(), p.getOption2Name(), p.getOption3Name(), p.getOption4Name(), p.getOption5Name() };
-            String[] vals = valuesFromSnapshot(labels, it.getOptionSnapshotJson());
-
-            ProductVariant v = variantRepo.matchOne(p.getId(), vals[0], vals[1], vals[2], vals[3], vals[4])
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.CONFLICT,
-                            "PAID_FINALIZE_VARIANT_MISSING: " + snapshotKey(labels, vals)));
+            Long variantId = (it.getVariantId() != null) ? it.getVariantId() : legacy.get(it);
+            committed.merge(variantId, it.getQty(), Integer::sum);
+            byProduct.merge(it.getProductId(), it.getQty(), Integer::sum);
+        }
 
-            int updated = variantRepo.decreaseStockIfEnough(v.getId(), it.getQty());
-            if (updated != 1) {
+        int[] updated = stockRepo.decreaseVariantStocks(committed);
+        Iterator<Long> vids = committed.keySet().iterator();
+        for (int r : updated) {
+            Long vid = vids.next();
+            if (r != 1) {
                 throw new ResponseStatusException(HttpStatus.CONFLICT,
-                        "PAID_FINALIZE_OUT_OF_STOCK_OR_RACE: " + snapshotKey(labels, vals));
+                        "PAID_FINALIZE_OUT_OF_STOCK_OR_RACE: variantId=" + vid);
             }
-            // ✅ 상품 총재고도 함께 감소
-            int updatedTotal = productRepo.decreaseStockTotalIfEnough(p.getId(), it.getQty());
-            if (updatedTotal != 1) {
+        }
+        // ✅ 상품 총재고도 함께 감소
+        for (int r : stockRepo.decreaseProductStockTotals(byProduct)) {
+            if (r != 1) {
                 // 여기로 오면 SKU는 줄었는데 총재고가 경합으로 실패 → 운영상 안전하게 롤백시키려면 RuntimeException 던져 트랜잭션 전체 롤백
                 throw new ResponseStatusException(HttpStatus.CONFLICT,
                         "PAID_FINALIZE_STOCKTOTAL_RACE_OR_INCONSISTENT");
             }
         }
+        // 선점 확정 + 상품 상세 캐시 무효화는 아웃박스로(커밋 후 비동기, 실패 시 재시도)
+        outbox.publish("ORDER", orderUid, OrderPaidEvent.TYPE,
+                new OrderPaidEvent(orderUid, committed, new ArrayList<>(byProduct.keySet())));
 
         // 승인 금액 반영 + READY로 승격
         o.setPayAmount(paidAmount);
@@ -254,6 +250,39 @@ public void finalizePaidByUid(String orderUid, int paidAmount) {
         orderRepo.save(o);
     }
 
+    /** variantId 컬럼 도입 이전 주문: 옵션 스냅샷으로 조합 재해석(상품/조합 각각 IN 조회 1회) */
+    private Map<OrderItem, Long> resolveLegacyVariantIds(List<OrderItem> items) {
+        List<OrderItem> legacy = items.stream().filter(it -> it.getVariantId() == null).toList();
+        if (legacy.isEmpty()) return Map.of();
+
+        Set<Long> productIds = new HashSet<>();
+        legacy.forEach(it -> productIds.add(it.getProductId()));
+        Map<Long, Product> products = new HashMap<>();
+        productRepo.findAllById(productIds).forEach(p -> products.put(p.getId(), p));
+
+        Map<OrderItem, VariantLookup> lookups = new IdentityHashMap<>();
+        Map<OrderItem, String> keys = new IdentityHashMap<>();
+        for (OrderItem it : legacy) {
+            Product p = products.get(it.getProductId());
+            if (p == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "PRODUCT_NOT_FOUND");
+            String[] labels = { p.getOption1Name(), p.getOption2Name(), p.getOption3Name(), p.getOption4Name(), p.getOption5Name() };
+            String[] vals = valuesFromSnapshot(labels, it.getOptionSnapshotJson());
+            lookups.put(it, VariantLookup.of(p.getId(), vals));
+            keys.put(it, snapshotKey(labels, vals));
+        }
+
+        Map<VariantLookup, ProductVariant> found = variantResolver.resolveAll(lookups.values());
+        Map<OrderItem, Long> out = new IdentityHashMap<>();
+        for (OrderItem it : legacy) {
+            ProductVariant v = found.get(lookups.get(it));
+            if (v == null) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "PAID_FINALIZE_VARIANT_MISSING: " + keys.get(it));
+            }
+            out.put(it, v.getId());
+        }
+        return out;
+    }
+
     // 호환용(Long id) — 내부적으로 UID 버전 호출
     @Deprecated
     @Transactional
@@ -276,11 +305,59 @@ public void rollbackPointLockByUid(String orderUid){
         Order o = orderRepo.findByOrderUid(orderUid)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "ORDER_NOT_FOUND"));
         if (o.getUsedPoint() > 0) {
-            pointLedger.accrue(o.getUserId(), o.getUsedPoint(), "ORDER_PAY_PRE_ROLLBACK", "order:pre:"+o.getId());
+            // 환급 적립은 아웃박스로(원장 refKey 유니크로 재전달되어도 1회만 반영)
+            outbox.publish("ORDER", orderUid, OrderPointRefundEvent.TYPE,
+                    new OrderPointRefundEvent(o.getId(), o.getUserId(), o.getUsedPoint()));
         }
+        // 재고 선점 해제(멱등)
+        inventory.release(orderUid);
     }
 
     // ===== helpers =====
+    /** 검증을 마친 주문 품목(상품/옵션 조합/단가) */
+    private record CheckoutLine(Product product, ProductVariant variant, String[] labels, String[] values,
+                                int unitPrice, int qty) {}
+
+    /** 미리 로딩된 옵션 조합 중에서 품목의 조합을 찾아 재고/옵션가 검증 후 단가 계산 */
+    private static CheckoutLine priceLine(Product p, List<ProductVariant> variants, CheckoutItem ci) {
+        String[] labels = { p.getOption1Name(), p.getOption2Name(), p.getOption3Name(), p.getOption4Name(), p.getOption5Name() };
+        String[] vals = requestedValues(labels, variants, normalize(ci.options()));
+
+        String key = VariantKey.of(vals);
+        ProductVariant v = variants.stream()
+                .filter(x -> key.equals(x.getVariantKey() != null ? x.getVariantKey() : VariantKey.of(x)))
+                .findFirst()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "VARIANT_NOT_FOUND: " + snapshotKey(labels, vals)));
+
+        if (v.getStock() < ci.qty())
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "OUT_OF_STOCK: " + snapshotKey(labels, vals));
+
+        // 옵션가 ±50% 2차 방어
+        int baseForCheck = (p.getSalePrice() > 0 ? p.getSalePrice() : p.getBasePrice());
+        int limit = (int)Math.ceil(baseForCheck * 0.5);
+        if (Math.abs(v.getAddPrice()) > limit) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "OPTION_ADD_PRICE_EXCEEDS_50PCT");
+        }
+
+        return new CheckoutLine(p, v, labels, vals, baseForCheck + v.getAddPrice(), ci.qty());
+    }
+
+    private static String[] requestedValues(String[] labels, List<ProductVariant> variants, Map<String,String> optMap) {
+        boolean hasAnyLabel = Arrays.stream(labels).anyMatch(Objects::nonNull);
+        if (!hasAnyLabel) return new String[5];
+        if (!optMap.isEmpty()) return mapToValues(labels, optMap);
+
+        // 옵션 미지정: 조합이 하나뿐이면 그 조합으로 간주
+        if (variants.size() == 1) {
+            ProductVariant only = variants.get(0);
+            return new String[]{ only.getOption1Value(), only.getOption2Value(), only.getOption3Value(),
+                    only.getOption4Value(), only.getOption5Value() };
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "OPTION_REQUIRED: " + Arrays.toString(effectiveLabels(labels)));
+    }
+
     private static Map<String,String> normalize(Map<String,String> in){
         if (in == null || in.isEmpty()) return Collections.emptyMap();
         Map<String,String> out = new LinkedHashMap<>();
@@ -342,12 +419,6 @@ private static String snapshotKey(String[] labels, String[] vals) {
         return sb.toString();
     }
 
-    private static String newOrderUid(Long id) {
-        String date = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
-        String rand = UUID.randomUUID().toString().replace("-", "").substring(0, 6).toUpperCase();
-        return "ORD-" + date + "-" + String.format("%08d", id) + "-" + rand;
-    }
-
     private static String sanitizeMemo(String s) {
         if (s == null) return null;
         String t = s.trim();
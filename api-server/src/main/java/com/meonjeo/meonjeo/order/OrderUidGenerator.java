@@ -0,0 +1,89 @@
+package com.meonjeo.meonjeo.order;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 주문 UID 생성기(Snowflake 방식) — DB insert 전에 UID를 확정하기 위함
+ * - 41bit: 기준 시각(2025-01-01) 이후 경과 ms
+ * - 10bit: 노드 id (order.uid.node-id 또는 ORDER_UID_NODE_ID, 0~1023). prod 프로필에서는 필수(미설정/범위 밖이면 기동 실패),
+ *          그 외 프로필은 미설정 시 호스트명+PID 해시(노드 간 충돌 가능 → 로컬/단일 노드 전용)
+ * - 12bit: 같은 ms 내 순번(소진 시 다음 ms까지 대기)
+ * 같은 노드에서는 단조 증가, 노드 id가 다르면 충돌 없음. 시계가 뒤로 가면 마지막 시각 기준으로 계속 발급.
+ * 형식: ORD-yyyyMMdd-{id(10진수)}
+ */
+@Slf4j
+@Component
+public class OrderUidGenerator {
+
+    private static final long EPOCH_MS = 1735657200000L; // 2025-01-01T00:00:00+09:00
+    private static final int NODE_BITS = 10;
+    private static final int SEQ_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long SEQ_MASK = (1L << SEQ_BITS) - 1;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final long nodeId;
+    private long lastMs = -1L;
+    private long seq = 0L;
+
+    @Autowired
+    public OrderUidGenerator(@Value("${order.uid.node-id:-1}") long configuredNodeId, Environment env) {
+        this(resolveNodeId(configuredNodeId, env.acceptsProfiles(Profiles.of("prod"))));
+    }
+
+    OrderUidGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE) throw new IllegalArgumentException("nodeId out of range: " + nodeId);
+        this.nodeId = nodeId;
+        log.info("[order-uid] nodeId={}", nodeId);
+    }
+
+    static long resolveNodeId(long configuredNodeId, boolean requireExplicit) {
+        if (configuredNodeId > MAX_NODE || (configuredNodeId < 0 && requireExplicit)) {
+            throw new IllegalStateException("order.uid.node-id must be set to 0.." + MAX_NODE
+                    + (requireExplicit ? " (required in prod, unique per node)" : "") + ": " + configuredNodeId);
+        }
+        if (configuredNodeId >= 0) return configuredNodeId;
+        long derived = derivedNodeId();
+        log.warn("[order-uid] order.uid.node-id not set, derived nodeId={} from host/pid (may collide across nodes)", derived);
+        return derived;
+    }
+
+    public String next() {
+        long id = nextId();
+        long ms = (id >>> (NODE_BITS + SEQ_BITS)) + EPOCH_MS;
+        String date = LocalDate.ofInstant(java.time.Instant.ofEpochMilli(ms), ZONE).format(DateTimeFormatter.BASIC_ISO_DATE);
+        return "ORD-" + date + "-" + id;
+    }
+
+    synchronized long nextId() {
+        long now = Math.max(System.currentTimeMillis(), lastMs); // 시계 역행 방어
+        if (now == lastMs) {
+            seq = (seq + 1) & SEQ_MASK;
+            if (seq == 0) {
+                while ((now = System.currentTimeMillis()) <= lastMs) Thread.onSpinWait();
+            }
+        } else {
+            seq = 0;
+        }
+        lastMs = now;
+        return ((now - EPOCH_MS) << (NODE_BITS + SEQ_BITS)) | (nodeId << SEQ_BITS) | seq;
+    }
+
+    private static long derivedNodeId() {
+        String host;
+        try { host = InetAddress.getLocalHost().getHostName(); } catch (Exception e) { host = "unknown"; }
+        String pid = ManagementFactory.getRuntimeMXBean().getName();
+        return (host + "/" + pid).hashCode() & MAX_NODE;
+    }
+}
@@ -1,7 +1,18 @@
 package com.meonjeo.meonjeo.order;
 
+import java.util.List;
+
 public interface PointLedgerPort {
     int getBalance(Long userId);
-    void spend(Long userId, int amount, String reason, String refKey);
-    void accrue(Long userId, int amount, String reason, String refKey);
+
+    /** 새로 차감했으면 true, 같은 (user, reason, refKey)가 이미 있으면 false */
+    boolean spend(Long userId, int amount, String reason, String refKey);
+
+    /** 새로 적립했으면 true, 같은 (user, reason, refKey)가 이미 있으면 false */
+    boolean accrue(Long userId, int amount, String reason, String refKey);
+
+    /** 다건 기록(적립 보상 일괄 지급/환급 등). amount 는 부호 포함. 반환값은 새로 기록된 건수 */
+    int applyAll(List<LedgerWrite> writes);
+
+    record LedgerWrite(Long userId, int amount, String reason, String refKey) {}
 }
@@ -0,0 +1,6 @@
+package com.meonjeo.meonjeo.order.dto;
+
+import java.util.List;
+
+/** 주문 목록 카드: 요약 + 품목(썸네일 포함) */
+public record MyOrderCardResponse(MyOrderSummaryResponse order, List<MyOrderItemView> items) {}
@@ -0,0 +1,12 @@
+package com.meonjeo.meonjeo.order.dto;
+
+/** 주문 목록 페이지용 품목 projection (주문 id 포함, 엔티티 로딩 없음) */
+public record MyOrderItemRow(
+        Long orderId,
+        Long id,
+        Long productId,
+        String productName,
+        int unitPrice,
+        int qty,
+        String optionSnapshotJson
+) {}
@@ -0,0 +1,9 @@
+package com.meonjeo.meonjeo.order.dto;
+
+import java.util.List;
+
+/**
+ * 내 주문 목록(키셋 페이지)
+ * - nextCursor: 다음 페이지 요청 시 beforeId로 전달 (hasNext=false면 null)
+ */
+public record MyOrderPageResponse<T>(List<T> items, Long nextCursor, boolean hasNext) {}
@@ -0,0 +1,18 @@
+package com.meonjeo.meonjeo.outbox;
+
+import java.util.List;
+
+/**
+ * 여러 건을 한 번에 처리할 수 있는 아웃박스 핸들러(포인트 일괄 적립 등).
+ * 디스패처는 배치 안에서 다른 이벤트와 순서가 얽히지 않은 건만 모아 handleAll 로 넘기고,
+ * 실패하면 건별 handle 로 다시 시도한다 → handleAll 도 전부 반영되거나 전부 롤백되어야 하고 멱등해야 함
+ */
+public interface OutboxBatchHandler extends OutboxHandler {
+
+    void handleAll(List<OutboxEvent> events) throws Exception;
+
+    @Override
+    default void handle(OutboxEvent event) throws Exception {
+        handleAll(List.of(event));
+    }
+}
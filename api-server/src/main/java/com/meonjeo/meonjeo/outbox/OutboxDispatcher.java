@@ -0,0 +1,249 @@
+package com.meonjeo.meonjeo.outbox;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 아웃박스 디스패처
+ * - 커밋 직후 kick()으로 즉시 1회 + 1초 주기 폴링(노드 재시작/킥 누락 대비)
+ * - 배치 잠금은 FOR UPDATE SKIP LOCKED → 다중 노드에서도 중복 처리 없이 분산
+ * - 집합 선두를 잡은 노드가 같은 집합의 후속 이벤트까지 한 배치로 가져와 id 순서대로 처리(채팅방 폭주도 한 번에 비움)
+ * - 핸들러는 이벤트마다 별도 트랜잭션(REQUIRES_NEW), 실패 시 지수 백오프 재시도 후 FAILED
+ * - OutboxBatchHandler 종류는 배치 안에서 종류별로 묶어 한 트랜잭션에 처리(실패 시 건별로 재시도)
+ * - outbox.stream.enabled=true 면 전달 성공 이벤트를 Redis Stream(outbox:events)에도 XADD
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final String STREAM_KEY = "outbox:events";
+
+    private final OutboxEventRepository repo;
+    private final StringRedisTemplate redis;
+    private final Map<String, OutboxHandler> handlers = new HashMap<>();
+    private final TransactionTemplate batchTx;
+    private final TransactionTemplate handlerTx;
+
+    private final ExecutorService kicker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "outbox-dispatch");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean kickPending = new AtomicBoolean();
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+    @Value("${outbox.max-attempts:10}")
+    private int maxAttempts;
+    @Value("${outbox.retention-days:7}")
+    private int retentionDays;
+    @Value("${outbox.stream.enabled:false}")
+    private boolean streamEnabled;
+
+    public OutboxDispatcher(OutboxEventRepository repo,
+                            StringRedisTemplate redis,
+                            List<OutboxHandler> handlerList,
+                            PlatformTransactionManager txManager) {
+        this.repo = repo;
+        this.redis = redis;
+        for (OutboxHandler h : handlerList) {
+            if (handlers.put(h.eventType(), h) != null) {
+                throw new IllegalStateException("DUPLICATE_OUTBOX_HANDLER: " + h.eventType());
+            }
+        }
+        this.batchTx = new TransactionTemplate(txManager);
+        this.handlerTx = new TransactionTemplate(txManager);
+        this.handlerTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /** 커밋 직후 호출. 이미 대기 중인 킥이 있으면 합쳐서 한 번만 돈다 */
+    public void kick() {
+        if (!kickPending.compareAndSet(false, true)) return;
+        try {
+            kicker.execute(() -> {
+                kickPending.set(false);
+                drain();
+            });
+        } catch (Exception e) {
+            kickPending.set(false); // 종료 중 등 — 폴링이 처리
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-ms:1000}", initialDelay = 5000)
+    public void poll() {
+        drain();
+    }
+
+    /** 꽉 찬 배치가 나오는 동안 연속 처리 */
+    private void drain() {
+        try {
+            int n;
+            do { n = dispatchBatch(); } while (n >= batchSize);
+        } catch (Exception e) {
+            log.warn("[outbox] dispatch failed: {}", e.getMessage());
+        }
+    }
+
+    private int dispatchBatch() {
+        Integer n = batchTx.execute(st -> {
+            List<OutboxEvent> heads = repo.lockDueBatch(LocalDateTime.now(), batchSize);
+            if (heads.isEmpty()) return 0;
+            List<OutboxEvent> followers = repo.lockFollowers(heads.stream().map(OutboxEvent::getId).toList(), batchSize);
+
+            // 집합별로 선두 → 후속(id 순) 한 줄로 묶음
+            Map<String, List<OutboxEvent>> byAggregate = new LinkedHashMap<>();
+            for (OutboxEvent e : heads) byAggregate.computeIfAbsent(aggregateKey(e), k -> new ArrayList<>()).add(e);
+            for (OutboxEvent e : followers) byAggregate.get(aggregateKey(e)).add(e);
+
+            Set<OutboxEvent> done = deliverBulk(byAggregate.values());
+            for (List<OutboxEvent> events : byAggregate.values()) {
+                for (OutboxEvent e : events) {
+                    if (done.contains(e)) continue;
+                    if (!deliver(e)) break; // 앞선 이벤트가 실패한 집합은 이후 이벤트를 미룸(순서 보장)
+                }
+            }
+            return heads.size() + followers.size();
+        });
+        return n == null ? 0 : n;
+    }
+
+    /**
+     * OutboxBatchHandler 종류는 배치 안에 같은 집합의 다른 이벤트가 없는 것만 모아 종류별로 한 트랜잭션에 처리.
+     * 실패하면 아무것도 완료 처리하지 않음 → 이어지는 건별 전달에서 재시도/백오프
+     */
+    private Set<OutboxEvent> deliverBulk(Collection<List<OutboxEvent>> byAggregate) {
+        Map<String, List<OutboxEvent>> byType = new LinkedHashMap<>();
+        for (List<OutboxEvent> events : byAggregate) {
+            if (events.size() != 1) continue;
+            OutboxEvent e = events.get(0);
+            if (handlers.get(e.getEventType()) instanceof OutboxBatchHandler) {
+                byType.computeIfAbsent(e.getEventType(), k -> new ArrayList<>()).add(e);
+            }
+        }
+
+        Set<OutboxEvent> done = Collections.newSetFromMap(new IdentityHashMap<>());
+        byType.forEach((type, events) -> {
+            if (events.size() < 2) return;
+            OutboxBatchHandler h = (OutboxBatchHandler) handlers.get(type);
+            try {
+                handlerTx.executeWithoutResult(st -> {
+                    try {
+                        h.handleAll(events);
+                    } catch (RuntimeException ex) {
+                        throw ex;
+                    } catch (Exception ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                });
+            } catch (Exception ex) {
+                log.warn("[outbox] bulk delivery failed type={} size={}, falling back to single: {}",
+                        type, events.size(), ex.getMessage());
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            for (OutboxEvent e : events) {
+                publishToStream(e);
+                e.setStatus(OutboxEvent.Status.SENT);
+                e.setSentAt(now);
+                e.setLastError(null);
+                done.add(e);
+            }
+        });
+        return done;
+    }
+
+    private static String aggregateKey(OutboxEvent e) {
+        return e.getAggregateType() + ":" + e.getAggregateId();
+    }
+
+    private boolean deliver(OutboxEvent e) {
+        OutboxHandler h = handlers.get(e.getEventType());
+        try {
+            if (h == null) throw new IllegalStateException("NO_OUTBOX_HANDLER: " + e.getEventType());
+            handlerTx.executeWithoutResult(st -> {
+                try {
+                    h.handle(e);
+                } catch (RuntimeException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            });
+            publishToStream(e);
+            e.setStatus(OutboxEvent.Status.SENT);
+            e.setSentAt(LocalDateTime.now());
+            e.setLastError(null);
+            return true;
+        } catch (Exception ex) {
+            int attempts = e.getAttempts() + 1;
+            e.setAttempts(attempts);
+            e.setLastError(truncate(ex.getClass().getSimpleName() + ": " + ex.getMessage()));
+            if (attempts >= maxAttempts) {
+                e.setStatus(OutboxEvent.Status.FAILED);
+                log.error("[outbox] give up id={} type={} aggregate={}:{} err={}",
+                        e.getId(), e.getEventType(), e.getAggregateType(), e.getAggregateId(), e.getLastError());
+            } else {
+                e.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoffSeconds(attempts)));
+                log.warn("[outbox] retry id={} type={} attempt={} err={}",
+                        e.getId(), e.getEventType(), attempts, e.getLastError());
+            }
+            return false;
+        }
+    }
+
+    private void publishToStream(OutboxEvent e) {
+        if (!streamEnabled) return;
+        try {
+            redis.opsForStream().add(StreamRecords.string(Map.of(
+                    "id", String.valueOf(e.getId()),
+                    "type", e.getEventType(),
+                    "aggregateType", e.getAggregateType(),
+                    "aggregateId", e.getAggregateId(),
+                    "payload", e.getPayload()
+            )).withStreamKey(STREAM_KEY));
+        } catch (Exception ex) {
+            // 외부 소비자용 부가 채널 — 로컬 핸들러 처리 결과에는 영향 없음
+            log.warn("[outbox] stream publish failed id={}: {}", e.getId(), ex.getMessage());
+        }
+    }
+
+    /** 2, 4, 8 ... 최대 10분 */
+    private static long backoffSeconds(int attempts) {
+        return Math.min(600L, 1L << Math.min(attempts, 10));
+    }
+
+    private static String truncate(String s) {
+        return s == null || s.length() <= 500 ? s : s.substring(0, 500);
+    }
+
+    /** 매일 04:20 — 보존 기간 지난 SENT 행 정리(FAILED는 수동 확인용으로 남김) */
+    @Scheduled(cron = "0 20 4 * * *")
+    public void purgeSent() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0, n;
+        do {
+            n = Objects.requireNonNullElse(batchTx.execute(st -> repo.deleteSentBefore(before, 1000)), 0);
+            total += n;
+        } while (n == 1000);
+        if (total > 0) log.info("[outbox] purged {} sent events", total);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        kicker.shutdown();
+    }
+}
@@ -0,0 +1,62 @@
+package com.meonjeo.meonjeo.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 — 상태 변경과 같은 트랜잭션에서 기록, OutboxDispatcher가 비동기로 전달(at-least-once)
+ * - 같은 (aggregateType, aggregateId)는 id 순서대로만 전달
+ */
+@Entity
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_status_next", columnList = "status, next_attempt_at, id"),
+        @Index(name = "idx_outbox_aggregate", columnList = "aggregate_type, aggregate_id, id")
+})
+@Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+public class OutboxEvent {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Comment("집합 종류 (ORDER, CHAT_ROOM, ...)")
+    @Column(name = "aggregate_type", length = 40, nullable = false)
+    private String aggregateType;
+
+    @Comment("집합 식별자 (orderUid, roomId, ...)")
+    @Column(name = "aggregate_id", length = 64, nullable = false)
+    private String aggregateId;
+
+    @Comment("이벤트 종류 (ORDER_PAID, CHAT_MESSAGE_SENT, ...)")
+    @Column(name = "event_type", length = 60, nullable = false)
+    private String eventType;
+
+    @Lob @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private Status status;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) nextAttemptAt = createdAt;
+        if (status == null) status = Status.PENDING;
+    }
+
+    public enum Status { PENDING, SENT, FAILED }
+}
@@ -0,0 +1,56 @@
+package com.meonjeo.meonjeo.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 전달 대상 배치 잠금(FOR UPDATE SKIP LOCKED) — 여러 노드가 동시에 돌아도 서로 다른 행을 가져감
+     * 같은 집합에 더 앞선 PENDING 이벤트가 있으면(다른 노드가 잡고 있거나 재시도 대기 중) 건너뛰어 순서 보장
+     * → 집합마다 선두 1건만 잡힘. 선두를 잡은 노드가 그 집합의 소유자이고 후속은 lockFollowers 로 이어 받음
+     */
+    @Query(value = """
+        select o.* from outbox_event o
+        where o.status = 'PENDING'
+          and o.next_attempt_at <= :now
+          and not exists (
+              select 1 from outbox_event p
+              where p.aggregate_type = o.aggregate_type
+                and p.aggregate_id = o.aggregate_id
+                and p.status = 'PENDING'
+                and p.id < o.id)
+        order by o.id
+        limit :limit
+        for update skip locked
+        """, nativeQuery = true)
+    List<OutboxEvent> lockDueBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * lockDueBatch 로 잠근 선두 이벤트들의 같은 집합 후속 PENDING 이벤트를 (집합, id) 순으로 잠금.
+     * 선두를 쥔 노드만 후속을 가져가므로 SKIP LOCKED 없이 잠금(다른 노드의 스캔 잠금은 잠깐 기다림) → 중간 누락 없이 순서 유지
+     */
+    @Query(value = """
+        select o.* from outbox_event o
+          join outbox_event h
+            on h.aggregate_type = o.aggregate_type
+           and h.aggregate_id = o.aggregate_id
+        where h.id in (:headIds)
+          and o.status = 'PENDING'
+          and o.id > h.id
+        order by o.aggregate_type, o.aggregate_id, o.id
+        limit :limit
+        for update
+        """, nativeQuery = true)
+    List<OutboxEvent> lockFollowers(@Param("headIds") Collection<Long> headIds, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "delete from outbox_event where status = 'SENT' and sent_at < :before limit :limit", nativeQuery = true)
+    int deleteSentBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
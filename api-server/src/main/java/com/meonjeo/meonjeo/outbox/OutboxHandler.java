@@ -0,0 +1,13 @@
+package com.meonjeo.meonjeo.outbox;
+
+/**
+ * 아웃박스 이벤트 로컬 핸들러. 같은 이벤트가 두 번 이상 전달될 수 있으므로 멱등하게 구현할 것
+ */
+public interface OutboxHandler {
+
+    /** 처리할 이벤트 종류 */
+    String eventType();
+
+    /** 예외를 던지면 백오프 후 재시도 */
+    void handle(OutboxEvent event) throws Exception;
+}
@@ -0,0 +1,70 @@
+package com.meonjeo.meonjeo.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/** 호출자의 트랜잭션 안에서 아웃박스 행을 기록(트랜잭션 필수). 커밋 직후 디스패처를 깨워 지연 최소화 */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository repo;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbc;
+    private final ObjectProvider<OutboxDispatcher> dispatcher; // 핸들러 → 서비스 → 퍼블리셔 순환 참조 회피
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String aggregateType, Object aggregateId, String eventType, Object payload) {
+        String json = serialize(eventType, payload);
+        repo.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(String.valueOf(aggregateId))
+                .eventType(eventType)
+                .payload(json)
+                .build());
+        kickAfterCommit();
+    }
+
+    /** 같은 종류 이벤트 다건 기록(배치 작업용, JDBC batch insert 1회) */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(String aggregateType, String eventType, Map<?, ?> payloadByAggregateId) {
+        if (payloadByAggregateId.isEmpty()) return;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(payloadByAggregateId.size());
+        payloadByAggregateId.forEach((aggregateId, payload) -> rows.add(new Object[]{
+                aggregateType, String.valueOf(aggregateId), eventType, serialize(eventType, payload), now, now }));
+        jdbc.batchUpdate("""
+                insert into outbox_event (aggregate_type, aggregate_id, event_type, payload, status, attempts,
+                                          next_attempt_at, created_at)
+                values (?, ?, ?, ?, 'PENDING', 0, ?, ?)
+                """, rows);
+        kickAfterCommit();
+    }
+
+    private String serialize(String eventType, Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (Exception e) {
+            throw new IllegalStateException("OUTBOX_PAYLOAD_SERIALIZE_FAILED: " + eventType, e);
+        }
+    }
+
+    private void kickAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override public void afterCommit() { dispatcher.getObject().kick(); }
+        });
+    }
+}
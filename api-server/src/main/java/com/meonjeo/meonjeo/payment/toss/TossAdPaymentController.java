@@ -1,5 +1,6 @@
 package com.meonjeo.meonjeo.payment.toss;
 
+import com.meonjeo.meonjeo.idempotency.Idempotent;
 import com.meonjeo.meonjeo.payment.toss.dto.*;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,6 +14,7 @@ public class TossAdPaymentController {
     private final TossAdPaymentService service;
 
     @Operation(summary="광고 결제 승인 확인")
+    @Idempotent
     @PostMapping("/confirm")
     public TossAdConfirmResponse confirm(@RequestBody TossAdConfirmRequest req){
         return service.confirm(req);
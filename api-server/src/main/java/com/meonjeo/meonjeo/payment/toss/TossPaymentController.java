@@ -1,5 +1,6 @@
 package com.meonjeo.meonjeo.payment.toss;
 
+import com.meonjeo.meonjeo.idempotency.Idempotent;
 import com.meonjeo.meonjeo.payment.toss.dto.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,12 +19,14 @@ public class TossPaymentController {
     // ===== 기존 JSON POST =====
 
     @Operation(summary="결제 승인 확인(클라이언트가 JSON POST로 호출)")
+    @Idempotent
     @PostMapping("/confirm")
     public TossConfirmResponse confirm(@RequestBody TossConfirmRequest req){
         return service.confirm(req);
     }
 
     @Operation(summary="결제 실패/취소 처리(클라이언트가 JSON POST로 호출)")
+    @Idempotent
     @PostMapping("/fail")
     public ResponseEntity<Void> fail(@RequestBody TossFailRequest req){
         service.fail(req);
@@ -0,0 +1,37 @@
+package com.meonjeo.meonjeo.point;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/** 잔액 재조정 전용 조회(user_id 키셋 순회) */
+@Repository
+@RequiredArgsConstructor
+public class PointBalanceJdbcRepository {
+    private final JdbcTemplate jdbc;
+
+    /** 잔액 행과 원장 잔액(최신 마감 + tail)을 나란히 */
+    public record BalanceCheck(long userId, int balance, int ledgerSum) {
+        public boolean drifted() { return balance != ledgerSum; }
+    }
+
+    public List<BalanceCheck> findChecks(long afterUserId, int limit) {
+        return jdbc.query("""
+                select b.user_id, b.balance,
+                       coalesce((select c.closing_balance from point_ledger_checkpoint c
+                                  where c.user_id = b.user_id order by c.month desc limit 1), 0)
+                     + coalesce((select sum(l.amount) from point_ledger l
+                                  where l.user_id = b.user_id
+                                    and l.id > coalesce((select max(c.last_entry_id) from point_ledger_checkpoint c
+                                                          where c.user_id = b.user_id), 0)), 0) as ledger_sum
+                  from user_point_balance b
+                 where b.user_id > ?
+                 order by b.user_id
+                 limit ?
+                """,
+                (rs, i) -> new BalanceCheck(rs.getLong("user_id"), rs.getInt("balance"), rs.getInt("ledger_sum")),
+                afterUserId, limit);
+    }
+}
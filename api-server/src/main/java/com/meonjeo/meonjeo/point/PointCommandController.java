@@ -1,5 +1,6 @@
 package com.meonjeo.meonjeo.point;
 
+import com.meonjeo.meonjeo.idempotency.Idempotent;
 import com.meonjeo.meonjeo.point.dto.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,6 +20,7 @@ public class PointCommandController {
 
     @Operation(summary="포인트 교환 요청(5천/1만/3만, 잔액 락 처리)")
     @PreAuthorize("isAuthenticated()")
+    @Idempotent
     @PostMapping("/api/me/points/redemptions")
     public RedemptionResponse request(@RequestBody @Valid RedemptionCreateRequest req){
         return redemptionService.request(req.amount());
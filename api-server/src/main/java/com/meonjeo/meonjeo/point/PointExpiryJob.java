@@ -0,0 +1,47 @@
+package com.meonjeo.meonjeo.point;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** 매일 00:10 만료된 lot 처리(id 키셋 청크, lot 단위 트랜잭션) */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointExpiryJob {
+
+    private static final int CHUNK = 500;
+
+    private final PointLotRepository lotRepo;
+    private final PointLedgerService ledgerService;
+
+    @Scheduled(cron = "0 10 0 * * *")
+    public void expire() {
+        LocalDateTime now = LocalDateTime.now();
+        long after = 0;
+        int lotsExpired = 0, failed = 0;
+        long points = 0;
+        List<Long> ids;
+        do {
+            ids = lotRepo.findExpiredIds(now, after, PageRequest.of(0, CHUNK));
+            for (Long id : ids) {
+                try {
+                    int amt = ledgerService.expireLot(id);
+                    if (amt > 0) { lotsExpired++; points += amt; }
+                } catch (Exception e) {
+                    failed++;
+                    log.warn("[point] expire failed lotId={}: {}", id, e.toString());
+                }
+            }
+            if (!ids.isEmpty()) after = ids.get(ids.size() - 1);
+        } while (ids.size() == CHUNK);
+        if (lotsExpired + failed > 0) {
+            log.info("[point] expired lots={}, points={}, failed={}", lotsExpired, points, failed);
+        }
+    }
+}
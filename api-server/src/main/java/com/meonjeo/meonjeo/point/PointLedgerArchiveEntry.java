@@ -0,0 +1,33 @@
+package com.meonjeo.meonjeo.point;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** 마감 후 운영 테이블(point_ledger)에서 옮겨진 원장 행. id는 원본 그대로 유지 */
+@Entity
+@Table(name = "point_ledger_archive",
+        uniqueConstraints = @UniqueConstraint(name = "uk_point_archive_ref", columnNames = {"user_id", "reason", "ref_key"}),
+        indexes = @Index(name = "idx_point_archive_user_id", columnList = "user_id, id"))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class PointLedgerArchiveEntry {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private int amount;
+
+    @Column(length = 40, nullable = false)
+    private String reason;
+
+    @Column(name = "ref_key", length = 120, nullable = false)
+    private String refKey;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime archivedAt;
+}
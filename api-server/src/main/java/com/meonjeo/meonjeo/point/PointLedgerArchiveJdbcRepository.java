@@ -0,0 +1,99 @@
+package com.meonjeo.meonjeo.point;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/** 월 마감/아카이브 이동 전용 JDBC 리포 */
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerArchiveJdbcRepository {
+    private final JdbcTemplate jdbc;
+
+    /** 사용자 × 월 원장 합계(월 오름차순) */
+    public record MonthlySum(long userId, String month, long sum, long lastEntryId) {}
+
+    /** 기준 시각 이전에 기록된 원장의 최대 id(없으면 null) — 이 id 이하가 마감/이동 대상 */
+    public Long findMaxIdBefore(LocalDateTime cutoff) {
+        return jdbc.queryForObject("select max(id) from point_ledger where created_at < ?",
+                Long.class, Timestamp.valueOf(cutoff));
+    }
+
+    /** 마감 대상 원장이 있는 사용자(user_id 키셋) */
+    public List<Long> findUsersUpTo(long maxId, long afterUserId, int limit) {
+        return jdbc.queryForList("""
+                select distinct user_id from point_ledger
+                 where id <= ? and user_id > ?
+                 order by user_id
+                 limit ?
+                """, Long.class, maxId, afterUserId, limit);
+    }
+
+    public List<MonthlySum> monthlySums(Collection<Long> userIds, long maxId) {
+        return jdbc.query("select user_id, date_format(created_at, '%Y-%m') as m, sum(amount) as s, max(id) as last_id"
+                        + " from point_ledger where user_id in (" + placeholders(userIds.size()) + ") and id <= ?"
+                        + " group by user_id, m order by user_id, m",
+                (rs, i) -> new MonthlySum(rs.getLong("user_id"), rs.getString("m"), rs.getLong("s"), rs.getLong("last_id")),
+                args(userIds, maxId));
+    }
+
+    /** 사용자별 최신 마감(closing_balance, last_entry_id). 트랜잭션 끝까지 해당 마감 행을 잠금 */
+    public Map<Long, long[]> lockLatestCheckpoints(Collection<Long> userIds) {
+        Map<Long, long[]> out = new HashMap<>();
+        jdbc.query("""
+                select c.user_id, c.closing_balance, c.last_entry_id from point_ledger_checkpoint c
+                  join (select user_id, max(month) as m from point_ledger_checkpoint
+                         where user_id in (%s) group by user_id) t
+                    on t.user_id = c.user_id and t.m = c.month
+                   for update
+                """.formatted(placeholders(userIds.size())),
+                rs -> { out.put(rs.getLong(1), new long[]{ rs.getLong(2), rs.getLong(3) }); },
+                userIds.toArray());
+        return out;
+    }
+
+    /** 같은 (사용자, 월) 마감이 이미 있으면 누적값으로 갱신(월 경계 id/시각 역전으로 늦게 들어온 행) */
+    public void upsertCheckpoints(List<PointLedgerCheckpoint> rows) {
+        if (rows.isEmpty()) return;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (PointLedgerCheckpoint c : rows) {
+            args.add(new Object[]{ c.getUserId(), c.getMonth(), c.getClosingBalance(), c.getLastEntryId(), now });
+        }
+        jdbc.batchUpdate("""
+                insert into point_ledger_checkpoint (user_id, month, closing_balance, last_entry_id, created_at)
+                values (?, ?, ?, ?, ?)
+                on duplicate key update closing_balance = values(closing_balance), last_entry_id = values(last_entry_id)
+                """, args);
+    }
+
+    /** 마감된 원장 행을 아카이브로 이동(같은 트랜잭션에서 insert → delete). 반환값은 이동 건수 */
+    public int moveToArchive(Collection<Long> userIds, long maxId) {
+        String in = placeholders(userIds.size());
+        Object[] a = args(userIds, maxId);
+        int copied = jdbc.update("insert into point_ledger_archive (id, user_id, amount, reason, ref_key, created_at, archived_at)"
+                + " select id, user_id, amount, reason, ref_key, created_at, now() from point_ledger"
+                + " where user_id in (" + in + ") and id <= ?", a);
+        int deleted = jdbc.update("delete from point_ledger where user_id in (" + in + ") and id <= ?", a);
+        if (copied != deleted) {
+            throw new IllegalStateException("POINT_ARCHIVE_MISMATCH copied=" + copied + " deleted=" + deleted);
+        }
+        return deleted;
+    }
+
+    private static String placeholders(int n) {
+        return String.join(",", Collections.nCopies(n, "?"));
+    }
+
+    private static Object[] args(Collection<Long> userIds, long maxId) {
+        Object[] a = new Object[userIds.size() + 1];
+        int i = 0;
+        for (Long id : userIds) a[i++] = id;
+        a[i] = maxId;
+        return a;
+    }
+}
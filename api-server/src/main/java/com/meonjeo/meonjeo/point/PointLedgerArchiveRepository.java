@@ -0,0 +1,24 @@
+package com.meonjeo.meonjeo.point;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PointLedgerArchiveRepository extends JpaRepository<PointLedgerArchiveEntry, Long> {
+
+    long countByUserId(Long userId);
+
+    long countByUserIdAndReason(Long userId, String reason);
+
+    /** 내역 조회: 운영 테이블 분량을 넘어선 구간(offset은 아카이브 기준) */
+    @Query(value = """
+        select * from point_ledger_archive a
+         where a.user_id = :uid and (:reason is null or a.reason = :reason)
+         order by a.id desc
+         limit :limit offset :offset
+        """, nativeQuery = true)
+    List<PointLedgerArchiveEntry> findSlice(@Param("uid") Long userId, @Param("reason") String reason,
+                                            @Param("limit") int limit, @Param("offset") long offset);
+}
@@ -0,0 +1,40 @@
+package com.meonjeo.meonjeo.point;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월별 원장 마감(사용자 × 월)
+ * - closing_balance: 해당 월까지의 누적 잔액
+ * - last_entry_id: 마감에 포함된 마지막 원장 id → 잔액 = 최신 마감 + (id > last_entry_id 인 원장 합계)
+ */
+@Entity
+@Table(name = "point_ledger_checkpoint",
+        uniqueConstraints = @UniqueConstraint(name = "uk_point_ckpt_user_month", columnNames = {"user_id", "month"}))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class PointLedgerCheckpoint {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Comment("마감 월 (yyyy-MM)")
+    @Column(length = 7, nullable = false)
+    private String month;
+
+    @Column(name = "closing_balance", nullable = false)
+    private int closingBalance;
+
+    @Column(name = "last_entry_id", nullable = false)
+    private Long lastEntryId;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    void onCreate() { if (createdAt == null) createdAt = LocalDateTime.now(); }
+}
@@ -0,0 +1,99 @@
+package com.meonjeo.meonjeo.point;
+
+import com.meonjeo.meonjeo.common.RedisLeaseLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 매월 원장 마감 + 아카이브 이동
+ * - 최근 point.ledger.hot-months 개월은 운영 테이블에 유지, 그 이전 원장은 사용자 × 월 마감 행을 남기고 아카이브로 이동
+ * - 마감 경계는 id 기준(기준 시각 이전 최대 id) → 잔액 = 최신 마감 + (id > last_entry_id) 가 항상 정확
+ * - 사용자 묶음 단위 트랜잭션: 마감 insert + 아카이브 insert + 운영 delete 가 함께 커밋/롤백
+ * - 클러스터 잠금(RedisLeaseLock)으로 한 노드만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointLedgerCompactionJob {
+
+    private static final int CHUNK = 200;
+    private static final String LOCK = "point-ledger-compaction";
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    private final PointLedgerArchiveJdbcRepository archiveRepo;
+    private final RedisLeaseLock lock;
+    private final TransactionTemplate tx;
+
+    @Value("${point.ledger.hot-months:3}")
+    private int hotMonths;
+
+    /** 매월 2일 03:30 */
+    @Scheduled(cron = "0 30 3 2 * *")
+    public void compact() {
+        var lease = lock.tryAcquire(LOCK, LEASE);
+        if (lease.isEmpty()) {
+            log.info("[point] ledger compaction skipped (lock held by another node or unavailable)");
+            return;
+        }
+        try (var l = lease.get()) {
+            LocalDateTime cutoff = LocalDate.now().withDayOfMonth(1).minusMonths(hotMonths).atStartOfDay();
+            Long maxId = archiveRepo.findMaxIdBefore(cutoff);
+            if (maxId == null) return;
+
+            long after = 0;
+            int users = 0, moved = 0;
+            try {
+                List<Long> chunk;
+                do {
+                    if (users > 0 && !l.extend(LEASE)) {
+                        log.warn("[point] ledger compaction lease lost after userId={}, stop", after);
+                        break;
+                    }
+                    chunk = archiveRepo.findUsersUpTo(maxId, after, CHUNK);
+                    if (chunk.isEmpty()) break;
+                    List<Long> ids = chunk;
+                    Integer n = tx.execute(st -> compactUsers(ids, maxId));
+                    moved += (n == null ? 0 : n);
+                    users += chunk.size();
+                    after = chunk.get(chunk.size() - 1);
+                } while (chunk.size() == CHUNK);
+            } catch (Exception e) {
+                log.warn("[point] ledger compaction failed after userId={}: {}", after, e.toString());
+            }
+            log.info("[point] ledger compaction cutoff={} users={} moved={}", cutoff, users, moved);
+        }
+    }
+
+    /** 최신 마감은 이 트랜잭션 안에서 잠그고 다시 읽음 → 마감/이동이 겹쳐도 같은 원장이 두 번 누적되지 않음 */
+    private int compactUsers(List<Long> userIds, long maxId) {
+        Map<Long, long[]> latest = archiveRepo.lockLatestCheckpoints(userIds);
+        List<PointLedgerCheckpoint> rows = new ArrayList<>();
+
+        long curUser = -1, balance = 0, lastId = 0;
+        for (PointLedgerArchiveJdbcRepository.MonthlySum m : archiveRepo.monthlySums(userIds, maxId)) {
+            if (m.userId() != curUser) {
+                curUser = m.userId();
+                long[] prev = latest.get(curUser);
+                balance = prev == null ? 0 : prev[0];
+                lastId = prev == null ? 0 : prev[1];
+            }
+            balance += m.sum();
+            lastId = Math.max(lastId, m.lastEntryId()); // 월 경계 근처 id/시각 역전 대비 누적 최대
+            rows.add(PointLedgerCheckpoint.builder()
+                    .userId(curUser).month(m.month())
+                    .closingBalance(Math.toIntExact(balance)).lastEntryId(lastId) // 범위 초과면 예외 → 이 묶음 롤백
+                    .build());
+        }
+        archiveRepo.upsertCheckpoints(rows);
+        return archiveRepo.moveToArchive(userIds, maxId);
+    }
+}
@@ -9,7 +9,8 @@
 
 @Entity
 @Table(name = "point_ledger",
-        uniqueConstraints = @UniqueConstraint(name = "uk_point_ref", columnNames = {"user_id","reason","ref_key"}))
+        uniqueConstraints = @UniqueConstraint(name = "uk_point_ref", columnNames = {"user_id","reason","ref_key"}),
+        indexes = @Index(name = "idx_point_user_id", columnList = "user_id, id"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class PointLedgerEntry {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
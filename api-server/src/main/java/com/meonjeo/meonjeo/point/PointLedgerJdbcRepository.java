@@ -0,0 +1,130 @@
+package com.meonjeo.meonjeo.point;
+
+import com.meonjeo.meonjeo.order.PointLedgerPort.LedgerWrite;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 원장 멱등 기록(uk_point_ref 유니크 키에만 의존, exists 조회/예외 처리 없음)
+ * - 단건: INSERT IGNORE ... SELECT 1회(아카이브 키 존재 검사 포함) → 영향 행 수로 신규 여부 판단
+ * - 다건: 아카이브 키 조회 1회 + multi-row INSERT IGNORE 1회 + 신규 행 조회 1회
+ * INSERT IGNORE 는 중복 외 오류(길이 초과 등)도 경고로 낮추므로 호출 전 입력 검증 필수
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerJdbcRepository {
+    private final JdbcTemplate jdbc;
+
+    static final int REASON_MAX = 40;
+    static final int REF_KEY_MAX = 120;
+    private static final int CHUNK = 500;
+
+    /** 새로 기록했으면 true, 같은 (user, reason, refKey)가 이미 있으면 false */
+    public boolean insertIgnore(Long userId, int amount, String reason, String refKey) {
+        // 아카이브로 옮겨진 같은 키도 중복으로 취급(uk_point_archive_ref 조회, 같은 문장 안에서)
+        return jdbc.update("""
+                insert ignore into point_ledger (user_id, amount, reason, ref_key, created_at)
+                select ?, ?, ?, ?, ? from dual
+                 where not exists (select 1 from point_ledger_archive a
+                                    where a.user_id = ? and a.reason = ? and a.ref_key = ?)
+                """, userId, amount, reason, refKey, Timestamp.valueOf(LocalDateTime.now()),
+                userId, reason, refKey) == 1;
+    }
+
+    /**
+     * 다건 기록. 반환값은 이번에 새로 기록된 항목만.
+     * 트랜잭션 안에서 호출해야 함(LAST_INSERT_ID 가 같은 커넥션 기준)
+     */
+    public List<LedgerWrite> insertIgnoreAll(List<LedgerWrite> writes) {
+        List<LedgerWrite> inserted = new ArrayList<>();
+        for (int from = 0; from < writes.size(); from += CHUNK) {
+            inserted.addAll(insertChunk(writes.subList(from, Math.min(writes.size(), from + CHUNK))));
+        }
+        return inserted;
+    }
+
+    private List<LedgerWrite> insertChunk(List<LedgerWrite> input) {
+        List<LedgerWrite> chunk = withoutArchived(input);
+        if (chunk.isEmpty()) return List.of();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        StringBuilder sql = new StringBuilder(
+                "insert ignore into point_ledger (user_id, amount, reason, ref_key, created_at) values ");
+        List<Object> args = new ArrayList<>(chunk.size() * 5);
+        for (int i = 0; i < chunk.size(); i++) {
+            LedgerWrite w = chunk.get(i);
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+            Collections.addAll(args, w.userId(), w.amount(), w.reason(), w.refKey(), now);
+        }
+        int affected = jdbc.update(sql.toString(), args.toArray());
+        if (affected == 0) return List.of();
+        if (affected == chunk.size()) return chunk;
+
+        // 일부만 신규: 단순 insert 의 auto-increment 구간은 문장 시작 시 연속 할당되므로
+        // [첫 신규 id, 첫 신규 id + 건수) 구간 + 키 일치 = 이번에 기록된 행
+        Long firstId = jdbc.queryForObject("select last_insert_id()", Long.class);
+        StringBuilder q = new StringBuilder("select user_id, reason, ref_key from point_ledger"
+                + " where id >= ? and id < ? and (user_id, reason, ref_key) in (");
+        List<Object> qargs = new ArrayList<>(chunk.size() * 3 + 2);
+        qargs.add(firstId);
+        qargs.add(firstId + chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            LedgerWrite w = chunk.get(i);
+            q.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+            Collections.addAll(qargs, w.userId(), w.reason(), w.refKey());
+        }
+        q.append(")");
+        Set<String> fresh = new HashSet<>(jdbc.query(q.toString(),
+                (rs, i) -> key(rs.getLong("user_id"), rs.getString("reason"), rs.getString("ref_key")),
+                qargs.toArray()));
+
+        List<LedgerWrite> out = new ArrayList<>(fresh.size());
+        for (LedgerWrite w : chunk) {
+            if (fresh.remove(key(w.userId(), w.reason(), w.refKey()))) out.add(w);
+        }
+        return out;
+    }
+
+    /** 아카이브에 이미 있는 키 제외(마감된 과거 키는 운영 테이블 유니크 키로 막을 수 없으므로) */
+    private List<LedgerWrite> withoutArchived(List<LedgerWrite> chunk) {
+        StringBuilder q = new StringBuilder(
+                "select user_id, reason, ref_key from point_ledger_archive where (user_id, reason, ref_key) in (");
+        List<Object> args = new ArrayList<>(chunk.size() * 3);
+        for (int i = 0; i < chunk.size(); i++) {
+            LedgerWrite w = chunk.get(i);
+            q.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+            Collections.addAll(args, w.userId(), w.reason(), w.refKey());
+        }
+        q.append(")");
+        Set<String> archived = new HashSet<>(jdbc.query(q.toString(),
+                (rs, i) -> key(rs.getLong("user_id"), rs.getString("reason"), rs.getString("ref_key")),
+                args.toArray()));
+        if (archived.isEmpty()) return chunk;
+        List<LedgerWrite> out = new ArrayList<>(chunk.size());
+        for (LedgerWrite w : chunk) {
+            if (!archived.contains(key(w.userId(), w.reason(), w.refKey()))) out.add(w);
+        }
+        return out;
+    }
+
+    /** userId → 증감. 반환값은 key 순서와 같은 영향 행 수 배열(0 = 잔액 행 없음 또는 잔액 부족) */
+    public int[] applyBalanceDeltas(SortedMap<Long, Integer> deltaByUser) {
+        if (deltaByUser.isEmpty()) return new int[0];
+        List<Object[]> args = new ArrayList<>(deltaByUser.size());
+        for (Map.Entry<Long, Integer> e : deltaByUser.entrySet()) {
+            args.add(new Object[]{ e.getValue(), e.getKey(), e.getValue() });
+        }
+        return jdbc.batchUpdate("""
+                update user_point_balance set balance = balance + ?, updated_at = now()
+                 where user_id = ? and balance + ? >= 0
+                """, args);
+    }
+
+    private static String key(Long userId, String reason, String refKey) {
+        return userId + "\u0000" + reason + "\u0000" + refKey;
+    }
+}
@@ -6,12 +6,25 @@
 
 public interface PointLedgerRepository extends JpaRepository<PointLedgerEntry, Long> {
 
-    @Query("select coalesce(sum(p.amount),0) from PointLedgerEntry p where p.userId = :uid")
-    int sumBalance(@Param("uid") Long userId);
+    /** 최신 월 마감 잔액(없으면 0) — :uid 바인딩 */
+    String CHECKPOINT_BALANCE =
+            "coalesce((select c.closing_balance from point_ledger_checkpoint c"
+            + " where c.user_id = :uid order by c.month desc limit 1), 0)";
+
+    /** 최신 마감 이후(tail) 원장 합계 — :uid 바인딩 */
+    String TAIL_SUM =
+            "coalesce((select sum(l.amount) from point_ledger l where l.user_id = :uid"
+            + " and l.id > coalesce((select max(c.last_entry_id) from point_ledger_checkpoint c where c.user_id = :uid), 0)), 0)";
 
-    boolean existsByUserIdAndReasonAndRefKey(Long userId, String reason, String refKey);
+    /** 잔액 = 최신 마감 + tail (운영 테이블 크기와 무관하게 tail 만 스캔) */
+    @Query(value = "select " + CHECKPOINT_BALANCE + " + " + TAIL_SUM, nativeQuery = true)
+    int sumBalance(@Param("uid") Long userId);
 
     Page<PointLedgerEntry> findByUserIdOrderByIdDesc(Long userId, Pageable pageable);
 
     Page<PointLedgerEntry> findByUserIdAndReasonOrderByIdDesc(Long userId, String reason, Pageable pageable);
+
+    long countByUserId(Long userId);
+
+    long countByUserIdAndReason(Long userId, String reason);
 }
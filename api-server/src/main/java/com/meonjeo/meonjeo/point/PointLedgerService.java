@@ -1,41 +1,190 @@
 package com.meonjeo.meonjeo.point;
 
 import com.meonjeo.meonjeo.order.PointLedgerPort;
+import com.meonjeo.meonjeo.point.dto.PointLedgerItemResponse;
+import com.meonjeo.meonjeo.point.dto.PointLedgerPageResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PointLedgerService implements PointLedgerPort {
 
     private final PointLedgerRepository repo;
+    private final PointLedgerArchiveRepository archiveRepo;
+    private final PointLedgerJdbcRepository ledgerJdbc;
+    private final UserPointBalanceRepository balanceRepo;
+    private final PointLotRepository lotRepo;
+    private final PointLotEngine lots;
+
+    /** 만료 원장 사유 */
+    static final String EXPIRE_REASON = "POINT_EXPIRE";
 
     @Override
     @Transactional(readOnly = true)
     public int getBalance(Long userId) {
-        return repo.sumBalance(userId);
+        // 잔액 행이 아직 없는 사용자(원장 기록 이전 가입자)는 원장 합계로
+        return balanceRepo.findBalance(userId).orElseGet(() -> repo.sumBalance(userId));
+    }
+
+    /**
+     * 원장 내역(최신순). 운영 테이블(최근 몇 개월)부터 읽고, 그 분량을 넘어선 페이지는 아카이브에서 이어서 읽음
+     * @param reason null/blank 면 전체
+     */
+    @Transactional(readOnly = true)
+    public PointLedgerPageResponse history(Long userId, String reason, int page, int size) {
+        String r = (reason == null || reason.isBlank()) ? null : reason;
+        long offset = (long) page * size;
+
+        Page<PointLedgerEntry> hot = (r == null)
+                ? repo.findByUserIdOrderByIdDesc(userId, PageRequest.of(page, size))
+                : repo.findByUserIdAndReasonOrderByIdDesc(userId, r, PageRequest.of(page, size));
+        List<PointLedgerItemResponse> items = new ArrayList<>(size);
+        hot.getContent().forEach(e ->
+                items.add(new PointLedgerItemResponse(e.getId(), e.getAmount(), e.getReason(), e.getRefKey(), e.getCreatedAt())));
+
+        long hotTotal = hot.getTotalElements();
+        long archivedTotal = (r == null) ? archiveRepo.countByUserId(userId) : archiveRepo.countByUserIdAndReason(userId, r);
+        if (items.size() < size && archivedTotal > 0) {
+            long archiveOffset = Math.max(0, offset - hotTotal);
+            archiveRepo.findSlice(userId, r, size - items.size(), archiveOffset).forEach(e ->
+                    items.add(new PointLedgerItemResponse(e.getId(), e.getAmount(), e.getReason(), e.getRefKey(), e.getCreatedAt())));
+        }
+
+        long total = hotTotal + archivedTotal;
+        int totalPages = (int) ((total + size - 1) / size);
+        return new PointLedgerPageResponse(items, page, size, total, totalPages);
     }
 
     @Override
     @Transactional
-    public void spend(Long userId, int amount, String reason, String refKey) {
-        if (amount <= 0) return;
-        // 멱등: 동일 (user,reason,ref) 있으면 무시
-        if (repo.existsByUserIdAndReasonAndRefKey(userId, reason, refKey)) return;
-        PointLedgerEntry e = PointLedgerEntry.builder()
-                .userId(userId).amount(-amount).reason(reason).refKey(refKey).build();
-        try { repo.save(e); } catch (DataIntegrityViolationException ignore) {/* 동시성 멱등 */}
+    public boolean spend(Long userId, int amount, String reason, String refKey) {
+        if (amount <= 0) return false;
+        return write(userId, -amount, reason, refKey);
     }
 
     @Override
     @Transactional
-    public void accrue(Long userId, int amount, String reason, String refKey) {
-        if (amount <= 0) return;
-        if (repo.existsByUserIdAndReasonAndRefKey(userId, reason, refKey)) return;
-        PointLedgerEntry e = PointLedgerEntry.builder()
-                .userId(userId).amount(+amount).reason(reason).refKey(refKey).build();
-        try { repo.save(e); } catch (DataIntegrityViolationException ignore) {/* 동시성 멱등 */}
+    public boolean accrue(Long userId, int amount, String reason, String refKey) {
+        if (amount <= 0) return false;
+        return write(userId, amount, reason, refKey);
+    }
+
+    @Override
+    @Transactional
+    public int applyAll(List<LedgerWrite> writes) {
+        List<LedgerWrite> valid = new ArrayList<>(writes.size());
+        for (LedgerWrite w : writes) {
+            if (w.amount() == 0) continue;
+            validate(w.reason(), w.refKey());
+            valid.add(w);
+        }
+        if (valid.isEmpty()) return 0;
+
+        List<LedgerWrite> inserted = ledgerJdbc.insertIgnoreAll(valid);
+        // 사용자 id 오름차순으로 잔액 갱신 → 동시 일괄 처리끼리 잠금 순서 고정
+        SortedMap<Long, Integer> deltaByUser = new TreeMap<>();
+        for (LedgerWrite w : inserted) deltaByUser.merge(w.userId(), w.amount(), Integer::sum);
+
+        int[] updated = ledgerJdbc.applyBalanceDeltas(deltaByUser);
+        Iterator<Map.Entry<Long, Integer>> it = deltaByUser.entrySet().iterator();
+        for (int r : updated) {
+            Map.Entry<Long, Integer> e = it.next();
+            if (r != 1) initOrRetry(e.getKey(), e.getValue());
+        }
+
+        // lot 반영: 사용자별로 입력 순서대로, 차감 직전 잔액을 추적하며
+        Map<Long, List<LedgerWrite>> byUser = new TreeMap<>();
+        for (LedgerWrite w : inserted) byUser.computeIfAbsent(w.userId(), k -> new ArrayList<>()).add(w);
+        for (Map.Entry<Long, List<LedgerWrite>> e : byUser.entrySet()) {
+            int running = balanceRepo.findBalance(e.getKey()).orElse(0) - deltaByUser.get(e.getKey());
+            for (LedgerWrite w : e.getValue()) {
+                applyToLots(w.userId(), w.amount(), w.reason(), w.refKey(), running);
+                running += w.amount();
+            }
+        }
+        return inserted.size();
+    }
+
+    /**
+     * 만료 처리(lot 1건 = 트랜잭션 1개).
+     * 잠금 순서는 다른 기록 경로와 같게 잔액 행 → lot
+     * 차감은 lot 드리프트를 허용하므로 lot 의 remaining 이 잔액보다 클 수 있음 → 만료액은 잠근 잔액까지만,
+     * 나머지는 lot 만 닫고 드리프트로 기록(같은 lot 이 매일 실패하지 않도록)
+     * @return 만료된 금액(이미 처리됐거나 만료 전이면 0)
+     */
+    @Transactional
+    public int expireLot(Long lotId) {
+        Long userId = lotRepo.findUserIdById(lotId).orElse(null);
+        if (userId == null) return 0;
+        if (balanceRepo.lockByUserId(userId).isEmpty()) {
+            balanceRepo.initFromLedger(userId);
+            balanceRepo.lockByUserId(userId);
+        }
+
+        PointLot lot = lotRepo.findByIdForUpdate(lotId).orElseThrow();
+        if (lot.getRemaining() <= 0 || lot.getExpiresAt() == null || lot.getExpiresAt().isAfter(LocalDateTime.now())) return 0;
+
+        String refKey = "lot:" + lot.getId();
+        int amt = Math.min(lot.getRemaining(), Math.max(0, balanceRepo.findBalance(userId).orElse(0)));
+        if (amt > 0) {
+            if (!ledgerJdbc.insertIgnore(userId, -amt, EXPIRE_REASON, refKey)) return 0; // 이미 만료 기록됨
+            if (balanceRepo.applyDelta(userId, -amt) != 1) throw insufficient(); // 잠근 잔액 이하라 일어나지 않음
+        }
+        if (amt < lot.getRemaining()) {
+            log.warn("[point] lot drift lotId={} userId={} remaining={} expired={}", lotId, userId, lot.getRemaining(), amt);
+        }
+        lots.expire(lot, amt, EXPIRE_REASON, refKey);
+        return amt;
+    }
+
+    /** 멱등 기록(uk_point_ref 에만 의존) + 신규일 때만 잔액/lot 반영 */
+    private boolean write(Long userId, int delta, String reason, String refKey) {
+        validate(reason, refKey);
+        if (!ledgerJdbc.insertIgnore(userId, delta, reason, refKey)) return false; // 이미 기록됨
+        if (balanceRepo.applyDelta(userId, delta) != 1) initOrRetry(userId, delta);
+        int before = (delta < 0) ? balanceRepo.findBalance(userId).orElse(0) - delta : 0;
+        applyToLots(userId, delta, reason, refKey, before);
+        return true;
+    }
+
+    /** 적립 → lot 생성, 차감 → FIFO 소진 */
+    private void applyToLots(Long userId, int delta, String reason, String refKey, int balanceBefore) {
+        if (delta > 0) lots.open(userId, delta, reason, refKey);
+        else lots.consume(userId, -delta, reason, refKey, balanceBefore);
+    }
+
+    /**
+     * 잔액 행 조건부 갱신이 0건일 때: 행이 없으면 원장 합계(방금 기록한 행 포함)로 생성,
+     * 있으면(동시 생성 또는 잔액 부족) 한 번 더 시도. 잔액이 음수가 되면 예외 → 원장 기록까지 롤백
+     */
+    private void initOrRetry(Long userId, int delta) {
+        if (balanceRepo.initFromLedger(userId) == 1) {
+            if (balanceRepo.findBalance(userId).orElse(0) < 0) throw insufficient();
+            return;
+        }
+        if (balanceRepo.applyDelta(userId, delta) != 1) throw insufficient();
+    }
+
+    /** INSERT IGNORE 는 길이 초과도 경고로 넘기므로 미리 검증 */
+    private static void validate(String reason, String refKey) {
+        if (reason == null || reason.isBlank() || reason.length() > PointLedgerJdbcRepository.REASON_MAX
+                || refKey == null || refKey.isBlank() || refKey.length() > PointLedgerJdbcRepository.REF_KEY_MAX) {
+            throw new IllegalArgumentException("INVALID_LEDGER_REF: " + reason + "/" + refKey);
+        }
+    }
+
+    private static ResponseStatusException insufficient() {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "INSUFFICIENT_POINT_BALANCE");
     }
 }
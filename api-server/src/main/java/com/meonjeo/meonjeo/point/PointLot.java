@@ -0,0 +1,56 @@
+package com.meonjeo.meonjeo.point;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 적립 단위(lot). 적립 원장 1건 = lot 1건, 차감은 만료가 빠른 lot부터(FIFO) remaining 을 소진
+ * - (user, reason, refKey)는 원장 키와 같음 → 적립이 재전달되어도 lot 은 1건
+ * - expiresAt null 은 만료 없음(레거시 잔액). 환급은 원래 lot 의 remaining 을 되돌려 만료일 유지(PointLotEngine)
+ * - 열린 lot(remaining > 0)의 remaining 합계 = 현재 잔액
+ */
+@Entity
+@Table(name = "point_lot",
+        uniqueConstraints = @UniqueConstraint(name = "uk_point_lot_ref", columnNames = {"user_id", "reason", "ref_key"}),
+        indexes = {
+                @Index(name = "idx_point_lot_user_fifo", columnList = "user_id, expires_at, id"),
+                @Index(name = "idx_point_lot_expires", columnList = "expires_at, id")
+        })
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class PointLot {
+
+    /** 기존 잔액(lot 도입 이전 적립분)을 담는 lot 의 키 */
+    public static final String LEGACY_REASON = "LEGACY_BALANCE";
+    public static final String LEGACY_REF = "legacy";
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(length = 40, nullable = false)
+    private String reason;
+
+    @Column(name = "ref_key", length = 120, nullable = false)
+    private String refKey;
+
+    @Comment("적립 금액")
+    @Column(nullable = false)
+    private int amount;
+
+    @Comment("미사용 잔여 금액")
+    @Column(nullable = false)
+    private int remaining;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    void onCreate() { if (createdAt == null) createdAt = LocalDateTime.now(); }
+}
@@ -0,0 +1,41 @@
+package com.meonjeo.meonjeo.point;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** 차감/만료 원장 1건이 어떤 lot 에서 얼마씩 소진했는지 */
+@Entity
+@Table(name = "point_lot_consumption",
+        indexes = {
+                @Index(name = "idx_point_lot_cons_lot", columnList = "lot_id"),
+                @Index(name = "idx_point_lot_cons_ref", columnList = "user_id, reason, ref_key")
+        })
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class PointLotConsumption {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "lot_id", nullable = false)
+    private Long lotId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** 소진을 일으킨 원장 키 */
+    @Column(length = 40, nullable = false)
+    private String reason;
+
+    @Column(name = "ref_key", length = 120, nullable = false)
+    private String refKey;
+
+    @Column(nullable = false)
+    private int amount;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    void onCreate() { if (createdAt == null) createdAt = LocalDateTime.now(); }
+}
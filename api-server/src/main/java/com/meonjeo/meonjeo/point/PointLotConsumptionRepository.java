@@ -0,0 +1,11 @@
+package com.meonjeo.meonjeo.point;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface PointLotConsumptionRepository extends JpaRepository<PointLotConsumption, Long> {
+
+    /** 원장 1건(차감)이 lot 별로 소진한 내역(idx_point_lot_cons_ref) */
+    List<PointLotConsumption> findByUserIdAndReasonAndRefKeyOrderById(Long userId, String reason, String refKey);
+}
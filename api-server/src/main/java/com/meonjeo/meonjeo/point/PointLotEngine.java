@@ -0,0 +1,154 @@
+package com.meonjeo.meonjeo.point;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 적립 lot 관리(PointLedgerService 가 원장 신규 기록과 같은 트랜잭션에서 호출)
+ * - 적립: lot 생성(만료 = 적립 시각 + point.expiry.days)
+ * - 차감: 열린 lot 을 FIFO 로 잠그고 소진 + 소진 내역 기록
+ * - 환급(point.expiry.refund-reasons, "환급 사유:원 차감 사유"): 새 lot 을 만들지 않고 원 차감(같은 refKey)이
+ *   소진한 lot 에 remaining 을 되돌림(음수 소진 내역 기록) → 만료일 유지.
+ *   그사이 만료일이 지난 lot 몫은 그 만료일로 새 lot(다음 만료 작업에서 만료), 소진 내역이 없는 몫은 레거시 lot 으로
+ * - lot 도입 이전 잔액은 첫 차감 시 만료 없는 레거시 lot 으로 편입
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class PointLotEngine {
+
+    /** 만료 시 잔액보다 많이 남아 있던 lot 몫(원장/잔액에는 반영하지 않고 lot 만 닫음) */
+    static final String DRIFT_REASON = "LOT_DRIFT";
+
+    private final PointLotRepository lotRepo;
+    private final PointLotConsumptionRepository consumptionRepo;
+
+    @Value("${point.expiry.days:365}")
+    private int expiryDays;
+    @Value("${point.expiry.refund-reasons:ORDER_PAY_PRE_ROLLBACK:ORDER_PAY_PRE,REDEEM_CANCEL:REDEEM_LOCK}")
+    private List<String> refundReasonSpecs;
+
+    /** 환급 사유 → 원 차감 사유 */
+    private final Map<String, String> refundOf = new HashMap<>();
+
+    @PostConstruct
+    void init() {
+        for (String spec : refundReasonSpecs) {
+            int sep = spec.indexOf(':');
+            if (sep <= 0 || sep == spec.length() - 1) {
+                log.warn("[point] invalid refund reason: {}", spec);
+                continue;
+            }
+            refundOf.put(spec.substring(0, sep).trim(), spec.substring(sep + 1).trim());
+        }
+    }
+
+    void open(Long userId, int amount, String reason, String refKey) {
+        String spendReason = refundOf.get(reason);
+        if (spendReason != null) {
+            restore(userId, amount, spendReason, reason, refKey);
+            return;
+        }
+        lotRepo.insertIgnore(userId, reason, refKey, amount, LocalDateTime.now().plusDays(expiryDays));
+    }
+
+    /** 환급: 원 차감(spendReason, refKey)의 소진 내역대로 lot 을 되살림 */
+    private void restore(Long userId, int amount, String spendReason, String reason, String refKey) {
+        List<PointLotConsumption> spent = consumptionRepo.findByUserIdAndReasonAndRefKeyOrderById(userId, spendReason, refKey);
+        Map<Long, PointLot> lotById = spent.isEmpty() ? Map.of()
+                : lotRepo.findAllByIdForUpdate(spent.stream().map(PointLotConsumption::getLotId).collect(Collectors.toSet()))
+                        .stream().collect(Collectors.toMap(PointLot::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        int left = amount, expiredPart = 0;
+        LocalDateTime expiredAt = null;
+        List<PointLotConsumption> rows = new ArrayList<>();
+        for (PointLotConsumption c : spent) {
+            if (left == 0) break;
+            PointLot lot = lotById.get(c.getLotId());
+            if (lot == null || c.getAmount() <= 0) continue;
+            int back = Math.min(left, c.getAmount());
+            left -= back;
+            if (lot.getExpiresAt() != null && !lot.getExpiresAt().isAfter(now)) {
+                // 이미 만료 처리된(또는 처리될) lot 은 되살리지 않고 같은 만료일의 새 lot 으로
+                expiredPart += back;
+                if (expiredAt == null || lot.getExpiresAt().isBefore(expiredAt)) expiredAt = lot.getExpiresAt();
+                continue;
+            }
+            lot.setRemaining(lot.getRemaining() + back);
+            rows.add(PointLotConsumption.builder()
+                    .lotId(lot.getId()).userId(userId).reason(reason).refKey(refKey).amount(-back).build());
+        }
+        consumptionRepo.saveAll(rows);
+        if (expiredPart > 0) lotRepo.insertIgnore(userId, reason, refKey, expiredPart, expiredAt);
+        if (left > 0) {
+            // lot 도입 이전 차감 등 소진 내역이 없는 몫 → 만료 없는 레거시 lot
+            PointLot legacy = legacyLot(userId);
+            legacy.setAmount(legacy.getAmount() + left);
+            legacy.setRemaining(legacy.getRemaining() + left);
+            lotRepo.save(legacy);
+        }
+    }
+
+    private PointLot legacyLot(Long userId) {
+        return lotRepo.findByUserIdAndReasonAndRefKey(userId, PointLot.LEGACY_REASON, PointLot.LEGACY_REF)
+                .orElseGet(() -> PointLot.builder()
+                        .userId(userId).reason(PointLot.LEGACY_REASON).refKey(PointLot.LEGACY_REF).build());
+    }
+
+    /**
+     * @param balanceBefore 이번 차감 반영 전 잔액(레거시 편입 기준)
+     */
+    void consume(Long userId, int amount, String reason, String refKey, int balanceBefore) {
+        List<PointLot> open = lotRepo.findOpenForUpdate(userId);
+        int available = 0;
+        for (PointLot l : open) available += l.getRemaining();
+        if (available < amount && balanceBefore > available) {
+            // lot 에 잡히지 않은 기존 잔액 → 레거시 lot(만료 없음, FIFO 마지막)
+            // 잔액 행 UPDATE 가 사용자 단위로 직렬화하므로 여기서 동시 생성 경합 없음
+            int gap = balanceBefore - available;
+            PointLot legacy = legacyLot(userId);
+            legacy.setAmount(legacy.getAmount() + gap);
+            legacy.setRemaining(legacy.getRemaining() + gap);
+            lotRepo.save(legacy);
+            open = lotRepo.findOpenForUpdate(userId);
+        }
+
+        int left = amount;
+        List<PointLotConsumption> rows = new ArrayList<>();
+        for (PointLot l : open) {
+            if (left == 0) break;
+            int take = Math.min(left, l.getRemaining());
+            l.setRemaining(l.getRemaining() - take);
+            left -= take;
+            rows.add(PointLotConsumption.builder()
+                    .lotId(l.getId()).userId(userId).reason(reason).refKey(refKey).amount(take).build());
+        }
+        // left > 0 은 잔액 검증(user_point_balance)을 통과했으므로 lot 쪽 드리프트 → 재조정 대상, 차감 자체는 막지 않음
+        consumptionRepo.saveAll(rows);
+    }
+
+    /**
+     * 만료 처리: lot 을 0으로 닫고 소진 내역 기록
+     * @param amount 실제 잔액에서 뺀 금액. remaining 보다 작으면(lot/잔액 드리프트) 나머지는 DRIFT_REASON 으로 기록
+     */
+    void expire(PointLot lot, int amount, String reason, String refKey) {
+        int remaining = lot.getRemaining();
+        if (remaining <= 0) return;
+        lot.setRemaining(0);
+        List<PointLotConsumption> rows = new ArrayList<>(2);
+        if (amount > 0) rows.add(PointLotConsumption.builder()
+                .lotId(lot.getId()).userId(lot.getUserId()).reason(reason).refKey(refKey).amount(amount).build());
+        if (remaining > amount) rows.add(PointLotConsumption.builder()
+                .lotId(lot.getId()).userId(lot.getUserId()).reason(DRIFT_REASON).refKey(refKey).amount(remaining - amount).build());
+        consumptionRepo.saveAll(rows);
+    }
+}
@@ -0,0 +1,53 @@
+package com.meonjeo.meonjeo.point;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PointLotRepository extends JpaRepository<PointLot, Long> {
+
+    /** 열린 lot 을 소진 순서(만료 빠른 순, 만료 없음은 마지막)로 잠금 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select l from PointLot l
+         where l.userId = :uid and l.remaining > 0
+         order by case when l.expiresAt is null then 1 else 0 end, l.expiresAt, l.id
+        """)
+    List<PointLot> findOpenForUpdate(@Param("uid") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from PointLot l where l.id = :id")
+    Optional<PointLot> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from PointLot l where l.id in :ids order by l.id")
+    List<PointLot> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("select l.userId from PointLot l where l.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    /** 만료 대상(id 키셋) */
+    @Query("""
+        select l.id from PointLot l
+         where l.expiresAt < :now and l.remaining > 0 and l.id > :afterId
+         order by l.id
+        """)
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, @Param("afterId") long afterId, Pageable pageable);
+
+    /** 적립 lot 생성(같은 키가 있으면 무시). 1이면 새로 생성 */
+    @Modifying
+    @Query(value = """
+        insert ignore into point_lot (user_id, reason, ref_key, amount, remaining, expires_at, created_at)
+        values (:uid, :reason, :refKey, :amount, :amount, :expiresAt, now())
+        """, nativeQuery = true)
+    int insertIgnore(@Param("uid") Long userId, @Param("reason") String reason, @Param("refKey") String refKey,
+                     @Param("amount") int amount, @Param("expiresAt") LocalDateTime expiresAt);
+
+    Optional<PointLot> findByUserIdAndReasonAndRefKey(Long userId, String reason, String refKey);
+}
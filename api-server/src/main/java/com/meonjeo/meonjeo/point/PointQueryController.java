@@ -8,15 +8,13 @@
 import org.springframework.data.domain.*;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Tag(name="포인트(마이페이지)")
 @RestController
 @RequestMapping("/api/me/points")
 @RequiredArgsConstructor
 public class PointQueryController {
 
-    private final PointLedgerRepository ledgerRepo;
+    private final PointLedgerService ledgerService;
     private final PointRedemptionRepository redemptionRepo;
     private final AuthSupport auth;
 
@@ -25,7 +23,7 @@ public class PointQueryController {
     @Operation(summary="내 포인트 잔액 조회")
     @GetMapping("/balance")
     public PointBalanceResponse balance(){
-        int bal = ledgerRepo.sumBalance(currentUserId());
+        int bal = ledgerService.getBalance(currentUserId());
         return new PointBalanceResponse(bal);
     }
 
@@ -34,17 +32,8 @@ public PointBalanceResponse balance(){
     public PointLedgerPageResponse ledger(@RequestParam(defaultValue="0") int page,
                                           @RequestParam(defaultValue="10") int size,
                                           @RequestParam(required=false) String reason){
-        Pageable pageable = PageRequest.of(Math.max(0,page), Math.min(100, size), Sort.by(Sort.Direction.DESC, "id"));
-        var uid = currentUserId();
-        Page<PointLedgerEntry> p = (reason == null || reason.isBlank())
-                ? ledgerRepo.findByUserIdOrderByIdDesc(uid, pageable)
-                : ledgerRepo.findByUserIdAndReasonOrderByIdDesc(uid, reason, pageable);
-
-        List<PointLedgerItemResponse> items = p.getContent().stream().map(e ->
-                new PointLedgerItemResponse(e.getId(), e.getAmount(), e.getReason(), e.getRefKey(), e.getCreatedAt())
-        ).toList();
-
-        return new PointLedgerPageResponse(items, p.getNumber(), p.getSize(), p.getTotalElements(), p.getTotalPages());
+        // 최근 내역은 운영 테이블, 마감된 과거 내역은 아카이브에서 이어서
+        return ledgerService.history(currentUserId(), reason, Math.max(0, page), Math.max(1, Math.min(100, size)));
     }
 
     @Operation(summary="내 포인트 교환 내역(페이지네이션)")
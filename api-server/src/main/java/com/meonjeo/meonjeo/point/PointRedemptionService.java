@@ -14,7 +14,6 @@
 public class PointRedemptionService {
 
     private final PointRedemptionRepository redemptionRepo;
-    private final PointLedgerRepository ledgerRepo;
     private final PointLedgerService ledgerService; // PointLedgerPort 구현체
     private final AuthSupport auth;
 
@@ -28,7 +27,7 @@ public RedemptionResponse request(int amount) {
         if (!ALLOWED.contains(amount)) throw new IllegalArgumentException("교환 가능 금액: 5,000/10,000/30,000");
 
         Long uid = currentUserId();
-        int balance = ledgerRepo.sumBalance(uid);
+        int balance = ledgerService.getBalance(uid);
         if (balance < amount) throw new IllegalStateException("포인트 잔액 부족");
 
         var r = redemptionRepo.save(PointRedemption.builder()
@@ -0,0 +1,28 @@
+package com.meonjeo.meonjeo.point;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 포인트 잔액(원장 합계의 물리화)
+ * - 원장 insert와 같은 트랜잭션에서 조건부 UPDATE(balance + delta >= 0)로만 갱신
+ * - 행이 없는 사용자는 첫 원장 기록 시 원장 합계로 초기화
+ */
+@Entity
+@Table(name = "user_point_balance")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class UserPointBalance {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Comment("현재 잔액 = sum(point_ledger.amount)")
+    @Column(nullable = false)
+    private int balance;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,42 @@
+package com.meonjeo.meonjeo.point;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface UserPointBalanceRepository extends JpaRepository<UserPointBalance, Long> {
+
+    @Query("select b.balance from UserPointBalance b where b.userId = :uid")
+    Optional<Integer> findBalance(@Param("uid") Long userId);
+
+    /** 잔액 행 잠금(만료 처리 시 잠금 순서 맞추기용) */
+    @Query(value = "select user_id from user_point_balance where user_id = :uid for update", nativeQuery = true)
+    Optional<Long> lockByUserId(@Param("uid") Long userId);
+
+    /** 잔액이 음수가 되지 않을 때만 반영. 0이면 행 없음 또는 잔액 부족 */
+    @Modifying
+    @Query(value = """
+        update user_point_balance
+           set balance = balance + :delta, updated_at = now()
+         where user_id = :uid and balance + :delta >= 0
+        """, nativeQuery = true)
+    int applyDelta(@Param("uid") Long userId, @Param("delta") int delta);
+
+    /** 원장 잔액(최신 마감 + tail)으로 잔액 행 생성(이미 있으면 무시). 1이면 새로 생성 */
+    @Modifying
+    @Query(value = "insert ignore into user_point_balance (user_id, balance, updated_at) select :uid, "
+            + PointLedgerRepository.CHECKPOINT_BALANCE + " + " + PointLedgerRepository.TAIL_SUM + ", now()",
+            nativeQuery = true)
+    int initFromLedger(@Param("uid") Long userId);
+
+    /** 재조정용: 관측한 잔액이 그대로일 때만 교정 */
+    @Modifying
+    @Query(value = """
+        update user_point_balance set balance = :expected, updated_at = now()
+         where user_id = :uid and balance = :observed
+        """, nativeQuery = true)
+    int correct(@Param("uid") Long userId, @Param("observed") int observed, @Param("expected") int expected);
+}
@@ -11,7 +11,8 @@
 @Table(
         name = "products",
         indexes = {
-                @Index(name = "idx_product_seller", columnList = "seller_id")
+                @Index(name = "idx_product_seller", columnList = "seller_id"),
+                @Index(name = "idx_product_category_id", columnList = "category, id")
         }
 )
 @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
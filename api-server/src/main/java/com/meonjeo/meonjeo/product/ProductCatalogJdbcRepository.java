@@ -0,0 +1,98 @@
+package com.meonjeo.meonjeo.product;
+
+import com.meonjeo.meonjeo.product.dto.ProductResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공개 상품 목록 전용 JDBC 리포 (키셋 페이지네이션: id desc)
+ * - detail_html(LONGTEXT)은 select 하지 않음 → 응답의 detailHtml은 항상 null
+ * - 카테고리/가격대/판매기간 필터는 모두 SQL where 절로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductCatalogJdbcRepository {
+    private final JdbcTemplate jdbc;
+
+    /** 목록 조회 조건. null 필드는 필터 미적용 */
+    public record CatalogFilter(
+            Long beforeId,            // 커서: 이 id 미만만 조회(첫 페이지는 null)
+            String category,
+            Integer minPrice,         // 실판매가(할인가>0 ? 할인가 : 기본가) 기준
+            Integer maxPrice,
+            LocalDateTime saleAt      // 이 시각에 판매 중인 상품만
+    ) {}
+
+    private static final String COLUMNS = """
+            p.id, p.name, p.brand, p.base_price, p.sale_price, p.category, p.thumbnail_url,
+            p.stock_total, p.feedback_point, p.sale_start_at, p.sale_end_at,
+            p.option1_name, p.option2_name, p.option3_name, p.option4_name, p.option5_name
+            """;
+
+    private static final String EFFECTIVE_PRICE = "(case when p.sale_price > 0 then p.sale_price else p.base_price end)";
+
+    private static final RowMapper<ProductResponse> ROW_MAPPER = (rs, i) -> new ProductResponse(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getString("brand"),
+            rs.getInt("base_price"),
+            rs.getInt("sale_price"),
+            rs.getString("category"),
+            rs.getString("thumbnail_url"),
+            null, // detailHtml: 목록에서는 제외
+            rs.getInt("stock_total"),
+            rs.getInt("feedback_point"),
+            toLdt(rs.getTimestamp("sale_start_at")),
+            toLdt(rs.getTimestamp("sale_end_at")),
+            rs.getString("option1_name"),
+            rs.getString("option2_name"),
+            rs.getString("option3_name"),
+            rs.getString("option4_name"),
+            rs.getString("option5_name")
+    );
+
+    /** limit 건까지 id desc 로 조회 (다음 페이지 판단은 호출부에서 limit = size + 1 로) */
+    public List<ProductResponse> findPage(CatalogFilter f, int limit) {
+        StringBuilder sql = new StringBuilder("select ").append(COLUMNS).append(" from products p where 1=1");
+        List<Object> args = new ArrayList<>();
+
+        if (f.beforeId() != null) {
+            sql.append(" and p.id < ?");
+            args.add(f.beforeId());
+        }
+        if (f.category() != null) {
+            sql.append(" and p.category = ?");
+            args.add(f.category());
+        }
+        if (f.minPrice() != null) {
+            sql.append(" and ").append(EFFECTIVE_PRICE).append(" >= ?");
+            args.add(f.minPrice());
+        }
+        if (f.maxPrice() != null) {
+            sql.append(" and ").append(EFFECTIVE_PRICE).append(" <= ?");
+            args.add(f.maxPrice());
+        }
+        if (f.saleAt() != null) {
+            Timestamp at = Timestamp.valueOf(f.saleAt());
+            sql.append(" and (p.sale_start_at is null or p.sale_start_at <= ?)")
+               .append(" and (p.sale_end_at is null or p.sale_end_at >= ?)");
+            args.add(at);
+            args.add(at);
+        }
+        sql.append(" order by p.id desc limit ?");
+        args.add(limit);
+
+        return jdbc.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    private static LocalDateTime toLdt(Timestamp ts) {
+        return ts == null ? null : ts.toLocalDateTime();
+    }
+}
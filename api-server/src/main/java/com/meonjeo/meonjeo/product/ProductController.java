@@ -24,6 +24,16 @@ public List<ProductResponse> listPublic() {
         return productService.listPublic();
     }
 
+    @Operation(summary="상품 목록(공개, 커서 페이지네이션) — beforeId=이전 응답의 nextCursor")
+    @GetMapping("/products/page")
+    public ProductPageResponse pagePublic(@RequestParam(required = false) Long beforeId,
+                                          @RequestParam(defaultValue = "20") int size,
+                                          @RequestParam(required = false) String category,
+                                          @RequestParam(required = false) Integer minPrice,
+                                          @RequestParam(required = false) Integer maxPrice) {
+        return productService.pagePublic(beforeId, size, category, minPrice, maxPrice);
+    }
+
     @Operation(summary="상품 상세(+옵션 조합, 공개)")
     @GetMapping("/products/{id}")
     public ProductWithVariantsResponse getPublic(@PathVariable Long id) {
@@ -59,6 +69,13 @@ public void delete(@PathVariable Long id) {
         productService.delete(id);
     }
 
+    @Operation(summary="상품 상세 캐시 통계(관리자, 노드 로컬)")
+    @GetMapping("/admin/products/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ProductCacheStatsResponse cacheStats() {
+        return productService.detailCacheStats();
+    }
+
     // 관리자 전용 상품 삭제 엔드포인트
     @Operation(summary="상품 삭제(관리자 전용)")
     @DeleteMapping("/admin/products/{id}")
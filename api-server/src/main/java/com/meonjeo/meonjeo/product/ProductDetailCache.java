@@ -0,0 +1,140 @@
+package com.meonjeo.meonjeo.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.meonjeo.meonjeo.product.dto.ProductCacheStatsResponse;
+import com.meonjeo.meonjeo.product.dto.ProductVariantResponse;
+import com.meonjeo.meonjeo.product.dto.ProductWithVariantsResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 상품 상세(ProductWithVariantsResponse) 로컬 캐시
+ * - Caffeine(W-TinyLFU), 응답 크기 추정치로 가중치 제한
+ * - 상품/옵션/재고 변경 시 커밋 후 evict → Redis pub/sub으로 다른 API 노드에도 전파
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductDetailCache {
+
+    private static final String CHANNEL = "product:detail:evict";
+
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${product.cache.max-weight-bytes:67108864}")
+    private long maxWeightBytes;
+    @Value("${product.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    /** 자기 자신이 보낸 무효화 메시지를 구분하기 위한 노드 식별자 */
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final LongAdder remoteEvictions = new LongAdder();
+
+    private Cache<Long, ProductWithVariantsResponse> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Long id, ProductWithVariantsResponse v) -> estimateBytes(v))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int sep = body.indexOf(':');
+            if (sep < 0 || body.substring(0, sep).equals(nodeId)) return; // 내가 보낸 메시지
+            try {
+                cache.invalidate(Long.valueOf(body.substring(sep + 1)));
+                remoteEvictions.increment();
+            } catch (NumberFormatException e) {
+                log.warn("[product-cache] invalid evict message: {}", body);
+            }
+        }, new ChannelTopic(CHANNEL));
+    }
+
+    public ProductWithVariantsResponse get(Long productId, Function<Long, ProductWithVariantsResponse> loader) {
+        return cache.get(productId, loader);
+    }
+
+    /** 트랜잭션 안이면 커밋 이후, 밖이면 즉시 무효화(롤백 시에는 캐시 유지) */
+    public void evictAfterCommit(Long productId) {
+        if (productId == null) return;
+        evictAfterCommit(Set.of(productId));
+    }
+
+    public void evictAfterCommit(Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) return;
+        Set<Long> ids = new LinkedHashSet<>(productIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override public void afterCommit() { evictNow(ids); }
+            });
+        } else {
+            evictNow(ids);
+        }
+    }
+
+    private void evictNow(Collection<Long> ids) {
+        for (Long id : ids) {
+            if (id == null) continue;
+            cache.invalidate(id);
+            try {
+                redis.convertAndSend(CHANNEL, nodeId + ":" + id);
+            } catch (Exception e) {
+                // 브로드캐스트 실패 시 다른 노드는 TTL 만료로 수렴
+                log.warn("[product-cache] broadcast failed productId={}: {}", id, e.getMessage());
+            }
+        }
+    }
+
+    public ProductCacheStatsResponse stats() {
+        CacheStats s = cache.stats();
+        return new ProductCacheStatsResponse(
+                cache.estimatedSize(),
+                s.hitCount(), s.missCount(), s.hitRate(),
+                s.evictionCount(), s.evictionWeight(),
+                remoteEvictions.sum()
+        );
+    }
+
+    /** 응답 객체의 대략적인 힙 사용량(문자열 길이 기반 추정) */
+    private static int estimateBytes(ProductWithVariantsResponse v) {
+        long bytes = 512;
+        var p = v.product();
+        if (p != null) {
+            bytes += len(p.name()) + len(p.brand()) + len(p.category())
+                    + len(p.thumbnailUrl()) + len(p.detailHtml());
+        }
+        if (v.variants() != null) {
+            for (ProductVariantResponse pv : v.variants()) {
+                bytes += 96 + len(pv.option1Value()) + len(pv.option2Value()) + len(pv.option3Value())
+                        + len(pv.option4Value()) + len(pv.option5Value()) + len(pv.skuCode());
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static long len(String s) { return s == null ? 0 : 2L * s.length(); }
+}
@@ -22,4 +22,12 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("update Product p set p.stockTotal = p.stockTotal - :qty where p.id = :productId and p.stockTotal >= :qty")
     int decreaseStockTotalIfEnough(@Param("productId") Long productId, @Param("qty") int qty);
+
+    /** 총재고(stockTotal)와 옵션 재고 합계가 어긋난 상품: [productId, stockTotal, sum(variant.stock)] */
+    @Query("""
+      select p.id, p.stockTotal, sum(v.stock) from ProductVariant v join v.product p
+      group by p.id, p.stockTotal
+      having p.stockTotal <> sum(v.stock)
+    """)
+    List<Object[]> findStockTotalDrift();
 }
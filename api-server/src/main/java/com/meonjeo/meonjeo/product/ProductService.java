@@ -1,5 +1,6 @@
 package com.meonjeo.meonjeo.product;
 
+import com.meonjeo.meonjeo.inventory.InventoryReservationService;
 import com.meonjeo.meonjeo.product.dto.*;
 import com.meonjeo.meonjeo.security.AuthSupport;
 import com.meonjeo.meonjeo.seller.SellerService;
@@ -17,6 +18,9 @@
 public class ProductService {
     private final ProductRepository productRepo;
     private final ProductVariantRepository variantRepo;
+    private final ProductCatalogJdbcRepository catalogRepo;
+    private final ProductDetailCache detailCache;
+    private final InventoryReservationService inventory;
     private final AuthSupport auth;
     private final SellerService sellerService;
 
@@ -37,10 +41,34 @@ public List<ProductResponse> listPublic() {
                 .collect(java.util.stream.Collectors.toList());
     }
 
+    /** 공개 목록(키셋 페이지네이션). detailHtml 없이 size건만 조회 */
+    @Transactional(readOnly = true)
+    public ProductPageResponse pagePublic(Long beforeId, int size, String category,
+                                          Integer minPrice, Integer maxPrice) {
+        int limit = Math.max(1, Math.min(100, size));
+        var filter = new ProductCatalogJdbcRepository.CatalogFilter(
+                beforeId, nv(category), minPrice, maxPrice, java.time.LocalDateTime.now());
+
+        List<ProductResponse> rows = catalogRepo.findPage(filter, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<ProductResponse> items = hasNext ? rows.subList(0, limit) : rows;
+        Long nextCursor = hasNext ? items.get(items.size() - 1).id() : null;
+        return new ProductPageResponse(items, nextCursor, hasNext);
+    }
+
+    /** 공개 상세는 로컬 캐시 우선(미스 시에만 DB 조회) */
     @Transactional(readOnly = true)
     public ProductWithVariantsResponse getPublic(Long id) {
+        return detailCache.get(id, this::loadPublic);
+    }
+
+    private ProductWithVariantsResponse loadPublic(Long id) {
         Product p = productRepo.findById(id).orElseThrow();
-        return new ProductWithVariantsResponse(toProductResponse(p), toVariantResponses(id));
+        return new ProductWithVariantsResponse(toProductResponse(p), List.copyOf(toVariantResponses(id)));
+    }
+
+    public ProductCacheStatsResponse detailCacheStats() {
+        return detailCache.stats();
     }
 
     // ====== 셀러/관리자 전용 조회 ======
@@ -126,6 +154,7 @@ public void update(Long id, ProductCreateRequest req) {
         // stockTotal은 variants 전면 교체 시 아래에서 다시 계산/세팅
 
         productRepo.save(p);
+        detailCache.evictAfterCommit(p.getId());
 
         // 옵션 배열 전달 방식:
         //  - req.variants() == null  → 옵션/재고 변경 없음
@@ -154,6 +183,7 @@ public void delete(Long id) {
         // 주문에는 스냅샷이 남으므로 상품 삭제 가능. (필요 시 soft delete로 바꿀 수 있음)
         variantRepo.deleteByProductId(p.getId());
         productRepo.delete(p);
+        detailCache.evictAfterCommit(p.getId());
     }
 
     // ====== 내부 유틸 ======
@@ -190,7 +220,10 @@ private static void validateOptionDeltaWithin50pct(int basePrice, int salePrice,
     }
 
     private void replaceVariantsAccordingToRequest(Product p, List<ProductVariantCreateRequest> vReq, int stockTotalIfSingle) {
+        // 기존 조합은 삭제되므로 재고 미러도 정리(새 조합은 새 id 로 선점 시 초기화)
+        inventory.evictStockMirrorAfterCommit(variantRepo.findByProductId(p.getId()).stream().map(ProductVariant::getId).toList());
         variantRepo.deleteByProductId(p.getId());
+        detailCache.evictAfterCommit(p.getId());
 
         if (vReq == null || vReq.isEmpty()) {
             // 단일 SKU
@@ -6,6 +6,9 @@
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -34,4 +37,18 @@ public Optional<ProductSummary> findSummaryById(Long id) {
             return Optional.empty();
         });
     }
+
+    /** 여러 상품 요약을 한 번에 조회(id → summary). 삭제된 상품은 결과에 없음 */
+    public Map<Long, ProductSummary> findSummariesByIds(Collection<Long> ids) {
+        Map<Long, ProductSummary> out = new HashMap<>();
+        if (ids == null || ids.isEmpty()) return out;
+        String in = String.join(",", java.util.Collections.nCopies(ids.size(), "?"));
+        jdbc.query("select id, name, thumbnail_url from products where id in (" + in + ")",
+                rs -> {
+                    out.put(rs.getLong("id"), new ProductSummary(
+                            rs.getLong("id"), rs.getString("name"), rs.getString("thumbnail_url")));
+                },
+                ids.toArray());
+        return out;
+    }
 }
@@ -16,10 +16,13 @@
 @Entity
 @Table(
         name = "product_variants",
-        uniqueConstraints = @UniqueConstraint(
-                name = "uk_variant_unique_combo",
-                columnNames = {"product_id","option1_value","option2_value","option3_value","option4_value","option5_value"}
-        ),
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_variant_unique_combo",
+                        columnNames = {"product_id","option1_value","option2_value","option3_value","option4_value","option5_value"}
+                ),
+                @UniqueConstraint(name = "uk_variant_product_key", columnNames = {"product_id","variant_key"})
+        },
         indexes = @Index(name = "idx_variant_product", columnList = "product_id")
 )
 @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
@@ -39,6 +42,10 @@ public class ProductVariant {
     @Column(name = "option4_value", length = 50) private String option4Value;
     @Column(name = "option5_value", length = 50) private String option5Value;
 
+    @Column(name = "variant_key", length = 64)
+    @Comment("옵션값 5개의 정규화 해시(VariantKey). 저장 시 자동 계산")
+    private String variantKey;
+
     @Comment("해당 조합 추가금(±원). 음수 가능")
     private int addPrice;
 
@@ -53,6 +60,6 @@ public class ProductVariant {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    @PrePersist void onCreate(){ createdAt = updatedAt = java.time.LocalDateTime.now(); }
-    @PreUpdate  void onUpdate(){ updatedAt = java.time.LocalDateTime.now(); }
+    @PrePersist void onCreate(){ createdAt = updatedAt = java.time.LocalDateTime.now(); variantKey = VariantKey.of(this); }
+    @PreUpdate  void onUpdate(){ updatedAt = java.time.LocalDateTime.now(); variantKey = VariantKey.of(this); }
 }
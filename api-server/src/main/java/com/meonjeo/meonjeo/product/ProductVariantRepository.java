@@ -1,8 +1,10 @@
 package com.meonjeo.meonjeo.product;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,20 +13,26 @@ public interface ProductVariantRepository extends JpaRepository<ProductVariant,
     @Query("select v from ProductVariant v where v.product.id = :productId")
     List<ProductVariant> findByProductId(@Param("productId") Long productId);
 
+    /** 여러 상품의 옵션 조합을 한 번에 조회(주문서 일괄 로딩용) */
+    @Query("select v from ProductVariant v where v.product.id in :productIds")
+    List<ProductVariant> findByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    /** 조합키로 단건 조회 — (product_id, variant_key) 유니크 인덱스 사용 */
+    @Query("select v from ProductVariant v where v.product.id = :productId and v.variantKey = :variantKey")
+    Optional<ProductVariant> findByProductIdAndVariantKey(@Param("productId") Long productId,
+                                                         @Param("variantKey") String variantKey);
+
+    /** 여러 (상품, 조합키)를 한 번에 조회. 교차 조합은 호출부(ProductVariantResolver)에서 걸러냄 */
     @Query("""
-      select v from ProductVariant v
-      where v.product.id = :productId
-        and ((:o1 is null and v.option1Value is null) or v.option1Value = :o1)
-        and ((:o2 is null and v.option2Value is null) or v.option2Value = :o2)
-        and ((:o3 is null and v.option3Value is null) or v.option3Value = :o3)
-        and ((:o4 is null and v.option4Value is null) or v.option4Value = :o4)
-        and ((:o5 is null and v.option5Value is null) or v.option5Value = :o5)
+      select v from ProductVariant v join fetch v.product p
+      where p.id in :productIds and v.variantKey in :variantKeys
     """)
-    Optional<ProductVariant> matchOne(
-            @Param("productId") Long productId,
-            @Param("o1") String o1, @Param("o2") String o2, @Param("o3") String o3,
-            @Param("o4") String o4, @Param("o5") String o5
-    );
+    List<ProductVariant> findByProductIdsAndVariantKeys(@Param("productIds") Collection<Long> productIds,
+                                                       @Param("variantKeys") Collection<String> variantKeys);
+
+    /** variant_key 미계산(컬럼 추가 이전) 행 — 백필용 */
+    @Query("select v from ProductVariant v where v.variantKey is null order by v.id")
+    List<ProductVariant> findWithoutVariantKey(Pageable pageable);
 
     /** 재고가 충분할 때만 감소(원자 연산). finalizePaid에서 사용 */
     @Modifying(clearAutomatically = true, flushAutomatically = true)
@@ -0,0 +1,49 @@
+package com.meonjeo.meonjeo.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * (상품, 옵션값) → ProductVariant 해석기
+ * - 단건: (product_id, variant_key) 동등 조회
+ * - 다건: 상품 id / 조합키 IN 조회 1회로 묶어서 해석
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductVariantResolver {
+
+    private final ProductVariantRepository variantRepo;
+
+    /** 해석 요청 단위. 옵션값 배열 대신 조합키를 들고 있어 Map 키로 사용 가능 */
+    public record VariantLookup(Long productId, String variantKey) {
+        public static VariantLookup of(Long productId, String[] vals) {
+            return new VariantLookup(productId, VariantKey.of(vals));
+        }
+    }
+
+    public Optional<ProductVariant> resolve(Long productId, String[] vals) {
+        return variantRepo.findByProductIdAndVariantKey(productId, VariantKey.of(vals));
+    }
+
+    /** 찾지 못한 조합은 결과 Map에 포함되지 않음 */
+    public Map<VariantLookup, ProductVariant> resolveAll(Collection<VariantLookup> lookups) {
+        if (lookups == null || lookups.isEmpty()) return Map.of();
+
+        Set<Long> productIds = new HashSet<>();
+        Set<String> keys = new HashSet<>();
+        for (VariantLookup l : lookups) {
+            productIds.add(l.productId());
+            keys.add(l.variantKey());
+        }
+
+        Set<VariantLookup> wanted = new HashSet<>(lookups);
+        Map<VariantLookup, ProductVariant> out = new HashMap<>();
+        for (ProductVariant v : variantRepo.findByProductIdsAndVariantKeys(productIds, keys)) {
+            VariantLookup k = new VariantLookup(v.getProduct().getId(), v.getVariantKey());
+            if (wanted.contains(k)) out.put(k, v);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,42 @@
+package com.meonjeo.meonjeo.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 결제 확정 시 재고 일괄 차감(JDBC batch)
+ * - 호출부는 id 오름차순(SortedMap)으로 전달 → 동시 주문끼리 행 잠금 순서가 같아 데드락 없음
+ * - 각 UPDATE는 재고가 충분할 때만 반영되며, 결과 배열의 0은 재고 부족/경합을 의미
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockJdbcRepository {
+    private final JdbcTemplate jdbc;
+
+    /** variantId → 차감 수량. 반환값은 key 순서와 같은 영향 행 수 배열 */
+    public int[] decreaseVariantStocks(SortedMap<Long, Integer> qtyByVariant) {
+        return batch("update product_variants set stock = stock - ?, updated_at = now() where id = ? and stock >= ?",
+                qtyByVariant);
+    }
+
+    /** productId → 차감 수량. 반환값은 key 순서와 같은 영향 행 수 배열 */
+    public int[] decreaseProductStockTotals(SortedMap<Long, Integer> qtyByProduct) {
+        return batch("update products set stock_total = stock_total - ? where id = ? and stock_total >= ?",
+                qtyByProduct);
+    }
+
+    private int[] batch(String sql, SortedMap<Long, Integer> qtyById) {
+        if (qtyById.isEmpty()) return new int[0];
+        List<Object[]> args = new ArrayList<>(qtyById.size());
+        for (Map.Entry<Long, Integer> e : qtyById.entrySet()) {
+            args.add(new Object[]{ e.getValue(), e.getKey(), e.getValue() });
+        }
+        return jdbc.batchUpdate(sql, args);
+    }
+}
@@ -0,0 +1,37 @@
+package com.meonjeo.meonjeo.product;
+
+import com.meonjeo.meonjeo.common.HashUtil;
+
+/**
+ * 옵션값 5개 → 정규화된 조합 키(SHA-256 hex, 64자)
+ * - null과 빈 문자열을 구분하고, 값마다 길이를 앞에 붙여 구분자 충돌을 방지
+ * - (product_id, variant_key) 유니크 인덱스로 옵션 조합을 단일 동등 조건으로 조회
+ */
+public final class VariantKey {
+    private VariantKey() {}
+
+    public static String of(String o1, String o2, String o3, String o4, String o5) {
+        StringBuilder sb = new StringBuilder(64);
+        append(sb, o1); append(sb, o2); append(sb, o3); append(sb, o4); append(sb, o5);
+        return HashUtil.sha256Hex(sb.toString());
+    }
+
+    public static String of(String[] vals) {
+        return of(at(vals, 0), at(vals, 1), at(vals, 2), at(vals, 3), at(vals, 4));
+    }
+
+    public static String of(ProductVariant v) {
+        return of(v.getOption1Value(), v.getOption2Value(), v.getOption3Value(),
+                v.getOption4Value(), v.getOption5Value());
+    }
+
+    private static void append(StringBuilder sb, String s) {
+        if (s == null) sb.append('-');
+        else sb.append(s.codePointCount(0, s.length())).append(':').append(s);
+        sb.append(';');
+    }
+
+    private static String at(String[] vals, int i) {
+        return (vals == null || i >= vals.length) ? null : vals[i];
+    }
+}
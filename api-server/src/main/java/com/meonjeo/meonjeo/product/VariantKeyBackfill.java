@@ -0,0 +1,47 @@
+package com.meonjeo.meonjeo.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * variant_key 컬럼 추가 이전에 저장된 옵션 조합의 키를 기동 시 채워 넣음(비어있는 행만, 500건 단위)
+ * - 조합 조회가 variant_key 동등 조회만 쓰므로, 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 실행
+ * - 중복 조합 등으로 실패하면 기동 자체를 중단(키 없는 행이 남은 채로 서비스하면 주문/장바구니가 VARIANT_NOT_FOUND)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VariantKeyBackfill implements SmartInitializingSingleton {
+
+    private static final int CHUNK = 500;
+
+    private final ProductVariantRepository variantRepo;
+    private final TransactionTemplate tx;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        int total = 0;
+        try {
+            while (true) {
+                Integer n = tx.execute(status -> {
+                    List<ProductVariant> rows = variantRepo.findWithoutVariantKey(PageRequest.of(0, CHUNK));
+                    rows.forEach(v -> v.setVariantKey(VariantKey.of(v)));
+                    variantRepo.saveAll(rows);
+                    return rows.size();
+                });
+                if (n == null || n == 0) break;
+                total += n;
+            }
+        } catch (RuntimeException e) {
+            log.error("[variant-key] backfill failed after {} rows", total, e);
+            throw new IllegalStateException("VARIANT_KEY_BACKFILL_FAILED", e);
+        }
+        if (total > 0) log.info("[variant-key] backfilled {} rows", total);
+    }
+}
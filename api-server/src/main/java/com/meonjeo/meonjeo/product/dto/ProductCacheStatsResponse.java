@@ -0,0 +1,11 @@
+package com.meonjeo.meonjeo.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "ProductCacheStatsResponse", description = "상품 상세 캐시 통계(노드 로컬)")
+public record ProductCacheStatsResponse(
+        long size,
+        long hitCount, long missCount, double hitRate,
+        long evictionCount, long evictionWeight,
+        long remoteEvictionCount
+) {}
@@ -0,0 +1,12 @@
+package com.meonjeo.meonjeo.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * 공개 상품 목록(키셋 페이지)
+ * - nextCursor: 다음 페이지 요청 시 beforeId로 그대로 전달 (hasNext=false면 null)
+ * - items[].detailHtml은 목록에서 항상 null (상세 API 사용)
+ */
+@Schema(name = "ProductPageResponse")
+public record ProductPageResponse(List<ProductResponse> items, Long nextCursor, boolean hasNext) {}
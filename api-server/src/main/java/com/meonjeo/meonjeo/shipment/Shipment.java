@@ -5,7 +5,10 @@
 import lombok.*;
 import java.time.LocalDateTime;
 
-@Entity @Table(name="shipments")
+@Entity @Table(name="shipments", indexes = {
+        @Index(name = "idx_shipment_order", columnList = "order_id"),
+        @Index(name = "idx_shipment_next_poll", columnList = "next_poll_at, id")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Shipment {
 
@@ -38,4 +41,22 @@ public class Shipment {
 
     private LocalDateTime deliveredAt;
     private LocalDateTime lastSyncedAt;
+
+    /** 마지막 추적 단계(1~6)와 그 단계로 바뀐 시각 — 추적 간격 결정용(TrackingPollPolicy) */
+    private Integer trackingLevel;
+    private LocalDateTime levelChangedAt;
+
+    /** 다음 추적 예정 시각. null = 추적 대상 아님(배송완료/운송장 없음) */
+    @Column(name = "next_poll_at")
+    private LocalDateTime nextPollAt;
+
+    /** 연속 조회 실패 횟수(성공/운송장 재등록 시 0). 한도를 넘으면 next_poll_at 을 비워 추적 중단 */
+    @Column(name = "tracking_errors")
+    private Integer trackingErrors;
+
+    @PrePersist void prePersist() {
+        if (nextPollAt == null && trackingNo != null && status != ShipmentStatus.DELIVERED) {
+            nextPollAt = LocalDateTime.now();
+        }
+    }
 }
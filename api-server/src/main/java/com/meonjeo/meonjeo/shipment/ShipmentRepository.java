@@ -1,6 +1,8 @@
 package com.meonjeo.meonjeo.shipment;
 
 import com.meonjeo.meonjeo.common.ShipmentStatus;
+import com.meonjeo.meonjeo.shipment.dto.TrackingTarget;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
@@ -12,7 +14,27 @@ public interface ShipmentRepository extends JpaRepository<Shipment, Long> {
     Optional<Shipment> findByOrderId(Long orderId);
 
     List<Shipment> findAllByStatusAndDeliveredAtBefore(ShipmentStatus status, LocalDateTime threshold);
-    List<Shipment> findAllByCourierCodeIsNotNullAndTrackingNoIsNotNullAndStatusNot(ShipmentStatus status);
+
+    /** 추적 예정 시각이 지난 출고(idx_shipment_next_poll 범위 스캔, 오래 기다린 순) — 필요한 컬럼만 */
+    @Query("""
+        select new com.meonjeo.meonjeo.shipment.dto.TrackingTarget(s.id, s.courierCode, s.trackingNo)
+          from Shipment s
+         where s.nextPollAt <= :now
+           and s.courierCode is not null and s.trackingNo is not null and s.status <> :delivered
+         order by s.nextPollAt, s.id
+        """)
+    List<TrackingTarget> findDueTrackingTargets(@Param("now") LocalDateTime now,
+                                                @Param("delivered") ShipmentStatus delivered,
+                                                Pageable pageable);
+
+    /** next_poll_at 도입 이전 출고(운송장 있음 + 미배송)를 즉시 추적 대상으로. 연속 실패로 중단된 출고는 제외 */
+    @Modifying
+    @Query("""
+        update Shipment s set s.nextPollAt = :now
+         where s.nextPollAt is null and (s.trackingErrors is null or s.trackingErrors = 0)
+           and s.courierCode is not null and s.trackingNo is not null and s.status <> :delivered
+        """)
+    int backfillNextPoll(@Param("now") LocalDateTime now, @Param("delivered") ShipmentStatus delivered);
 
     Optional<Shipment> findByExchangeId(Long exchangeId);
 
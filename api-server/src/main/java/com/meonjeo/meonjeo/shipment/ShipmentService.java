@@ -22,6 +22,7 @@ public class ShipmentService {
     private final OrderRepository orderRepo;       // ✅ 주문/소유 검증용
     private final AuthSupport auth;               // ✅ 현재 사용자 ID
     private final SweetTrackerPort sweetTracker;  // 스윗트래커 연동 포트
+    private final TrackingPollPolicy pollPolicy;  // 다음 추적 시각
 
     // ⬇️ 상태 승급용 랭크(하향 금지)
     private static final java.util.Map<OrderStatus, Integer> ORDER_RANK = java.util.Map.of(
@@ -63,6 +64,9 @@ public void dispatch(DispatchRequest req) {
         s.setTrackingNo(req.trackingNo());
         s.setStatus(ShipmentStatus.READY);
         s.setLastSyncedAt(LocalDateTime.now());
+        s.setTrackingLevel(null);              // 운송장이 바뀌면 단계 이력도 새로
+        s.setTrackingErrors(0);                // 추적 중단된 운송장도 재등록하면 다시 추적
+        s.setNextPollAt(LocalDateTime.now());
         repo.save(s);
 
         // ⬇️ 추가: 등록 직후 실시간 상태 동기화 (배송중/완료면 즉시 반영)
@@ -139,6 +143,7 @@ protected void updateStatusFromLevel(Shipment s, int level) {
             default -> { /* ignore */ }
         }
         s.setLastSyncedAt(LocalDateTime.now());
+        if (level >= 1 && level <= 6) pollPolicy.onTracked(s, level, s.getLastSyncedAt());
         repo.save(s);
     }
 
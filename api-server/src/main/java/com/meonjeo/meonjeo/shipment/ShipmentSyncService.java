@@ -1,65 +1,319 @@
 package com.meonjeo.meonjeo.shipment;
 
 import com.meonjeo.meonjeo.common.OrderStatus;
+import com.meonjeo.meonjeo.common.RedisLeaseLock;
 import com.meonjeo.meonjeo.common.ShipmentStatus;
 import com.meonjeo.meonjeo.order.Order;
 import com.meonjeo.meonjeo.order.OrderRepository;
-import com.meonjeo.meonjeo.shipment.dto.TimelineEvent;
-import lombok.RequiredArgsConstructor;
+import com.meonjeo.meonjeo.shipment.dto.TrackingSyncStatsResponse;
+import com.meonjeo.meonjeo.shipment.dto.TrackingTarget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * 배송 추적 동기화 엔진(스케줄러/단건 동기화 공통)
+ * - 대상: next_poll_at 이 지난 출고만(간격은 TrackingPollPolicy), 실행당 max-per-run 건
+ * - 외부 조회: 동시 호출 수 제한(shipment.tracking.concurrency) 안에서 병렬, DB 커넥션 점유 없음
+ * - 결과 반영: batch-size 건씩 짧은 트랜잭션(출고/주문 일괄 로딩)
+ * - 예약 동기화는 클러스터 잠금(RedisLeaseLock)으로 한 노드만 실행 → 같은 출고를 노드마다 중복 조회하지 않음
+ * - 실행별 처리량/오류 통계는 노드 로컬로 보관(관리자 조회)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ShipmentSyncService {
 
+    // 상태 상승만 허용하기 위한 랭크 맵
+    private static final Map<OrderStatus, Integer> ORDER_RANK = new EnumMap<>(OrderStatus.class);
+    static {
+        ORDER_RANK.put(OrderStatus.PENDING,    0);
+        ORDER_RANK.put(OrderStatus.PAID,       1);
+        ORDER_RANK.put(OrderStatus.READY,      2);
+        ORDER_RANK.put(OrderStatus.IN_TRANSIT, 3);
+        ORDER_RANK.put(OrderStatus.DELIVERED,  4);
+        ORDER_RANK.put(OrderStatus.CONFIRMED,  5);
+    }
+    private static final String LOCK = "shipment-tracking-sync";
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    private static final Map<ShipmentStatus, Integer> SHIPMENT_RANK = new EnumMap<>(ShipmentStatus.class);
+    static {
+        SHIPMENT_RANK.put(ShipmentStatus.READY,      0);
+        SHIPMENT_RANK.put(ShipmentStatus.IN_TRANSIT, 1);
+        SHIPMENT_RANK.put(ShipmentStatus.DELIVERED,  2);
+    }
+
     private final TrackingService trackingService;
     private final ShipmentRepository shipmentRepo;
     private final OrderRepository orderRepo;
+    private final TrackingPollPolicy pollPolicy;
+    private final TransactionTemplate tx;
+    private final RedisLeaseLock lock;
+
+    @Value("${shipment.tracking.concurrency:16}")
+    private int concurrency;
+    @Value("${shipment.tracking.batch-size:100}")
+    private int batchSize;
+    @Value("${shipment.tracking.call-timeout-ms:10000}")
+    private long callTimeoutMs;
+    @Value("${shipment.tracking.max-per-run:5000}")
+    private int maxPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean backfilled = new AtomicBoolean();
+    private final LongAdder totalRuns = new LongAdder();
+    private final LongAdder totalCalls = new LongAdder();
+    private final LongAdder totalErrors = new LongAdder();
+    private volatile TrackingSyncStatsResponse lastRun;
 
+    public ShipmentSyncService(TrackingService trackingService,
+                               ShipmentRepository shipmentRepo,
+                               OrderRepository orderRepo,
+                               TrackingPollPolicy pollPolicy,
+                               PlatformTransactionManager txManager,
+                               RedisLeaseLock lock) {
+        this.trackingService = trackingService;
+        this.shipmentRepo = shipmentRepo;
+        this.orderRepo = orderRepo;
+        this.pollPolicy = pollPolicy;
+        this.tx = new TransactionTemplate(txManager);
+        this.lock = lock;
+    }
+
+    /** 조회 결과(level 0 = 실패), elapsedMs = 호출 대기 포함 출고당 조회 소요 */
+    private record Outcome(Long shipmentId, int level, Throwable error, long elapsedMs) {}
+
+    /** 반영 결과 집계 */
+    private record Applied(int updated, int delivered) {}
+
+    /**
+     * 추적 예정 시각이 지난 출고 동기화. 다른 노드가 실행 중이거나 이전 실행이 끝나지 않았으면 건너뜀
+     * 반영 배치마다 임대를 연장하고, 임대를 잃으면 남은 조회는 중단(다음 주기에 다시 대상이 됨)
+     */
+    public TrackingSyncStatsResponse syncDue() {
+        var lease = lock.tryAcquire(LOCK, LEASE);
+        if (lease.isEmpty()) {
+            log.debug("[tracking] sync skipped (lock held by another node or unavailable)");
+            return lastRun;
+        }
+        try (var l = lease.get()) {
+            if (backfilled.compareAndSet(false, true)) {
+                Integer n = tx.execute(st -> shipmentRepo.backfillNextPoll(LocalDateTime.now(), ShipmentStatus.DELIVERED));
+                if (n != null && n > 0) log.info("[tracking] next_poll_at backfilled={}", n);
+            }
+            return sync(shipmentRepo.findDueTrackingTargets(
+                    LocalDateTime.now(), ShipmentStatus.DELIVERED, PageRequest.of(0, Math.max(1, maxPerRun))),
+                    () -> {
+                        boolean held = l.extend(LEASE);
+                        if (!held) log.warn("[tracking] sync lease lost, stop");
+                        return held;
+                    });
+        }
+    }
+
+    /** 지정 대상 동기화(잠금 없이, 벤치마크/수동 실행용) */
+    public TrackingSyncStatsResponse syncTargets(List<TrackingTarget> targets) {
+        return sync(targets, () -> true);
+    }
+
+    private TrackingSyncStatsResponse sync(List<TrackingTarget> targets, BooleanSupplier keepGoing) {
+        if (targets.isEmpty()) return lastRun;
+        if (!running.compareAndSet(false, true)) {
+            log.info("[tracking] previous run still in progress, skip");
+            return lastRun;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        long t0 = System.nanoTime();
+        AtomicInteger ok = new AtomicInteger(), failed = new AtomicInteger();
+        AtomicInteger updated = new AtomicInteger(), delivered = new AtomicInteger();
+        long[] latencies = new long[targets.size()];
+        AtomicInteger done = new AtomicInteger();
+        try {
+            Flux.fromIterable(targets)
+                    .flatMap(t -> fetch(t).doOnNext(o -> {
+                                (o.error() == null ? ok : failed).incrementAndGet();
+                                latencies[done.getAndIncrement()] = o.elapsedMs();
+                            }),
+                            Math.max(1, concurrency))
+                    .buffer(Math.max(1, batchSize))
+                    .concatMap(batch -> Mono.fromCallable(() -> applyBatch(batch))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .onErrorResume(e -> {
+                                log.warn("[tracking] batch persist failed size={}: {}", batch.size(), e.toString());
+                                return Mono.just(new Applied(0, 0));
+                            }))
+                    .doOnNext(a -> { updated.addAndGet(a.updated()); delivered.addAndGet(a.delivered()); })
+                    .takeWhile(a -> keepGoing.getAsBoolean())
+                    .blockLast();
+        } finally {
+            running.set(false);
+        }
+
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - t0).toMillis();
+        long[] lat = Arrays.copyOf(latencies, done.get());
+        Arrays.sort(lat);
+        totalRuns.increment();
+        TrackingSyncStatsResponse stats = new TrackingSyncStatsResponse(
+                startedAt, LocalDateTime.now(), targets.size(), ok.get(), failed.get(),
+                updated.get(), delivered.get(), elapsedMs,
+                elapsedMs == 0 ? targets.size() : targets.size() * 1000.0 / elapsedMs,
+                percentile(lat, 50), percentile(lat, 99),
+                totalRuns.sum(), totalCalls.sum(), totalErrors.sum());
+        lastRun = stats;
+        log.info("[tracking] sync targets={} ok={} failed={} updated={} delivered={} elapsedMs={}",
+                stats.targets(), stats.succeeded(), stats.failed(), stats.updated(), stats.delivered(), elapsedMs);
+        return stats;
+    }
+
+    /** 단건 동기화(기존 호출부 호환) */
     @Transactional
     public void syncOne(Long shipmentId) {
         Shipment s = shipmentRepo.findById(shipmentId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "SHIPMENT_NOT_FOUND"));
-
         if (s.getCourierCode() == null || s.getTrackingNo() == null) return;
 
-        var tr = trackingService.track(s.getCourierCode(), s.getTrackingNo());
-        int level = tr.events().stream().mapToInt(TimelineEvent::level).max().orElse(1);
-        ShipmentStatus newStatus = mapLevelToStatus(level);
+        int level = trackingService.track(s.getCourierCode(), s.getTrackingNo()).currentLevel();
+        apply(List.of(new Outcome(s.getId(), level, null, 0)));
+    }
+
+    public TrackingSyncStatsResponse lastRunStats() {
+        return lastRun;
+    }
+
+    private Mono<Outcome> fetch(TrackingTarget t) {
+        return Mono.defer(() -> {
+            long s0 = System.nanoTime();
+            return Mono.fromCallable(() -> trackingService.track(t.courierCode(), t.trackingNo()))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .timeout(Duration.ofMillis(callTimeoutMs))
+                    .doOnSubscribe(s -> totalCalls.increment())
+                    .map(tr -> new Outcome(t.shipmentId(), tr.currentLevel(), null, sinceMs(s0)))
+                    .onErrorResume(e -> {
+                        totalErrors.increment();
+                        log.debug("[tracking] fetch failed shipmentId={} {} {}: {}",
+                                t.shipmentId(), t.courierCode(), t.trackingNo(), e.toString());
+                        return Mono.just(new Outcome(t.shipmentId(), 0, e, sinceMs(s0)));
+                    });
+        });
+    }
+
+    private static long sinceMs(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+    }
+
+    /** 정렬된 배열의 nearest-rank 백분위 */
+    private static long percentile(long[] sorted, int p) {
+        if (sorted.length == 0) return 0;
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+    }
+
+    private Applied applyBatch(List<Outcome> batch) {
+        List<Outcome> ok = batch.stream().filter(o -> o.error() == null).toList();
+        List<Long> failedIds = batch.stream().filter(o -> o.error() != null).map(Outcome::shipmentId).toList();
+        return tx.execute(st -> {
+            // 실패분은 단계/상태를 건드리지 않고 연속 실패 횟수에 따라 재시도 시각만 뒤로(한도 초과 시 추적 중단)
+            if (!failedIds.isEmpty()) {
+                LocalDateTime now = LocalDateTime.now();
+                List<Shipment> failed = shipmentRepo.findAllById(failedIds);
+                failed.forEach(s -> pollPolicy.afterError(s, now));
+                shipmentRepo.saveAll(failed);
+            }
+            return ok.isEmpty() ? new Applied(0, 0) : apply(ok);
+        });
+    }
+
+    /** 출고/주문 일괄 로딩 후 상태 반영(호출부 트랜잭션 안) */
+    private Applied apply(List<Outcome> outcomes) {
+        Map<Long, Shipment> shipments = shipmentRepo.findAllById(outcomes.stream().map(Outcome::shipmentId).toList())
+                .stream().collect(Collectors.toMap(Shipment::getId, Function.identity()));
+        Set<Long> orderIds = shipments.values().stream().map(Shipment::getOrderId)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, Order> orders = orderRepo.findAllById(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0, delivered = 0;
+        Set<Long> deliveredOrders = new HashSet<>();
+        for (Outcome o : outcomes) {
+            Shipment s = shipments.get(o.shipmentId());
+            if (s == null) continue;
+            ShipmentStatus next = mapLevelToStatus(o.level());
+            // 최초 배송완료 시 deliveredAt 고정
+            if (next == ShipmentStatus.DELIVERED && s.getDeliveredAt() == null) {
+                s.setDeliveredAt(now);
+                delivered++;
+                if (s.getOrderId() != null) deliveredOrders.add(s.getOrderId());
+            }
+            // 택배사 응답이 잠시 낮은 레벨(0/1)로 돌아와도 상태를 되돌리지 않음
+            if (shouldAdvance(s.getStatus(), next)) s.setStatus(next);
+            s.setLastSyncedAt(now);
+            pollPolicy.onTracked(s, o.level(), now);
+            updated++;
 
-        // 최초 배송완료 시 deliveredAt 고정
-        if (newStatus == ShipmentStatus.DELIVERED && s.getDeliveredAt() == null) {
-            s.setDeliveredAt(LocalDateTime.now());
+            // 주문은 배송중까지만 여기서 승격, 배송완료는 모든 출고 완료 시(아래)
+            Order order = s.getOrderId() == null ? null : orders.get(s.getOrderId());
+            OrderStatus orderNext = mapOrderStatus(o.level());
+            if (order != null && orderNext != OrderStatus.DELIVERED && shouldPromote(order.getStatus(), orderNext)) {
+                order.setStatus(orderNext);
+            }
         }
-        s.setStatus(newStatus);
-        s.setLastSyncedAt(LocalDateTime.now());
-        shipmentRepo.save(s);
+        shipmentRepo.saveAll(shipments.values());
+        shipmentRepo.flush();
 
         // 주문 레벨로 승격: 모든 출고가 완료되면 Order.deliveredAt 설정 + 상태 DELIVERED
-        if (newStatus == ShipmentStatus.DELIVERED) {
-            Long orderId = s.getOrderId();
-            if (shipmentRepo.countByOrderIdAndDeliveredAtIsNull(orderId) == 0) {
-                LocalDateTime maxDelivered = shipmentRepo.maxDeliveredAtByOrderId(orderId);
-                Order o = orderRepo.findById(orderId).orElse(null);
-                if (o != null) {
-                    o.setDeliveredAt(maxDelivered);
-                    if (o.getStatus() != OrderStatus.CONFIRMED) { // 이미 확정된 건은 건드리지 않음
-                        o.setStatus(OrderStatus.DELIVERED);
-                    }
-                    orderRepo.save(o);
-                }
+        for (Long orderId : deliveredOrders) {
+            Order order = orders.get(orderId);
+            if (order == null || shipmentRepo.countByOrderIdAndDeliveredAtIsNull(orderId) > 0) continue;
+            order.setDeliveredAt(shipmentRepo.maxDeliveredAtByOrderId(orderId));
+            if (order.getStatus() != OrderStatus.CONFIRMED) { // 이미 확정된 건은 건드리지 않음
+                order.setStatus(OrderStatus.DELIVERED);
             }
         }
+        orderRepo.saveAll(orders.values());
+        return new Applied(updated, delivered);
     }
 
-    private ShipmentStatus mapLevelToStatus(int lv) {
+    private static ShipmentStatus mapLevelToStatus(int lv) {
         if (lv >= 6) return ShipmentStatus.DELIVERED;
         if (lv >= 2) return ShipmentStatus.IN_TRANSIT;
         return ShipmentStatus.READY;
     }
+
+    private static OrderStatus mapOrderStatus(int level) {
+        // 1:배송준비중, 2:집화완료 → READY / 3~5:배송중/허브/출발 → IN_TRANSIT / 6:배송 완료 → DELIVERED
+        if (level <= 2) return OrderStatus.READY;
+        if (level <= 5) return OrderStatus.IN_TRANSIT;
+        return OrderStatus.DELIVERED;
+    }
+
+    private static boolean shouldAdvance(ShipmentStatus cur, ShipmentStatus next) {
+        if (cur == null) return true;
+        return SHIPMENT_RANK.get(next) > SHIPMENT_RANK.get(cur);
+    }
+
+    private static boolean shouldPromote(OrderStatus cur, OrderStatus next) {
+        if (cur == null) return true;
+        if (cur == OrderStatus.CONFIRMED) return false; // 이미 CONFIRMED면 더 이상 올리지 않음
+        return ORDER_RANK.getOrDefault(next, 0) > ORDER_RANK.getOrDefault(cur, 0);
+    }
 }
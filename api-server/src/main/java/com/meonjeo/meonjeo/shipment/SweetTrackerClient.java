@@ -1,18 +1,43 @@
 package com.meonjeo.meonjeo.shipment;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.meonjeo.meonjeo.shipment.dto.TimelineEvent;
 import com.meonjeo.meonjeo.shipment.dto.TrackingResponse;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
-
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 스윗트래커 연동
+ * - WebClient 1개 공유(커넥션 풀 재사용), 연결/응답 타임아웃 + 일시 오류 지수 백오프 재시도
+ * - trackingInfo 는 (택배사, 운송장) 단위 로컬 캐시: 배송완료는 길게, 진행 중은 짧게.
+ *   같은 키 동시 요청은 진행 중인 호출 하나를 공유(실패 시 캐시에 남지 않음)
+ */
 @Component
 @RequiredArgsConstructor
 public class SweetTrackerClient implements SweetTrackerPort {
@@ -20,33 +45,86 @@ public class SweetTrackerClient implements SweetTrackerPort {
     private final SweetTrackerProperties prop;
     private final CourierCompanyRepository courierRepo;
 
-    private WebClient client() {
-        return WebClient.builder()
+    private WebClient client;
+    private AsyncCache<String, Map<String, Object>> trackingCache;
+
+    @PostConstruct
+    void init() {
+        ConnectionProvider pool = ConnectionProvider.builder("sweettracker")
+                .maxConnections(prop.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(prop.getTimeoutMs()))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        HttpClient http = HttpClient.create(pool)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, prop.getConnectTimeoutMs())
+                .responseTimeout(Duration.ofMillis(prop.getTimeoutMs()));
+        client = WebClient.builder()
                 .baseUrl(prop.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(http))
                 .codecs(c -> c.defaultCodecs().maxInMemorySize(2_000_000))
                 .build();
+
+        trackingCache = Caffeine.newBuilder()
+                .maximumSize(prop.getCacheMaxSize())
+                .expireAfter(new Expiry<String, Map<String, Object>>() {
+                    @Override public long expireAfterCreate(String k, Map<String, Object> v, long now) { return ttlNanos(v); }
+                    @Override public long expireAfterUpdate(String k, Map<String, Object> v, long now, long cur) { return ttlNanos(v); }
+                    @Override public long expireAfterRead(String k, Map<String, Object> v, long now, long cur) { return cur; }
+                })
+                .buildAsync();
     }
 
     public Map<String, Object> companyList() {
-        return client().get()
-                .uri(u -> u.path("/api/v1/companylist").queryParam("t_key", prop.getApiKey()).build())
-                .accept(MediaType.APPLICATION_JSON)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
+        return await(get(u -> u.path("/api/v1/companylist").queryParam("t_key", prop.getApiKey()).build())
+                .toFuture());
     }
 
     public Map<String, Object> trackingInfo(String code, String invoice) {
-        return client().get()
-                .uri(u -> u.path("/api/v1/trackingInfo")
+        return await(trackingCache.get(code + ":" + invoice, (k, executor) ->
+                get(u -> u.path("/api/v1/trackingInfo")
                         .queryParam("t_key", prop.getApiKey())
                         .queryParam("t_code", code)
                         .queryParam("t_invoice", invoice)
                         .build())
+                        .map(Collections::unmodifiableMap) // 캐시 공유 객체
+                        .toFuture()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<Map<String, Object>> get(Function<UriBuilder, URI> uri) {
+        return client.get()
+                .uri(uri)
                 .accept(MediaType.APPLICATION_JSON)
                 .retrieve()
                 .bodyToMono(Map.class)
-                .block();
+                .map(m -> (Map<String, Object>) m)
+                .timeout(Duration.ofMillis(prop.getTimeoutMs()))
+                .retryWhen(Retry.backoff(prop.getMaxRetries(), Duration.ofMillis(prop.getRetryBackoffMs()))
+                        .filter(SweetTrackerClient::isTransient)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private static boolean isTransient(Throwable e) {
+        if (e instanceof WebClientResponseException r) {
+            return r.getStatusCode().is5xxServerError() || r.getStatusCode().value() == 429;
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    /** 기존 block() 과 같은 예외가 호출부로 전달되도록 CompletionException 을 벗겨냄 */
+    private static Map<String, Object> await(CompletableFuture<Map<String, Object>> f) {
+        try {
+            return f.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    private long ttlNanos(Map<String, Object> raw) {
+        boolean delivered = !Boolean.FALSE.equals(raw.get("status"))
+                && (Boolean.TRUE.equals(raw.get("complete")) || parseLevel(raw) >= 6);
+        return Duration.ofSeconds(delivered ? prop.getCacheDeliveredSeconds() : prop.getCacheInTransitSeconds()).toNanos();
     }
 
     @Override
@@ -10,4 +10,15 @@ public class SweetTrackerProperties {
     private String apiKey;
     private String baseUrl = "https://info.sweettracker.co.kr";
     private int timeoutMs = 3000;
+    private int connectTimeoutMs = 2000;
+    /** 커넥션 풀 최대 크기(동기화 동시 호출 수보다 크게) */
+    private int maxConnections = 50;
+    /** 일시 오류(5xx/429/연결·타임아웃) 재시도 횟수와 첫 대기(지수 증가) */
+    private int maxRetries = 2;
+    private long retryBackoffMs = 200;
+
+    /** (택배사, 운송장) 조회 결과 캐시: 배송완료는 길게, 진행 중/오류 응답은 짧게 */
+    private long cacheMaxSize = 50_000;
+    private long cacheInTransitSeconds = 60;
+    private long cacheDeliveredSeconds = 21_600;
 }
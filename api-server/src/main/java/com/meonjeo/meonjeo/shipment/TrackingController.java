@@ -1,11 +1,13 @@
 package com.meonjeo.meonjeo.shipment;
 
 import com.meonjeo.meonjeo.shipment.dto.TrackingResult;
+import com.meonjeo.meonjeo.shipment.dto.TrackingSyncStatsResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -19,6 +21,7 @@ public class TrackingController {
     private final CarrierSyncService carrierSync;
     private final CourierCompanyRepository repo;
     private final TrackingService tracking;
+    private final ShipmentSyncService syncService;
 
     @Operation(
             summary = "택배사 목록 조회",
@@ -64,6 +67,14 @@ public TrackingResult track(
         return tracking.track(code, invoice);
     }
 
+    @Operation(summary = "배송 추적 동기화 통계(관리자, 노드 로컬)",
+            description = "마지막 동기화 실행의 대상/성공/실패/처리량과 누적 호출·오류 수. 실행 이력이 없으면 빈 응답")
+    @GetMapping("/admin/sync-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public TrackingSyncStatsResponse syncStats() {
+        return syncService.lastRunStats();
+    }
+
     // === 아래 유틸 메서드 컨트롤러 내부에 추가 ===
     private String resolveSweetCode(String input) {
         if (input == null) return null;
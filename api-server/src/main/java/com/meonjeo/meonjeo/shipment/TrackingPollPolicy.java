@@ -0,0 +1,101 @@
+package com.meonjeo.meonjeo.shipment;
+
+import com.meonjeo.meonjeo.common.ShipmentStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 출고별 다음 추적 시각(nextPollAt) 결정
+ * - 기본 간격: 현재 단계별(level-minutes, 0=이벤트 없음 ~ 5=배송출발)
+ * - 정체: 단계 변화 없이 stale-after-hours 가 지나면 하루마다 간격 2배(max-minutes 상한)
+ * - 택배사 보정: courier-factors("04:0.5,05:2" 형식, 택배사 코드 → 배수)
+ * - ±jitter-percent 분산으로 같은 시각 등록분이 한꺼번에 몰리지 않게 함
+ * - 조회 실패: 연속 실패마다 error-minutes 부터 2배(error-max-minutes 상한), max-errors 회 연속 실패면 추적 중단
+ * 배송완료(6)와 추적 중단은 null → 추적 대상에서 빠짐
+ */
+@Slf4j
+@Component
+public class TrackingPollPolicy {
+
+    @Value("${shipment.tracking.poll.level-minutes:60,180,120,60,30,10}")
+    private List<Long> levelMinutes;
+    @Value("${shipment.tracking.poll.stale-after-hours:24}")
+    private long staleAfterHours;
+    @Value("${shipment.tracking.poll.max-minutes:720}")
+    private long maxMinutes;
+    @Value("${shipment.tracking.poll.error-minutes:15}")
+    private long errorMinutes;
+    @Value("${shipment.tracking.poll.error-max-minutes:720}")
+    private long errorMaxMinutes;
+    @Value("${shipment.tracking.poll.max-errors:20}")
+    private int maxErrors;
+    @Value("${shipment.tracking.poll.jitter-percent:10}")
+    private int jitterPercent;
+    @Value("${shipment.tracking.poll.courier-factors:}")
+    private List<String> courierFactorSpecs;
+
+    private final Map<String, Double> courierFactors = new HashMap<>();
+
+    @PostConstruct
+    void init() {
+        for (String spec : courierFactorSpecs) {
+            int sep = spec.indexOf(':');
+            if (sep <= 0) continue;
+            try {
+                courierFactors.put(spec.substring(0, sep).trim(), Double.parseDouble(spec.substring(sep + 1).trim()));
+            } catch (NumberFormatException e) {
+                log.warn("[tracking] invalid courier factor: {}", spec);
+            }
+        }
+    }
+
+    /** 조회 결과 반영: 단계/단계 변경 시각 갱신 후 다음 추적 시각 설정 */
+    public void onTracked(Shipment s, int level, LocalDateTime now) {
+        if (s.getTrackingLevel() == null || s.getTrackingLevel() != level || s.getLevelChangedAt() == null) {
+            s.setTrackingLevel(level);
+            s.setLevelChangedAt(now);
+        }
+        s.setTrackingErrors(0);
+        s.setNextPollAt(s.getStatus() == ShipmentStatus.DELIVERED ? null : nextPollAt(s, now));
+    }
+
+    /** 조회 실패: 단계는 그대로, 연속 실패 횟수만큼 간격을 늘려 재시도. 한도에 닿으면 추적 중단(null) */
+    public void afterError(Shipment s, LocalDateTime now) {
+        int errors = (s.getTrackingErrors() == null ? 0 : s.getTrackingErrors()) + 1;
+        s.setTrackingErrors(errors);
+        if (errors >= maxErrors) {
+            log.warn("[tracking] parked shipmentId={} {} {} after {} consecutive errors",
+                    s.getId(), s.getCourierCode(), s.getTrackingNo(), errors);
+            s.setNextPollAt(null);
+            return;
+        }
+        long minutes = Math.min(errorMaxMinutes, errorMinutes << Math.min(20, errors - 1));
+        s.setNextPollAt(now.plusMinutes(minutes));
+    }
+
+    LocalDateTime nextPollAt(Shipment s, LocalDateTime now) {
+        int level = s.getTrackingLevel() == null ? 0 : s.getTrackingLevel();
+        double minutes = levelMinutes.get(Math.max(0, Math.min(level, levelMinutes.size() - 1)));
+
+        if (s.getLevelChangedAt() != null) {
+            long staleHours = Duration.between(s.getLevelChangedAt(), now).toHours() - staleAfterHours;
+            if (staleHours >= 0) minutes *= 1L << Math.min(10, 1 + staleHours / 24);
+        }
+        if (s.getCourierCode() != null) minutes *= courierFactors.getOrDefault(s.getCourierCode(), 1.0);
+        minutes = Math.min(minutes, maxMinutes);
+
+        if (jitterPercent > 0) {
+            minutes *= 1 + ThreadLocalRandom.current().nextDouble(-jitterPercent, jitterPercent) / 100.0;
+        }
+        return now.plusSeconds(Math.max(60, (long) (minutes * 60)));
+    }
+}
@@ -0,0 +1,23 @@
+package com.meonjeo.meonjeo.shipment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(name = "TrackingSyncStatsResponse", description = "배송 추적 동기화 실행 통계(노드 로컬)")
+public record TrackingSyncStatsResponse(
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        int targets,
+        int succeeded,
+        int failed,
+        int updated,
+        int delivered,
+        long elapsedMs,
+        double shipmentsPerSec,
+        long p50FetchMs,
+        long p99FetchMs,
+        long totalRuns,
+        long totalCalls,
+        long totalErrors
+) {}
@@ -0,0 +1,4 @@
+package com.meonjeo.meonjeo.shipment.dto;
+
+/** 추적 동기화 대상(엔티티 대신 필요한 컬럼만) */
+public record TrackingTarget(Long shipmentId, String courierCode, String trackingNo) {}
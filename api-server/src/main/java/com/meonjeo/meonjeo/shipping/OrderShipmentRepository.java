@@ -11,5 +11,6 @@ public interface OrderShipmentRepository extends JpaRepository<OrderShipment, Lo
     List<OrderShipment> findByOrderIdAndSellerId(Long orderId, Long sellerId);
     Optional<OrderShipment> findTopByOrderIdAndSellerIdOrderByIdDesc(Long orderId, Long sellerId);
     List<OrderShipment> findByOrderId(Long orderId);
+    List<OrderShipment> findByOrderIdIn(Collection<Long> orderIds);
 
 }
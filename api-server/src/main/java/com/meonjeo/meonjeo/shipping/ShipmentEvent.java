@@ -1,5 +1,6 @@
 package com.meonjeo.meonjeo.shipping;
 
+import com.meonjeo.meonjeo.common.HashUtil;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.Comment;
@@ -12,7 +13,8 @@
         indexes = {
                 @Index(name = "idx_ship_order", columnList = "order_id"),
                 @Index(name = "idx_ship_tracking", columnList = "tracking_no")
-        }
+        },
+        uniqueConstraints = @UniqueConstraint(name = "uk_ship_event_hash", columnNames = "content_hash")
 )
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class ShipmentEvent {
@@ -54,4 +56,28 @@ public class ShipmentEvent {
 
     @Comment("발생 시각")
     private LocalDateTime occurredAt;
+
+    /** 같은 이벤트 재전송 판별 키(웹훅 재시도/중복 수집). 도입 이전 행은 null */
+    @Column(name = "content_hash", length = 64)
+    @Comment("sha256(주문, 택배사, 운송장, 상태 코드, 상태 텍스트, 발생 시각 원문)")
+    private String contentHash;
+
+    /**
+     * 길이 접두 방식으로 구분자 충돌 없이 이어 붙인 뒤 해시(VariantKey 와 같은 방식).
+     * 운송장 번호는 택배사마다 겹칠 수 있어 택배사 코드와 주문까지 포함, 발생 시각은 수신값 그대로(null 이면 null)
+     */
+    public static String contentHash(Long orderId, String courierCode, String trackingNo,
+                                     String statusCode, String statusText, LocalDateTime occurredAt) {
+        StringBuilder sb = new StringBuilder(160);
+        append(sb, orderId == null ? null : orderId.toString());
+        append(sb, courierCode); append(sb, trackingNo); append(sb, statusCode); append(sb, statusText);
+        append(sb, occurredAt == null ? null : occurredAt.toString());
+        return HashUtil.sha256Hex(sb.toString());
+    }
+
+    private static void append(StringBuilder sb, String s) {
+        if (s == null) sb.append('-');
+        else sb.append(s.length()).append(':').append(s);
+        sb.append(';');
+    }
 }
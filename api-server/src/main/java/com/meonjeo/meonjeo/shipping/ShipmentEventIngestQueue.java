@@ -0,0 +1,142 @@
+package com.meonjeo.meonjeo.shipping;
+
+import com.meonjeo.meonjeo.shipping.ShippingEventIngestService.IngestBatchResult;
+import com.meonjeo.meonjeo.shipping.ShippingEventIngestService.IngestEventRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 단건 웹훅 묶음 처리(그룹 커밋)
+ * - 요청 스레드는 큐에 넣고 자기 이벤트가 포함된 묶음의 커밋까지 대기 → 응답 시점에는 기록 보장
+ * - 적재 스레드 1개가 최대 linger-ms 동안 batch-size 건까지 모아 ingestAll 1회(트랜잭션 1개, 주문당 재평가 1회)
+ * 같은 주문의 웹훅이 몰려도 주문 재평가는 묶음당 한 번
+ * 묶음이 실패하면(제약 위반/과대 페이로드 등) 반으로 나눠 다시 커밋 → 문제 이벤트를 보낸 요청만 실패
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShipmentEventIngestQueue {
+
+    private final ShippingEventIngestService ingestService;
+
+    @Value("${shipping.ingest.batch-size:500}")
+    private int batchSize;
+    @Value("${shipping.ingest.linger-ms:20}")
+    private long lingerMs;
+    @Value("${shipping.ingest.queue-capacity:10000}")
+    private int capacity;
+    @Value("${shipping.ingest.wait-ms:10000}")
+    private long waitMs;
+
+    private record Pending(IngestEventRequest req, CompletableFuture<Long> done) {}
+
+    private BlockingQueue<Pending> queue;
+    private Thread worker;
+    private volatile boolean running = true;
+
+    @PostConstruct
+    void start() {
+        queue = new LinkedBlockingQueue<>(capacity);
+        worker = new Thread(this::loop, "shipment-event-ingest");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    /** 이벤트를 묶음에 태우고 커밋될 때까지 대기. 반환값은 이벤트 id(중복이면 기존 id) */
+    public Long ingest(IngestEventRequest req) {
+        if (req.orderId() == null) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ORDER_ID_REQUIRED");
+        Pending p = new Pending(req, new CompletableFuture<>());
+        if (!running || !queue.offer(p)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "SHIPMENT_EVENT_QUEUE_FULL");
+        }
+        try {
+            return p.done().get(waitMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            // 묶음은 계속 처리되고 재전송되어도 content_hash 로 중복 제거됨
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "SHIPMENT_EVENT_INGEST_TIMEOUT");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "SHIPMENT_EVENT_INGEST_INTERRUPTED");
+        }
+    }
+
+    private void loop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Pending first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+                while (batch.size() < batchSize) {
+                    long wait = deadline - System.nanoTime();
+                    Pending p = wait > 0 ? queue.poll(wait, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (p == null) break;
+                    batch.add(p);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                batch.forEach(p -> p.done().completeExceptionally(
+                        new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "SHIPMENT_EVENT_QUEUE_CLOSED")));
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        // 종료 시 남은 요청은 실패 처리(송신 측 재시도 → 중복 제거)
+        List<Pending> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        rest.forEach(p -> p.done().completeExceptionally(
+                new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "SHIPMENT_EVENT_QUEUE_CLOSED")));
+    }
+
+    /** 묶음 커밋. 실패하면 이등분해 재시도(롤백된 트랜잭션이라 재시도해도 이중 기록 없음), 1건까지 줄어도 실패하면 그 요청만 실패 */
+    private void flush(List<Pending> batch) {
+        try {
+            IngestBatchResult r = ingestService.ingestAll(batch.stream().map(Pending::req).toList());
+            for (int i = 0; i < batch.size(); i++) batch.get(i).done().complete(r.ids().get(i));
+            if (r.duplicates() > 0) {
+                log.debug("[shipping-ingest] batch={} inserted={} duplicates={} orders={}",
+                        batch.size(), r.inserted(), r.duplicates(), r.orders());
+            }
+        } catch (Exception e) {
+            if (e instanceof DataAccessResourceFailureException || e instanceof TransientDataAccessException) {
+                // DB 연결/잠금 문제는 나눠도 같음 → 전부 실패(송신 측 재시도)
+                log.warn("[shipping-ingest] batch failed size={}: {}", batch.size(), e.toString());
+                batch.forEach(p -> p.done().completeExceptionally(e));
+                return;
+            }
+            if (batch.size() == 1) {
+                IngestEventRequest req = batch.get(0).req();
+                log.warn("[shipping-ingest] event failed orderId={} status={}: {}", req.orderId(), req.statusCode(), e.toString());
+                batch.get(0).done().completeExceptionally(e);
+                return;
+            }
+            log.warn("[shipping-ingest] batch failed size={}, splitting: {}", batch.size(), e.toString());
+            int mid = batch.size() / 2;
+            flush(batch.subList(0, mid));
+            flush(batch.subList(mid, batch.size()));
+        }
+    }
+}
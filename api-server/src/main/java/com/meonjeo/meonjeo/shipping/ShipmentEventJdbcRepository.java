@@ -0,0 +1,68 @@
+package com.meonjeo.meonjeo.shipping;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * 배송 이벤트 묶음 적재(uk_ship_event_hash 로 중복 제거)
+ * - multi-row INSERT IGNORE 1회 → 신규 행은 LAST_INSERT_ID 구간으로 식별
+ * INSERT IGNORE 는 길이 초과도 경고로 낮추므로 호출 전 컬럼 길이에 맞춰 잘라서 전달
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShipmentEventJdbcRepository {
+    private final JdbcTemplate jdbc;
+
+    private static final int CHUNK = 500;
+
+    /**
+     * @param events content_hash 가 서로 다른 이벤트
+     * @return 이번에 새로 기록된 이벤트의 content_hash → id. 트랜잭션 안에서 호출해야 함(LAST_INSERT_ID)
+     */
+    public Map<String, Long> insertIgnoreAll(List<ShipmentEvent> events) {
+        Map<String, Long> inserted = new HashMap<>();
+        for (int from = 0; from < events.size(); from += CHUNK) {
+            inserted.putAll(insertChunk(events.subList(from, Math.min(events.size(), from + CHUNK))));
+        }
+        return inserted;
+    }
+
+    private Map<String, Long> insertChunk(List<ShipmentEvent> chunk) {
+        StringBuilder sql = new StringBuilder("insert ignore into shipment_events (order_id, courier_code, courier_name,"
+                + " tracking_no, status_code, status_text, location, description, occurred_at, content_hash) values ");
+        List<Object> args = new ArrayList<>(chunk.size() * 10);
+        for (int i = 0; i < chunk.size(); i++) {
+            ShipmentEvent e = chunk.get(i);
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+            Collections.addAll(args, e.getOrderId(), e.getCourierCode(), e.getCourierName(), e.getTrackingNo(),
+                    e.getStatusCode(), e.getStatusText(), e.getLocation(), e.getDescription(),
+                    e.getOccurredAt() == null ? null : Timestamp.valueOf(e.getOccurredAt()), e.getContentHash());
+        }
+        if (jdbc.update(sql.toString(), args.toArray()) == 0) return Map.of();
+
+        // 단순 insert 의 auto-increment 구간은 문장 시작 시 연속 할당 → [첫 신규 id, + 건수) = 이번 문장의 행
+        Long firstId = jdbc.queryForObject("select last_insert_id()", Long.class);
+        Map<String, Long> out = new HashMap<>();
+        jdbc.query("select id, content_hash from shipment_events where id >= ? and id < ?",
+                rs -> { out.put(rs.getString(2), rs.getLong(1)); }, firstId, firstId + chunk.size());
+        return out;
+    }
+
+    /** 이미 기록된 이벤트 id 조회(중복으로 무시된 요청에 기존 id 를 돌려주기 위함) */
+    public Map<String, Long> findIdsByHash(Collection<String> hashes) {
+        if (hashes.isEmpty()) return Map.of();
+        Map<String, Long> out = new HashMap<>();
+        List<String> list = new ArrayList<>(hashes);
+        for (int from = 0; from < list.size(); from += CHUNK) {
+            List<String> part = list.subList(from, Math.min(list.size(), from + CHUNK));
+            String in = String.join(", ", Collections.nCopies(part.size(), "?"));
+            jdbc.query("select id, content_hash from shipment_events where content_hash in (" + in + ")",
+                    rs -> { out.put(rs.getString(2), rs.getLong(1)); }, part.toArray());
+        }
+        return out;
+    }
+}
@@ -25,6 +25,10 @@ public interface ShipmentEventRepository extends JpaRepository<ShipmentEvent, Lo
     // ✅ 트래킹별 최신 판단을 위해 주문 단위 내림차순 조회
     List<ShipmentEvent> findByOrderIdOrderByOccurredAtDesc(Long orderId);
 
+    // ✅ 송장별 최신 판단용: 주문 단위 최신→과거 (동시각은 나중 적재분 우선)
+    List<ShipmentEvent> findByOrderIdOrderByOccurredAtDescIdDesc(Long orderId);
+    List<ShipmentEvent> findByOrderIdInOrderByOccurredAtDescIdDesc(Collection<Long> orderIds);
+
     // ✅ 특정 주문+송장에 대한 최신 이벤트를 얻기 위한 정렬 버전
     List<ShipmentEvent> findByOrderIdAndTrackingNoOrderByOccurredAtDesc(Long orderId, String trackingNo);
 }
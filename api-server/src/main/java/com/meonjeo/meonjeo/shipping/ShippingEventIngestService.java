@@ -6,33 +6,82 @@
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.*;
 
+/**
+ * 배송 이벤트 적재
+ * - content_hash(주문, 택배사, 운송장, 상태, 발생 시각)로 중복 제거, multi-row INSERT IGNORE 로 묶음 기록
+ * - 새 이벤트가 생긴 주문만, 묶음당 한 번씩 상태 재평가(DeliveryAutoConfirmService.reevaluate)
+ */
 @Service
 @RequiredArgsConstructor
 public class ShippingEventIngestService {
-    private final ShipmentEventRepository eventRepo;
+    private final ShipmentEventJdbcRepository eventJdbc;
     private final DeliveryAutoConfirmService autoConfirm;
 
+    /** 단건 적재(기존 호출부 호환). 이미 있는 이벤트면 기존 id */
     @Transactional
     public Long ingest(IngestEventRequest r) {
-        ShipmentEvent e = ShipmentEvent.builder()
+        Long id = ingestAll(List.of(r)).ids().get(0);
+        if (id == null) throw new IllegalArgumentException("orderId 누락");
+        return id;
+    }
+
+    /**
+     * 묶음 적재
+     * @return 입력 순서대로의 이벤트 id(신규/기존, orderId 가 없어 버린 항목은 null)와 집계
+     */
+    @Transactional
+    public IngestBatchResult ingestAll(List<IngestEventRequest> reqs) {
+        List<String> hashes = new ArrayList<>(reqs.size());
+        Map<String, ShipmentEvent> unique = new LinkedHashMap<>();
+        for (IngestEventRequest r : reqs) {
+            ShipmentEvent e = toEvent(r);
+            hashes.add(e == null ? null : e.getContentHash());
+            if (e != null) unique.putIfAbsent(e.getContentHash(), e);
+        }
+
+        Map<String, Long> ids = new HashMap<>(eventJdbc.insertIgnoreAll(new ArrayList<>(unique.values())));
+        int inserted = ids.size();
+        Set<Long> touchedOrders = new TreeSet<>();
+        for (String h : ids.keySet()) touchedOrders.add(unique.get(h).getOrderId());
+
+        List<String> existing = unique.keySet().stream().filter(h -> !ids.containsKey(h)).toList();
+        ids.putAll(eventJdbc.findIdsByHash(existing));
+
+        // 주문당 1회 재평가(중복만 들어온 주문은 상태 변화가 없으므로 생략)
+        autoConfirm.reevaluate(touchedOrders);
+
+        List<Long> out = new ArrayList<>(hashes.size());
+        for (String h : hashes) out.add(h == null ? null : ids.get(h));
+        return new IngestBatchResult(out, inserted, unique.size() - inserted, touchedOrders.size());
+    }
+
+    private static ShipmentEvent toEvent(IngestEventRequest r) {
+        if (r == null || r.orderId() == null) return null;
+        String courierCode = cut(r.courierCode(), 64);
+        String trackingNo = cut(r.trackingNo(), 64);
+        String statusCode = cut(r.statusCode(), 32);
+        String statusText = cut(r.statusText(), 64);
+        return ShipmentEvent.builder()
                 .orderId(r.orderId())
-                .courierCode(r.courierCode())
-                .courierName(r.courierName())
-                .trackingNo(r.trackingNo())
-                .statusCode(r.statusCode())
-                .statusText(r.statusText())
-                .location(r.location())
+                .courierCode(courierCode)
+                .courierName(cut(r.courierName(), 64))
+                .trackingNo(trackingNo)
+                .statusCode(statusCode)
+                .statusText(statusText)
+                .location(cut(r.location(), 128))
                 .description(r.description())
                 .occurredAt(r.occurredAt() != null ? r.occurredAt() : LocalDateTime.now())
+                // 발생 시각이 없는 재전송도 같은 이벤트로 보도록 해시는 수신값(null) 기준
+                .contentHash(ShipmentEvent.contentHash(r.orderId(), courierCode, trackingNo, statusCode, statusText,
+                        r.occurredAt()))
                 .build();
-        eventRepo.save(e);
-
-        // 저장 직후 두 메서드 호출 (결정판)
-        autoConfirm.updateInTransitIfMoved(r.orderId());
-        autoConfirm.updateDeliveredIfComplete(r.orderId());
+    }
 
-        return e.getId();
+    /** INSERT IGNORE 는 길이 초과를 경고로만 처리하므로 컬럼 길이에 맞춰 미리 자름 */
+    private static String cut(String s, int max) {
+        return (s == null || s.length() <= max) ? s : s.substring(0, max);
     }
 
     public record IngestEventRequest(
@@ -42,4 +91,7 @@ public record IngestEventRequest(
             String location, String description,
             LocalDateTime occurredAt
     ) {}
+
+    /** @param ids 입력 순서대로의 이벤트 id(버린 항목 null) */
+    public record IngestBatchResult(List<Long> ids, int inserted, int duplicates, int orders) {}
 }
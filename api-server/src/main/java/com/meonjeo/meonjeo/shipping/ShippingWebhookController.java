@@ -1,12 +1,17 @@
 package com.meonjeo.meonjeo.shipping;
 
+import com.meonjeo.meonjeo.shipping.ShippingEventIngestService.IngestBatchResult;
 import com.meonjeo.meonjeo.shipping.ShippingEventIngestService.IngestEventRequest;
+import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Map;
 
 @Tag(name = "배송 이벤트 인제스트/웹훅")
@@ -15,11 +20,22 @@
 @RequiredArgsConstructor
 public class ShippingWebhookController {
 
+    private static final int MAX_BULK = 5000;
+
     private final ShippingEventIngestService ingestService;
+    private final ShipmentEventIngestQueue ingestQueue;
 
     @PostMapping("/events")
     public Long ingest(@RequestBody IngestEventRequest req) {
-        return ingestService.ingest(req);
+        return ingestQueue.ingest(req);
+    }
+
+    @Operation(summary = "배송 이벤트 묶음 적재",
+            description = "ADMIN 또는 X-Shipping-Webhook-Secret 헤더 필요. 주문/택배사/운송장/상태/발생 시각이 같은 이벤트는 한 번만 기록합니다. 응답 ids 는 입력 순서대로의 이벤트 id(orderId 누락 항목은 null)")
+    @PostMapping("/events/bulk")
+    public IngestBatchResult ingestBulk(@RequestBody List<IngestEventRequest> reqs) {
+        if (reqs.size() > MAX_BULK) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "TOO_MANY_EVENTS");
+        return ingestService.ingestAll(reqs);
     }
 
     @PostMapping("/webhooks/sweettracker")
@@ -33,7 +49,7 @@ public void sweetTracker(@RequestBody Map<String, Object> body) {
         String desc   = asStr(body.get("message"));
         LocalDateTime when = parseTime(body.get("occurredAt"), body.get("time"));
 
-        ingestService.ingest(new IngestEventRequest(
+        ingestQueue.ingest(new IngestEventRequest(
                 orderId, code, null, inv, sCode, sText, loc, desc, when
         ));
     }
@@ -50,6 +66,6 @@ private static LocalDateTime parseTime(Object... cands){
             try { return LocalDateTime.parse(s, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")); } catch (Exception ignore){}
             try { return LocalDateTime.parse(s); } catch (Exception ignore){}
         }
-        return LocalDateTime.now();
+        return null; // 적재 시 수신 시각으로 채움(중복 판별 해시는 null 기준)
     }
 }
@@ -0,0 +1,81 @@
+package com.meonjeo.meonjeo.ad;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdAvailabilityCalendarTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 5, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 5, 31);
+
+    private static AdSlot slot(long id, int position) {
+        return AdSlot.builder().id(id).type(AdSlotType.MAIN_ROLLING).position(position).build();
+    }
+
+    private static LocalDate may(int day) {
+        return LocalDate.of(2025, 5, day);
+    }
+
+    @Test
+    void date_is_disabled_only_when_every_slot_is_booked() {
+        AdAvailabilityCalendar cal = new AdAvailabilityCalendar(FROM, TO, List.of(slot(1, 1), slot(2, 2)), List.of(
+                new AdBookingSpan(1L, may(3), may(6)),
+                new AdBookingSpan(2L, may(5), may(8))));
+
+        assertThat(cal.disabledDates()).containsExactlyInAnyOrder(may(5), may(6));
+    }
+
+    @Test
+    void no_slots_disables_every_date() {
+        AdAvailabilityCalendar cal = new AdAvailabilityCalendar(FROM, TO, List.of(), List.of());
+
+        assertThat(cal.disabledDates()).hasSize(31).contains(FROM, TO);
+    }
+
+    @Test
+    void spans_of_unknown_slots_are_ignored() {
+        AdAvailabilityCalendar cal = new AdAvailabilityCalendar(FROM, TO, List.of(slot(1, 1)), List.of(
+                new AdBookingSpan(99L, FROM, TO)));
+
+        assertThat(cal.disabledDates()).isEmpty();
+        assertThat(cal.isFree(0, FROM, TO)).isTrue();
+    }
+
+    @Test
+    void is_free_checks_overlap_with_booked_days() {
+        AdAvailabilityCalendar cal = new AdAvailabilityCalendar(FROM, TO, List.of(slot(1, 1), slot(2, 2)), List.of(
+                new AdBookingSpan(1L, may(10), may(12))));
+
+        assertThat(cal.isFree(0, may(1), may(9))).isTrue();
+        assertThat(cal.isFree(0, may(13), may(20))).isTrue();
+        assertThat(cal.isFree(0, may(9), may(10))).isFalse();
+        assertThat(cal.isFree(0, may(12), may(15))).isFalse();
+        assertThat(cal.isFree(0, may(11), may(11))).isFalse();
+        assertThat(cal.isFree(1, may(10), may(12))).isTrue();
+    }
+
+    @Test
+    void dates_outside_the_calendar_are_not_judged() {
+        AdAvailabilityCalendar cal = new AdAvailabilityCalendar(FROM, TO, List.of(slot(1, 1)), List.of(
+                new AdBookingSpan(1L, LocalDate.of(2025, 4, 20), may(2)),
+                new AdBookingSpan(1L, may(30), LocalDate.of(2025, 6, 10))));
+
+        assertThat(cal.isFree(0, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30))).isTrue();
+        assertThat(cal.isFree(0, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30))).isTrue();
+        assertThat(cal.isFree(0, LocalDate.of(2025, 4, 25), may(1))).isFalse();
+        assertThat(cal.isFree(0, may(3), may(29))).isTrue();
+        assertThat(cal.disabledDates()).containsExactlyInAnyOrder(may(1), may(2), may(30), may(31));
+    }
+
+    @Test
+    void slots_keep_the_given_order() {
+        AdSlot a = slot(2, 2), b = slot(1, 1);
+        AdAvailabilityCalendar cal = new AdAvailabilityCalendar(FROM, TO, List.of(a, b), List.of());
+
+        assertThat(cal.slots()).containsExactly(a, b);
+    }
+}
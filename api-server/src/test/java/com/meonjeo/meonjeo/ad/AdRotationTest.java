@@ -0,0 +1,80 @@
+package com.meonjeo.meonjeo.ad;
+
+import com.meonjeo.meonjeo.ad.AdServingIndex.Entry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AdRotationTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 3, 1);
+
+    private static Entry entry(long bookingId, int price, int days) {
+        return new Entry(bookingId, 1L, 1, null, 10L, "/banner/" + bookingId + ".png",
+                price, START, START.plusDays(days - 1));
+    }
+
+    @Test
+    void weight_is_daily_price_with_floor_of_one() {
+        assertThat(AdRotation.weight(entry(1, 70_000, 7))).isEqualTo(10_000.0);
+        assertThat(AdRotation.weight(entry(2, 5_000, 1))).isEqualTo(5_000.0);
+        assertThat(AdRotation.weight(entry(3, 0, 30))).isEqualTo(1.0);
+    }
+
+    @Test
+    void empty_rotation_picks_nothing() {
+        assertThat(AdRotation.of(List.of())).isSameAs(AdRotation.EMPTY);
+        assertThat(AdRotation.EMPTY.pick(3, new SplittableRandom(1))).isEmpty();
+    }
+
+    @Test
+    void pick_returns_distinct_entries_clamped_to_size() {
+        List<Entry> entries = LongStream.rangeClosed(1, 5).mapToObj(i -> entry(i, 10_000 * (int) i, 7)).toList();
+        AdRotation rotation = AdRotation.of(entries);
+        SplittableRandom rnd = new SplittableRandom(7);
+
+        assertThat(rotation.size()).isEqualTo(5);
+        assertThat(rotation.pick(0, rnd)).isEmpty();
+        assertThat(rotation.pick(-1, rnd)).isEmpty();
+        for (int i = 0; i < 100; i++) {
+            List<Entry> picked = rotation.pick(3, rnd);
+            assertThat(picked).hasSize(3).doesNotHaveDuplicates();
+        }
+        assertThat(new HashSet<>(rotation.pick(10, rnd))).containsExactlyInAnyOrderElementsOf(entries);
+    }
+
+    @Test
+    void pick_frequency_follows_daily_price() {
+        Entry cheap = entry(1, 10_000, 10);     // 일 1,000
+        Entry pricey = entry(2, 30_000, 10);    // 일 3,000
+        Entry shortRun = entry(3, 6_000, 3);    // 일 2,000
+        AdRotation rotation = AdRotation.of(List.of(cheap, pricey, shortRun));
+        SplittableRandom rnd = new SplittableRandom(42);
+
+        int draws = 60_000;
+        Map<Long, Long> counts = IntStream.range(0, draws)
+                .mapToObj(i -> rotation.pick(1, rnd).get(0).bookingId())
+                .collect(Collectors.groupingBy(id -> id, Collectors.counting()));
+
+        assertThat(counts.get(1L) / (double) draws).isCloseTo(1 / 6.0, within(0.01));
+        assertThat(counts.get(2L) / (double) draws).isCloseTo(3 / 6.0, within(0.01));
+        assertThat(counts.get(3L) / (double) draws).isCloseTo(2 / 6.0, within(0.01));
+    }
+
+    @Test
+    void single_entry_is_always_picked() {
+        Entry only = entry(9, 1_000, 1);
+        AdRotation rotation = AdRotation.of(List.of(only));
+        assertThat(rotation.pick(2, new SplittableRandom(3))).containsExactly(only);
+    }
+}
@@ -0,0 +1,84 @@
+package com.meonjeo.meonjeo.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class IdempotencyStoreTest {
+
+    private static final String SCOPE = "scope-1";
+
+    private StringRedisTemplate redis;
+    private ValueOperations<String, String> ops;
+    private IdempotencyRecordRepository repo;
+    private IdempotencyStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        ops = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(ops);
+        repo = mock(IdempotencyRecordRepository.class);
+        store = new IdempotencyStore(redis, repo, new ObjectMapper());
+    }
+
+    private static IdempotencyStore.Stored done() {
+        return new IdempotencyStore.Stored("fp", true, 201, "application/json", "{\"id\":1}");
+    }
+
+    @Test
+    void complete_writes_a_db_record_when_redis_fails_after_a_redis_claim() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(ops).set(anyString(), anyString(), any(Duration.class));
+        when(repo.findByScopeKey(SCOPE)).thenReturn(Optional.empty());
+
+        store.complete(SCOPE, done(), Duration.ofHours(1));
+
+        ArgumentCaptor<IdempotencyRecord> saved = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(repo).saveAndFlush(saved.capture());
+        assertThat(saved.getValue().getScopeKey()).isEqualTo(SCOPE);
+        assertThat(saved.getValue().isCompleted()).isTrue();
+        assertThat(saved.getValue().getHttpStatus()).isEqualTo(201);
+        assertThat(saved.getValue().getBody()).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    void release_of_a_redis_claim_does_not_touch_the_db() {
+        store.release(SCOPE, false);
+
+        verify(redis).delete("idem:" + SCOPE);
+        verifyNoInteractions(repo);
+    }
+
+    @Test
+    void release_of_a_db_claim_deletes_the_row() {
+        store.release(SCOPE, true);
+
+        verify(repo).deleteByScopeKey(SCOPE);
+    }
+
+    @Test
+    void in_progress_marker_yields_to_a_response_completed_in_db() {
+        when(ops.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(ops.get("idem:" + SCOPE)).thenReturn("{\"fingerprint\":\"fp\",\"completed\":false,\"status\":0}");
+        when(repo.findByScopeKey(SCOPE)).thenReturn(Optional.of(IdempotencyRecord.builder()
+                .scopeKey(SCOPE).fingerprint("fp").completed(true).httpStatus(201).body("{\"id\":1}").build()));
+
+        IdempotencyStore.Claim claim = store.claim(SCOPE, "fp", Duration.ofSeconds(30));
+
+        assertThat(claim.outcome()).isEqualTo(IdempotencyStore.Outcome.COMPLETED);
+        assertThat(claim.stored().status()).isEqualTo(201);
+    }
+}
@@ -0,0 +1,84 @@
+package com.meonjeo.meonjeo.order;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderUidGeneratorTest {
+
+    @Test
+    void ids_are_strictly_increasing_and_unique() {
+        OrderUidGenerator gen = new OrderUidGenerator(7);
+        Set<Long> seen = new HashSet<>();
+        long prev = -1;
+        for (int i = 0; i < 100_000; i++) {
+            long id = gen.nextId();
+            assertThat(id).isGreaterThan(prev);
+            assertThat(seen.add(id)).isTrue();
+            prev = id;
+        }
+    }
+
+    @Test
+    void node_id_is_embedded_so_nodes_never_collide() {
+        OrderUidGenerator a = new OrderUidGenerator(1);
+        OrderUidGenerator b = new OrderUidGenerator(1023);
+
+        assertThat((a.nextId() >>> 12) & 1023).isEqualTo(1);
+        assertThat((b.nextId() >>> 12) & 1023).isEqualTo(1023);
+
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(seen.add(a.nextId())).isTrue();
+            assertThat(seen.add(b.nextId())).isTrue();
+        }
+    }
+
+    @Test
+    void next_uses_order_uid_format_with_seoul_date() {
+        String uid = new OrderUidGenerator(3).next();
+        String today = LocalDate.now(ZoneId.of("Asia/Seoul")).format(DateTimeFormatter.BASIC_ISO_DATE);
+
+        assertThat(uid).matches("ORD-\\d{8}-\\d+");
+        assertThat(uid.substring(4, 12)).isIn(today,
+                LocalDate.now(ZoneId.of("Asia/Seoul")).minusDays(1).format(DateTimeFormatter.BASIC_ISO_DATE));
+    }
+
+    @Test
+    void node_id_must_be_in_range() {
+        assertThatThrownBy(() -> new OrderUidGenerator(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new OrderUidGenerator(1024)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void explicit_node_id_is_required_in_prod() {
+        assertThatThrownBy(() -> OrderUidGenerator.resolveNodeId(-1, true))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> OrderUidGenerator.resolveNodeId(1024, true))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(OrderUidGenerator.resolveNodeId(42, true)).isEqualTo(42);
+
+        MockEnvironment prod = new MockEnvironment();
+        prod.setActiveProfiles("prod");
+        assertThatThrownBy(() -> new OrderUidGenerator(-1, prod)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void missing_node_id_falls_back_to_derived_outside_prod() {
+        assertThat(OrderUidGenerator.resolveNodeId(-1, false)).isBetween(0L, 1023L);
+        assertThatThrownBy(() -> OrderUidGenerator.resolveNodeId(5000, false))
+                .isInstanceOf(IllegalStateException.class);
+
+        MockEnvironment dev = new MockEnvironment();
+        dev.setActiveProfiles("dev");
+        assertThat(new OrderUidGenerator(-1, dev).nextId()).isPositive();
+    }
+}
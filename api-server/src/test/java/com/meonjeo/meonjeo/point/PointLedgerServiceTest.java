@@ -0,0 +1,108 @@
+package com.meonjeo.meonjeo.point;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PointLedgerServiceTest {
+
+    private static final Long USER = 7L;
+    private static final Long LOT = 11L;
+
+    private PointLedgerJdbcRepository ledgerJdbc;
+    private UserPointBalanceRepository balanceRepo;
+    private PointLotRepository lotRepo;
+    private PointLotConsumptionRepository consumptionRepo;
+    private PointLedgerService service;
+
+    @BeforeEach
+    void setUp() {
+        ledgerJdbc = mock(PointLedgerJdbcRepository.class);
+        balanceRepo = mock(UserPointBalanceRepository.class);
+        lotRepo = mock(PointLotRepository.class);
+        consumptionRepo = mock(PointLotConsumptionRepository.class);
+        service = new PointLedgerService(mock(PointLedgerRepository.class), mock(PointLedgerArchiveRepository.class),
+                ledgerJdbc, balanceRepo, lotRepo, new PointLotEngine(lotRepo, consumptionRepo));
+
+        when(lotRepo.findUserIdById(LOT)).thenReturn(Optional.of(USER));
+        when(balanceRepo.lockByUserId(USER)).thenReturn(Optional.of(USER));
+        when(ledgerJdbc.insertIgnore(anyLong(), anyInt(), anyString(), anyString())).thenReturn(true);
+        when(balanceRepo.applyDelta(anyLong(), anyInt())).thenReturn(1);
+    }
+
+    private PointLot expiredLot(int remaining) {
+        PointLot lot = PointLot.builder().id(LOT).userId(USER).reason("FEEDBACK_REWARD").refKey("feedback:1")
+                .amount(1_000).remaining(remaining).expiresAt(LocalDateTime.now().minusDays(1)).build();
+        when(lotRepo.findByIdForUpdate(LOT)).thenReturn(Optional.of(lot));
+        return lot;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PointLotConsumption> savedConsumptions() {
+        ArgumentCaptor<List<PointLotConsumption>> rows = ArgumentCaptor.forClass(List.class);
+        verify(consumptionRepo).saveAll(rows.capture());
+        return rows.getValue();
+    }
+
+    @Test
+    void expires_the_lot_remaining_from_the_balance() {
+        PointLot lot = expiredLot(400);
+        when(balanceRepo.findBalance(USER)).thenReturn(Optional.of(1_000));
+
+        assertThat(service.expireLot(LOT)).isEqualTo(400);
+
+        verify(ledgerJdbc).insertIgnore(USER, -400, PointLedgerService.EXPIRE_REASON, "lot:" + LOT);
+        verify(balanceRepo).applyDelta(USER, -400);
+        assertThat(lot.getRemaining()).isZero();
+        assertThat(savedConsumptions()).singleElement()
+                .satisfies(c -> assertThat(c.getAmount()).isEqualTo(400));
+    }
+
+    @Test
+    void expiry_is_capped_at_the_balance_when_the_lot_drifted_above_it() {
+        PointLot lot = expiredLot(400);
+        when(balanceRepo.findBalance(USER)).thenReturn(Optional.of(150));
+
+        assertThat(service.expireLot(LOT)).isEqualTo(150);
+
+        verify(ledgerJdbc).insertIgnore(USER, -150, PointLedgerService.EXPIRE_REASON, "lot:" + LOT);
+        verify(balanceRepo).applyDelta(USER, -150);
+        assertThat(lot.getRemaining()).isZero();
+        assertThat(savedConsumptions()).extracting(PointLotConsumption::getReason, PointLotConsumption::getAmount)
+                .containsExactly(tuple(PointLedgerService.EXPIRE_REASON, 150), tuple(PointLotEngine.DRIFT_REASON, 250));
+    }
+
+    @Test
+    void zero_balance_closes_the_lot_without_a_ledger_row() {
+        PointLot lot = expiredLot(400);
+        when(balanceRepo.findBalance(USER)).thenReturn(Optional.of(0));
+
+        assertThat(service.expireLot(LOT)).isZero();
+
+        verify(ledgerJdbc, never()).insertIgnore(anyLong(), anyInt(), anyString(), anyString());
+        verify(balanceRepo, never()).applyDelta(anyLong(), anyInt());
+        assertThat(lot.getRemaining()).isZero();
+        assertThat(savedConsumptions()).extracting(PointLotConsumption::getReason).containsExactly(PointLotEngine.DRIFT_REASON);
+    }
+
+    @Test
+    void already_recorded_expiry_is_not_applied_twice() {
+        PointLot lot = expiredLot(400);
+        when(balanceRepo.findBalance(USER)).thenReturn(Optional.of(1_000));
+        when(ledgerJdbc.insertIgnore(anyLong(), anyInt(), anyString(), anyString())).thenReturn(false);
+
+        assertThat(service.expireLot(LOT)).isZero();
+
+        verify(balanceRepo, never()).applyDelta(anyLong(), anyInt());
+        assertThat(lot.getRemaining()).isEqualTo(400);
+    }
+}
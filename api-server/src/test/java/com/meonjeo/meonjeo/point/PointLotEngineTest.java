@@ -0,0 +1,96 @@
+package com.meonjeo.meonjeo.point;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PointLotEngineTest {
+
+    private static final Long USER = 7L;
+
+    private PointLotRepository lotRepo;
+    private PointLotConsumptionRepository consumptionRepo;
+    private PointLotEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        lotRepo = mock(PointLotRepository.class);
+        consumptionRepo = mock(PointLotConsumptionRepository.class);
+        engine = new PointLotEngine(lotRepo, consumptionRepo);
+        ReflectionTestUtils.setField(engine, "expiryDays", 365);
+        ReflectionTestUtils.setField(engine, "refundReasonSpecs", List.of("ORDER_PAY_PRE_ROLLBACK:ORDER_PAY_PRE"));
+        engine.init();
+    }
+
+    private static PointLot lot(long id, int amount, int remaining, LocalDateTime expiresAt) {
+        return PointLot.builder().id(id).userId(USER).reason("FEEDBACK_REWARD").refKey("feedback:" + id)
+                .amount(amount).remaining(remaining).expiresAt(expiresAt).build();
+    }
+
+    private static PointLotConsumption spent(long lotId, int amount) {
+        return PointLotConsumption.builder().lotId(lotId).userId(USER)
+                .reason("ORDER_PAY_PRE").refKey("order:pre:1").amount(amount).build();
+    }
+
+    @Test
+    void accrual_opens_an_expiring_lot() {
+        engine.open(USER, 500, "FEEDBACK_REWARD", "feedback:1");
+
+        ArgumentCaptor<LocalDateTime> expiresAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(lotRepo).insertIgnore(eq(USER), eq("FEEDBACK_REWARD"), eq("feedback:1"), eq(500), expiresAt.capture());
+        assertThat(expiresAt.getValue()).isAfter(LocalDateTime.now().plusDays(364));
+    }
+
+    @Test
+    void refund_restores_the_lots_the_spend_consumed_and_keeps_their_expiry() {
+        LocalDateTime soon = LocalDateTime.now().plusDays(10), later = LocalDateTime.now().plusDays(100);
+        PointLot a = lot(1, 300, 0, soon), b = lot(2, 500, 300, later);
+        when(consumptionRepo.findByUserIdAndReasonAndRefKeyOrderById(USER, "ORDER_PAY_PRE", "order:pre:1"))
+                .thenReturn(List.of(spent(1, 300), spent(2, 200)));
+        when(lotRepo.findAllByIdForUpdate(anyCollection())).thenReturn(List.of(a, b));
+
+        engine.open(USER, 500, "ORDER_PAY_PRE_ROLLBACK", "order:pre:1");
+
+        assertThat(a.getRemaining()).isEqualTo(300);
+        assertThat(b.getRemaining()).isEqualTo(500);
+        assertThat(a.getExpiresAt()).isEqualTo(soon);
+        assertThat(b.getExpiresAt()).isEqualTo(later);
+        verify(lotRepo, never()).insertIgnore(any(), any(), any(), anyInt(), any());
+        verify(lotRepo, never()).save(any());
+    }
+
+    @Test
+    void refund_of_an_already_expired_lot_gets_a_lot_with_that_expiry() {
+        LocalDateTime past = LocalDateTime.now().minusDays(1);
+        when(consumptionRepo.findByUserIdAndReasonAndRefKeyOrderById(USER, "ORDER_PAY_PRE", "order:pre:1"))
+                .thenReturn(List.of(spent(1, 300)));
+        when(lotRepo.findAllByIdForUpdate(anyCollection())).thenReturn(List.of(lot(1, 300, 0, past)));
+
+        engine.open(USER, 300, "ORDER_PAY_PRE_ROLLBACK", "order:pre:1");
+
+        verify(lotRepo).insertIgnore(USER, "ORDER_PAY_PRE_ROLLBACK", "order:pre:1", 300, past);
+    }
+
+    @Test
+    void refund_without_consumption_rows_goes_to_the_legacy_lot() {
+        when(consumptionRepo.findByUserIdAndReasonAndRefKeyOrderById(any(), any(), any())).thenReturn(List.of());
+        when(lotRepo.findByUserIdAndReasonAndRefKey(USER, PointLot.LEGACY_REASON, PointLot.LEGACY_REF))
+                .thenReturn(Optional.empty());
+
+        engine.open(USER, 200, "ORDER_PAY_PRE_ROLLBACK", "order:pre:1");
+
+        ArgumentCaptor<PointLot> saved = ArgumentCaptor.forClass(PointLot.class);
+        verify(lotRepo).save(saved.capture());
+        assertThat(saved.getValue().getRemaining()).isEqualTo(200);
+        assertThat(saved.getValue().getExpiresAt()).isNull();
+    }
+}
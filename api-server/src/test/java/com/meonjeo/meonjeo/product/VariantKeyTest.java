@@ -0,0 +1,43 @@
+package com.meonjeo.meonjeo.product;
+
+import com.meonjeo.meonjeo.common.HashUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VariantKeyTest {
+
+    @Test
+    void key_hashes_code_point_length_prefixed_values_in_option_order() {
+        assertThat(VariantKey.of("빨강", "L", null, null, null))
+                .isEqualTo(HashUtil.sha256Hex("2:빨강;1:L;-;-;-;"));
+    }
+
+    @Test
+    void length_prefix_counts_code_points_not_utf16_units() {
+        // 이모지 1글자 = UTF-16 2단위 → 접두는 1
+        assertThat(VariantKey.of("😀", null, null, null, null))
+                .isEqualTo(HashUtil.sha256Hex("1:😀;-;-;-;-;"));
+    }
+
+    @Test
+    void empty_option_value_is_not_an_absent_option() {
+        assertThat(VariantKey.of("빨강", "", null, null, null))
+                .isNotEqualTo(VariantKey.of("빨강", null, null, null, null));
+    }
+
+    @Test
+    void request_values_shorter_than_five_options_match_the_stored_variant() {
+        ProductVariant stored = ProductVariant.builder().option1Value("빨강").option2Value("L").build();
+
+        assertThat(VariantKey.of(new String[]{"빨강", "L"})).isEqualTo(VariantKey.of(stored));
+        assertThat(VariantKey.of(new String[]{"빨강", "L", null})).isEqualTo(VariantKey.of(stored));
+        assertThat(VariantKey.of((String[]) null)).isEqualTo(VariantKey.of(new ProductVariant()));
+    }
+
+    @Test
+    void values_beyond_the_fifth_option_are_ignored() {
+        assertThat(VariantKey.of(new String[]{"a", "b", "c", "d", "e", "f"}))
+                .isEqualTo(VariantKey.of("a", "b", "c", "d", "e"));
+    }
+}
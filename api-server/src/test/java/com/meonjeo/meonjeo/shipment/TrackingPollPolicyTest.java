@@ -0,0 +1,150 @@
+package com.meonjeo.meonjeo.shipment;
+
+import com.meonjeo.meonjeo.common.ShipmentStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrackingPollPolicyTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 2, 10, 0);
+
+    private static TrackingPollPolicy policy(int jitterPercent, String... courierFactors) {
+        TrackingPollPolicy p = new TrackingPollPolicy();
+        ReflectionTestUtils.setField(p, "levelMinutes", List.of(60L, 180L, 120L, 60L, 30L, 10L));
+        ReflectionTestUtils.setField(p, "staleAfterHours", 24L);
+        ReflectionTestUtils.setField(p, "maxMinutes", 720L);
+        ReflectionTestUtils.setField(p, "errorMinutes", 15L);
+        ReflectionTestUtils.setField(p, "errorMaxMinutes", 720L);
+        ReflectionTestUtils.setField(p, "maxErrors", 5);
+        ReflectionTestUtils.setField(p, "jitterPercent", jitterPercent);
+        ReflectionTestUtils.setField(p, "courierFactorSpecs", List.of(courierFactors));
+        p.init();
+        return p;
+    }
+
+    private static Shipment shipment(Integer level, LocalDateTime levelChangedAt) {
+        return Shipment.builder()
+                .orderId(1L).courierCode("04").trackingNo("123456789012")
+                .status(ShipmentStatus.IN_TRANSIT)
+                .trackingLevel(level).levelChangedAt(levelChangedAt)
+                .build();
+    }
+
+    private static long minutesUntil(LocalDateTime t) {
+        return Duration.between(NOW, t).toMinutes();
+    }
+
+    @Test
+    void interval_follows_current_level() {
+        TrackingPollPolicy p = policy(0);
+
+        assertThat(minutesUntil(p.nextPollAt(shipment(null, null), NOW))).isEqualTo(60);
+        assertThat(minutesUntil(p.nextPollAt(shipment(1, NOW), NOW))).isEqualTo(180);
+        assertThat(minutesUntil(p.nextPollAt(shipment(5, NOW), NOW))).isEqualTo(10);
+        assertThat(minutesUntil(p.nextPollAt(shipment(9, NOW), NOW))).isEqualTo(10);
+    }
+
+    @Test
+    void stale_level_doubles_per_day_up_to_max() {
+        TrackingPollPolicy p = policy(0);
+
+        assertThat(minutesUntil(p.nextPollAt(shipment(2, NOW.minusHours(23)), NOW))).isEqualTo(120);
+        assertThat(minutesUntil(p.nextPollAt(shipment(2, NOW.minusHours(24)), NOW))).isEqualTo(240);
+        assertThat(minutesUntil(p.nextPollAt(shipment(2, NOW.minusHours(48)), NOW))).isEqualTo(480);
+        assertThat(minutesUntil(p.nextPollAt(shipment(2, NOW.minusDays(30)), NOW))).isEqualTo(720);
+    }
+
+    @Test
+    void courier_factor_scales_interval_and_invalid_specs_are_ignored() {
+        TrackingPollPolicy p = policy(0, "04:0.5", "05 : 2", "bad", "06:x");
+
+        assertThat(minutesUntil(p.nextPollAt(shipment(1, NOW), NOW))).isEqualTo(90);
+        Shipment other = shipment(1, NOW);
+        other.setCourierCode("05");
+        assertThat(minutesUntil(p.nextPollAt(other, NOW))).isEqualTo(360);
+        other.setCourierCode("06");
+        assertThat(minutesUntil(p.nextPollAt(other, NOW))).isEqualTo(180);
+    }
+
+    @Test
+    void interval_is_at_least_one_minute() {
+        TrackingPollPolicy p = policy(0, "04:0.001");
+
+        assertThat(p.nextPollAt(shipment(5, NOW), NOW)).isEqualTo(NOW.plusSeconds(60));
+    }
+
+    @Test
+    void jitter_stays_within_percent() {
+        TrackingPollPolicy p = policy(10);
+
+        for (int i = 0; i < 200; i++) {
+            long seconds = Duration.between(NOW, p.nextPollAt(shipment(0, NOW), NOW)).toSeconds();
+            assertThat(seconds).isBetween(54L * 60, 66L * 60);
+        }
+    }
+
+    @Test
+    void on_tracked_updates_level_change_time_only_when_level_changes() {
+        TrackingPollPolicy p = policy(0);
+        LocalDateTime earlier = NOW.minusHours(5);
+        Shipment s = shipment(3, earlier);
+
+        p.onTracked(s, 3, NOW);
+        assertThat(s.getLevelChangedAt()).isEqualTo(earlier);
+        assertThat(s.getNextPollAt()).isEqualTo(NOW.plusMinutes(60));
+
+        p.onTracked(s, 4, NOW);
+        assertThat(s.getTrackingLevel()).isEqualTo(4);
+        assertThat(s.getLevelChangedAt()).isEqualTo(NOW);
+        assertThat(s.getNextPollAt()).isEqualTo(NOW.plusMinutes(30));
+    }
+
+    @Test
+    void delivered_shipment_is_no_longer_polled() {
+        TrackingPollPolicy p = policy(0);
+        Shipment s = shipment(5, NOW.minusHours(2));
+        s.setStatus(ShipmentStatus.DELIVERED);
+
+        p.onTracked(s, 6, NOW);
+
+        assertThat(s.getTrackingLevel()).isEqualTo(6);
+        assertThat(s.getNextPollAt()).isNull();
+    }
+
+    @Test
+    void consecutive_errors_back_off_exponentially_up_to_the_ceiling() {
+        TrackingPollPolicy p = policy(0);
+        ReflectionTestUtils.setField(p, "maxErrors", 20);
+        Shipment s = shipment(2, NOW);
+
+        long[] expected = {15, 30, 60, 120, 240, 480, 720, 720};
+        for (long minutes : expected) {
+            p.afterError(s, NOW);
+            assertThat(s.getNextPollAt()).isEqualTo(NOW.plusMinutes(minutes));
+        }
+        assertThat(s.getTrackingErrors()).isEqualTo(expected.length);
+        assertThat(s.getTrackingLevel()).isEqualTo(2);
+    }
+
+    @Test
+    void shipment_is_parked_after_max_errors_and_resumes_on_success() {
+        TrackingPollPolicy p = policy(0);
+        Shipment s = shipment(2, NOW);
+
+        for (int i = 0; i < 4; i++) p.afterError(s, NOW);
+        assertThat(s.getNextPollAt()).isNotNull();
+        p.afterError(s, NOW);
+        assertThat(s.getTrackingErrors()).isEqualTo(5);
+        assertThat(s.getNextPollAt()).isNull();
+
+        p.onTracked(s, 3, NOW);
+        assertThat(s.getTrackingErrors()).isZero();
+        assertThat(s.getNextPollAt()).isNotNull();
+    }
+}
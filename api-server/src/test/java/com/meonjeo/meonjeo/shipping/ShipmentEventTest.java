@@ -0,0 +1,43 @@
+package com.meonjeo.meonjeo.shipping;
+
+import com.meonjeo.meonjeo.common.HashUtil;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShipmentEventTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2025, 6, 2, 14, 30);
+
+    @Test
+    void hash_covers_order_courier_tracking_status_and_raw_occurred_at() {
+        assertThat(ShipmentEvent.contentHash(7L, "04", "123456789012", "IN_TRANSIT", "간선상차", AT))
+                .isEqualTo(HashUtil.sha256Hex("1:7;2:04;12:123456789012;10:IN_TRANSIT;4:간선상차;16:2025-06-02T14:30;"));
+    }
+
+    @Test
+    void same_tracking_no_is_a_different_event_per_courier_and_order() {
+        String h = ShipmentEvent.contentHash(7L, "04", "123456789012", "IN_TRANSIT", "간선상차", AT);
+
+        assertThat(ShipmentEvent.contentHash(7L, "05", "123456789012", "IN_TRANSIT", "간선상차", AT)).isNotEqualTo(h);
+        assertThat(ShipmentEvent.contentHash(8L, "04", "123456789012", "IN_TRANSIT", "간선상차", AT)).isNotEqualTo(h);
+    }
+
+    @Test
+    void missing_occurred_at_is_hashed_as_absent_so_redelivery_dedupes() {
+        String first = ShipmentEvent.contentHash(7L, "04", "123456789012", "DELIVERED", "배달완료", null);
+
+        assertThat(first).isEqualTo(HashUtil.sha256Hex("1:7;2:04;12:123456789012;9:DELIVERED;4:배달완료;-;"));
+        assertThat(ShipmentEvent.contentHash(7L, "04", "123456789012", "DELIVERED", "배달완료", null)).isEqualTo(first);
+    }
+
+    @Test
+    void occurred_at_precision_does_not_split_the_same_scan() {
+        assertThat(ShipmentEvent.contentHash(7L, "04", "1", "IN_TRANSIT", null, AT))
+                .isEqualTo(ShipmentEvent.contentHash(7L, "04", "1", "IN_TRANSIT", null, AT.withSecond(0).withNano(0)));
+        assertThat(ShipmentEvent.contentHash(7L, "04", "1", "IN_TRANSIT", null, AT))
+                .isNotEqualTo(ShipmentEvent.contentHash(7L, "04", "1", "IN_TRANSIT", null, AT.plusSeconds(1)));
+    }
+}